@@ -0,0 +1,115 @@
+package com.revature.stocks.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.revature.stocks.analytics.AnalyticsKernels;
+
+/**
+ * AnalyticsKernelsBenchmark Class
+ * Scalar vs SIMD bulk analytics kernels over 20 years x 50 symbols of synthetic daily prices.
+ * Build with: mvn -P simd,benchmark package
+ * Run with:   java --add-modules jdk.incubator.vector -jar target/benchmarks.jar AnalyticsKernels
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class AnalyticsKernelsBenchmark {
+
+    private static final int SYMBOLS = 50;
+    private static final int DAYS = 20 * 252;
+
+    @Param({"scalar", "simd"})
+    public String kernel;
+
+    private AnalyticsKernels kernels;
+    private double[][] open;
+    private double[][] high;
+    private double[][] low;
+    private double[][] close;
+    private double[][] volume;
+    private double[][] turnover;
+    private double[] out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        kernels = "scalar".equals(kernel) ? AnalyticsKernels.scalar() : AnalyticsKernels.getInstance();
+        if (!"scalar".equals(kernel) && "scalar".equals(kernels.name())) {
+            throw new IllegalStateException("SIMD kernels not available; build with -P simd and run with "
+                    + "--add-modules jdk.incubator.vector");
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        open = new double[SYMBOLS][DAYS];
+        high = new double[SYMBOLS][DAYS];
+        low = new double[SYMBOLS][DAYS];
+        close = new double[SYMBOLS][DAYS];
+        volume = new double[SYMBOLS][DAYS];
+        turnover = new double[SYMBOLS][DAYS];
+        out = new double[DAYS];
+
+        for (int s = 0; s < SYMBOLS; s++) {
+            double price = 100 + random.nextDouble() * 900;
+            for (int d = 0; d < DAYS; d++) {
+                double o = price * (1 + (random.nextDouble() - 0.5) * 0.01);
+                double c = o * (1 + (random.nextDouble() - 0.5) * 0.04);
+                open[s][d] = o;
+                close[s][d] = c;
+                high[s][d] = Math.max(o, c) * (1 + random.nextDouble() * 0.01);
+                low[s][d] = Math.min(o, c) * (1 - random.nextDouble() * 0.01);
+                volume[s][d] = random.nextInt(10) == 0 ? 0 : 1_000 + random.nextInt(1_000_000);
+                turnover[s][d] = volume[s][d] * (o + c) / 2;
+                price = c;
+            }
+        }
+    }
+
+    @Benchmark
+    public void dailyVolatility(Blackhole blackhole) {
+        for (int s = 0; s < SYMBOLS; s++) {
+            kernels.dailyVolatility(high[s], low[s], open[s], out, DAYS);
+            blackhole.consume(out);
+        }
+    }
+
+    @Benchmark
+    public void dailyPriceChange(Blackhole blackhole) {
+        for (int s = 0; s < SYMBOLS; s++) {
+            kernels.dailyPriceChange(close[s], open[s], out, DAYS);
+            blackhole.consume(out);
+        }
+    }
+
+    @Benchmark
+    public void turnoverRatio(Blackhole blackhole) {
+        for (int s = 0; s < SYMBOLS; s++) {
+            kernels.turnoverRatio(turnover[s], volume[s], out, DAYS);
+            blackhole.consume(out);
+        }
+    }
+
+    @Benchmark
+    public void rollingSum30(Blackhole blackhole) {
+        for (int s = 0; s < SYMBOLS; s++) {
+            kernels.rollingSum(close[s], 30, out, DAYS);
+            blackhole.consume(out);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.revature.stocks.benchmarks;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.revature.stocks.analytics.backtest.BacktestEngine;
+import com.revature.stocks.analytics.backtest.BacktestResult;
+import com.revature.stocks.analytics.backtest.StrategySpec;
+import com.revature.stocks.model.PriceSeries;
+
+/**
+ * BacktestBenchmark Class
+ * Simulations per second of the parallel parameter sweep: 50 symbols x 20 years of synthetic
+ * daily bars x 100 parameter combinations per strategy (5,000 simulations per invocation).
+ * Build with: mvn -P benchmark package
+ * Run with:   java -jar target/benchmarks.jar Backtest
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BacktestBenchmark {
+
+    private static final int SYMBOLS = 50;
+    private static final int DAYS = 20 * 252;
+    private static final int SIMULATIONS = SYMBOLS * 100;
+
+    private List<PriceSeries> series;
+    private List<StrategySpec> smaGrid;
+    private List<StrategySpec> breakoutGrid;
+    private BacktestEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        series = new ArrayList<>();
+        LocalDate start = LocalDate.of(2004, 1, 1);
+        for (int s = 0; s < SYMBOLS; s++) {
+            PriceSeries prices = new PriceSeries("SYM" + s, DAYS);
+            double close = 100 + random.nextDouble() * 900;
+            for (int d = 0; d < DAYS; d++) {
+                double open = close * (1 + (random.nextDouble() - 0.5) * 0.01);
+                double next = open * (1 + (random.nextDouble() - 0.5) * 0.04);
+                double high = Math.max(open, next) * (1 + random.nextDouble() * 0.01);
+                double low = Math.min(open, next) * (1 - random.nextDouble() * 0.01);
+                prices.append(Date.valueOf(start.plusDays(d)), open, high, low, next, close, 1_000_000, 0);
+                close = next;
+            }
+            series.add(prices);
+        }
+
+        // 10 x 10 grids, all combinations valid
+        smaGrid = StrategySpec.smaCrossoverGrid(new int[]{2, 4, 6, 8, 10, 12, 14, 16, 18, 19},
+                                                new int[]{20, 40, 60, 80, 100, 120, 140, 160, 180, 200});
+        breakoutGrid = StrategySpec.volatilityBreakoutGrid(new int[]{5, 8, 10, 12, 14, 16, 20, 25, 30, 40},
+                                                           new double[]{0.5, 0.75, 1.0, 1.25, 1.5, 1.75, 2.0, 2.5, 3.0, 4.0});
+        engine = new BacktestEngine();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIMULATIONS)
+    public List<BacktestResult> smaCrossoverSweep() {
+        return engine.sweep(series, smaGrid);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIMULATIONS)
+    public List<BacktestResult> volatilityBreakoutSweep() {
+        return engine.sweep(series, breakoutGrid);
+    }
+}
@@ -5,6 +5,8 @@ import java.util.logging.Logger;
 
 import com.revature.stocks.controllers.AnalyticsController;
 import com.revature.stocks.controllers.StockController;
+import com.revature.stocks.services.CacheSnapshotService;
+import com.revature.stocks.services.StockService;
 
 public class StocksApplication {
 
@@ -14,6 +16,7 @@ public class StocksApplication {
     public static void main(String[] args) {
         StocksApplication app = new StocksApplication();
         app.displayWelcomeMessage();
+        app.warmUpCaches();
         app.showMainMenu();
     }
 
@@ -25,6 +28,25 @@ public class StocksApplication {
         System.out.println();
     }
 
+    /**
+     * Restore the caches from the last snapshot when it still matches the database, otherwise
+     * load the latest price board up front so the first lookups do not pay for it; then keep
+     * the snapshot current
+     */
+    private void warmUpCaches() {
+        try {
+            CacheSnapshotService snapshotService = new CacheSnapshotService();
+            snapshotService.loadSnapshot();
+            snapshotService.scheduleSnapshots();
+
+            if (!new StockService().loadLatestPriceBoard()) {
+                logger.warning("Latest price board not loaded; it will be retried on first use");
+            }
+        } catch (Exception e) {
+            logger.warning("Error warming up caches: " + e.getMessage());
+        }
+    }
+
     private void showMainMenu() {
         boolean exit = false;
 
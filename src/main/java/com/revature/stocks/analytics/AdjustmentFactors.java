@@ -0,0 +1,106 @@
+package com.revature.stocks.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.revature.stocks.model.CorporateAction;
+import com.revature.stocks.model.PriceSeries;
+
+/**
+ * AdjustmentFactors Class
+ * Cumulative backward adjustment factors of one symbol. The factor for a trade date is the
+ * product of the price factors of every corporate action with a later ex-date, so the most
+ * recent prices are never rescaled.
+ */
+public class AdjustmentFactors {
+
+    public static final AdjustmentFactors NONE = new AdjustmentFactors(new int[0], new double[0]);
+
+    private final int[] exDays;
+    private final double[] cumulative;
+
+    private AdjustmentFactors(int[] exDays, double[] cumulative) {
+        this.exDays = exDays;
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * Build factors from corporate actions in any order
+     */
+    public static AdjustmentFactors of(List<CorporateAction> actions) {
+        List<CorporateAction> sorted = new ArrayList<>();
+        for (CorporateAction action : actions) {
+            if (action.getPriceFactor() != null && action.getPriceFactor().signum() > 0) {
+                sorted.add(action);
+            }
+        }
+        if (sorted.isEmpty()) {
+            return NONE;
+        }
+        sorted.sort(Comparator.comparing(CorporateAction::getExDate));
+
+        int n = sorted.size();
+        int[] exDays = new int[n];
+        double[] cumulative = new double[n];
+        for (int k = 0; k < n; k++) {
+            exDays[k] = (int) sorted.get(k).getExDate().toLocalDate().toEpochDay();
+        }
+        double product = 1.0;
+        for (int k = n - 1; k >= 0; k--) {
+            product *= sorted.get(k).getPriceFactor().doubleValue();
+            cumulative[k] = product;
+        }
+        return new AdjustmentFactors(exDays, cumulative);
+    }
+
+    public boolean isIdentity() {
+        return exDays.length == 0;
+    }
+
+    /**
+     * Price multiplier for a trade date given as an epoch day
+     */
+    public double factorFor(int epochDay) {
+        // First action whose ex-date is after the trade date
+        int low = 0;
+        int high = exDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (exDays[mid] <= epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int k = low;
+        return k == exDays.length ? 1.0 : cumulative[k];
+    }
+
+    /**
+     * Adjusted copy of a series: prices scaled by the factor, volumes divided by it,
+     * turnover unchanged. The input series is not modified.
+     */
+    public PriceSeries apply(PriceSeries raw) {
+        return apply(raw, raw.getSymbol());
+    }
+
+    /**
+     * Adjusted copy of a series under a different symbol (used when folding aliases)
+     */
+    public PriceSeries apply(PriceSeries raw, String symbol) {
+        PriceSeries adjusted = new PriceSeries(symbol, raw.size());
+        for (int i = 0; i < raw.size(); i++) {
+            double factor = factorFor(raw.getTradeDay(i));
+            adjusted.append(raw.getTradeDate(i),
+                            raw.getOpen(i) * factor,
+                            raw.getHigh(i) * factor,
+                            raw.getLow(i) * factor,
+                            raw.getClose(i) * factor,
+                            raw.getPrevClose(i) * factor,
+                            raw.getVolume(i) / factor,
+                            raw.getTurnover(i));
+        }
+        return adjusted;
+    }
+}
@@ -0,0 +1,50 @@
+package com.revature.stocks.analytics;
+
+/**
+ * AnalyticsKernels Interface
+ * Bulk element-wise analytics math over primitive price columns.
+ * The scalar implementation is always available; a jdk.incubator.vector
+ * implementation is used instead when it was compiled in (the "simd" Maven
+ * profile) and the module is present at runtime (--add-modules jdk.incubator.vector).
+ */
+public interface AnalyticsKernels {
+
+    /**
+     * out[i] = (high - low) / open * 100, or 0 when open is not positive
+     */
+    void dailyVolatility(double[] high, double[] low, double[] open, double[] out, int length);
+
+    /**
+     * out[i] = (close - open) / open * 100, or 0 when open is not positive
+     */
+    void dailyPriceChange(double[] close, double[] open, double[] out, int length);
+
+    /**
+     * out[i] = turnover / volume, or NaN when volume is not positive
+     */
+    void turnoverRatio(double[] turnover, double[] volume, double[] out, int length);
+
+    /**
+     * out[i] = sum of the last min(window, i + 1) values ending at i
+     */
+    void rollingSum(double[] values, int window, double[] out, int length);
+
+    /**
+     * Short implementation name for logs and benchmarks
+     */
+    String name();
+
+    /**
+     * Best implementation available in this JVM
+     */
+    static AnalyticsKernels getInstance() {
+        return KernelLoader.INSTANCE;
+    }
+
+    /**
+     * Always the scalar implementation, e.g. as a benchmark baseline
+     */
+    static AnalyticsKernels scalar() {
+        return KernelLoader.SCALAR;
+    }
+}
@@ -0,0 +1,192 @@
+package com.revature.stocks.analytics;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.revature.stocks.model.DailyPrice;
+import com.revature.stocks.model.PriceAnomaly;
+import com.revature.stocks.model.PriceSeries;
+
+/**
+ * AnomalyDetector Class
+ * Single-pass detector for one symbol with constant state. Each day is scored against
+ * exponentially weighted baselines built from the days before it, then folded in:
+ * - volume spike: z-score of log(volume) against its EWMA mean and variance
+ * - price gap: log(open / prev close) divided by the EWMA volatility of close-to-close returns
+ * - extreme range: z-score of log(high / low) against its EWMA mean and variance
+ * Nothing is flagged until the warm-up days have been seen; days at or before the last
+ * seen date are ignored.
+ */
+public class AnomalyDetector {
+
+    public static final int DEFAULT_SPAN = 20;
+    public static final int DEFAULT_WARMUP = 20;
+    public static final double DEFAULT_VOLUME_THRESHOLD = 3.0;
+    public static final double DEFAULT_GAP_THRESHOLD = 4.0;
+    public static final double DEFAULT_RANGE_THRESHOLD = 4.0;
+
+    private final String symbol;
+    private final double alpha;
+    private final int warmup;
+    private final double volumeThreshold;
+    private final double gapThreshold;
+    private final double rangeThreshold;
+
+    private final EwmaStat logVolume = new EwmaStat();
+    private final EwmaStat logRange = new EwmaStat();
+    private final EwmaStat squaredReturn = new EwmaStat();
+    private double lastClose = Double.NaN;
+    private int lastDay = Integer.MIN_VALUE;
+
+    public AnomalyDetector(String symbol) {
+        this(symbol, DEFAULT_SPAN, DEFAULT_WARMUP,
+             DEFAULT_VOLUME_THRESHOLD, DEFAULT_GAP_THRESHOLD, DEFAULT_RANGE_THRESHOLD);
+    }
+
+    public AnomalyDetector(String symbol, int span, int warmup,
+                           double volumeThreshold, double gapThreshold, double rangeThreshold) {
+        if (span <= 0 || warmup < 2) {
+            throw new IllegalArgumentException("Span must be positive and warm-up at least 2");
+        }
+        this.symbol = symbol;
+        this.alpha = 2.0 / (span + 1);
+        this.warmup = warmup;
+        this.volumeThreshold = volumeThreshold;
+        this.gapThreshold = gapThreshold;
+        this.rangeThreshold = rangeThreshold;
+    }
+
+    /**
+     * Run a fresh detector over a whole series, oldest first
+     */
+    public static List<PriceAnomaly> scan(PriceSeries series) {
+        AnomalyDetector detector = new AnomalyDetector(series.getSymbol());
+        List<PriceAnomaly> anomalies = new ArrayList<>();
+        for (int i = 0; i < series.size(); i++) {
+            anomalies.addAll(detector.update(series.getTradeDate(i), series.getOpen(i), series.getHigh(i),
+                                             series.getLow(i), series.getClose(i), series.getPrevClose(i),
+                                             series.getVolume(i)));
+        }
+        return anomalies;
+    }
+
+    public List<PriceAnomaly> update(DailyPrice price) {
+        return update(price.getTradeDate(), toDouble(price.getOpenPrice()), toDouble(price.getHighPrice()),
+                      toDouble(price.getLowPrice()), toDouble(price.getClosePrice()),
+                      toDouble(price.getPrevClose()),
+                      price.getVolume() != null ? price.getVolume() : Double.NaN);
+    }
+
+    /**
+     * Score one day and fold it into the baselines
+     * @param prevClose the exchange's previous close; when missing, the last close seen is used
+     * @return anomalies flagged for this day (usually none)
+     */
+    public List<PriceAnomaly> update(Date tradeDate, double open, double high, double low, double close,
+                                     double prevClose, double volume) {
+        int day = (int) tradeDate.toLocalDate().toEpochDay();
+        if (day <= lastDay) {
+            return Collections.emptyList();
+        }
+        lastDay = day;
+
+        List<PriceAnomaly> anomalies = Collections.emptyList();
+        double reference = prevClose > 0 ? prevClose : lastClose;
+
+        if (volume > 0) {
+            double x = Math.log(volume);
+            if (logVolume.count >= warmup) {
+                double z = logVolume.zScore(x);
+                if (z >= volumeThreshold) {
+                    anomalies = add(anomalies, new PriceAnomaly(symbol, tradeDate, PriceAnomaly.TYPE_VOLUME_SPIKE,
+                                                                volume, Math.exp(logVolume.mean), z));
+                }
+            }
+            logVolume.update(x, alpha);
+        }
+
+        if (open > 0 && reference > 0 && squaredReturn.count >= warmup) {
+            double volatility = Math.sqrt(squaredReturn.mean);
+            if (volatility > 0) {
+                double gap = Math.log(open / reference);
+                double z = gap / volatility;
+                if (Math.abs(z) >= gapThreshold) {
+                    anomalies = add(anomalies, new PriceAnomaly(symbol, tradeDate, PriceAnomaly.TYPE_PRICE_GAP,
+                                                                Math.expm1(gap) * 100, volatility * 100, z));
+                }
+            }
+        }
+
+        if (high > 0 && low > 0 && high >= low) {
+            double x = Math.log(high / low);
+            if (logRange.count >= warmup) {
+                double z = logRange.zScore(x);
+                if (z >= rangeThreshold) {
+                    anomalies = add(anomalies, new PriceAnomaly(symbol, tradeDate, PriceAnomaly.TYPE_EXTREME_RANGE,
+                                                                Math.expm1(x) * 100, Math.expm1(logRange.mean) * 100, z));
+                }
+            }
+            logRange.update(x, alpha);
+        }
+
+        if (close > 0) {
+            if (reference > 0) {
+                double r = Math.log(close / reference);
+                squaredReturn.update(r * r, alpha);
+            }
+            lastClose = close;
+        }
+
+        return anomalies;
+    }
+
+    /**
+     * Whether a day would be scored, i.e. it is after the last day seen
+     */
+    public boolean accepts(Date tradeDate) {
+        return tradeDate.toLocalDate().toEpochDay() > lastDay;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    private static List<PriceAnomaly> add(List<PriceAnomaly> anomalies, PriceAnomaly anomaly) {
+        if (anomalies.isEmpty()) {
+            anomalies = new ArrayList<>(3);
+        }
+        anomalies.add(anomaly);
+        return anomalies;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Exponentially weighted mean and variance; the weight starts at 1/n so early values
+     * are a plain running mean until 1/n drops below alpha
+     */
+    private static final class EwmaStat {
+        int count;
+        double mean;
+        double variance;
+
+        void update(double x, double alpha) {
+            count++;
+            double weight = Math.max(alpha, 1.0 / count);
+            double delta = x - mean;
+            double increment = weight * delta;
+            mean += increment;
+            variance = (1 - weight) * (variance + delta * increment);
+        }
+
+        double zScore(double x) {
+            double sd = Math.sqrt(variance);
+            return sd > 0 ? (x - mean) / sd : 0.0;
+        }
+    }
+}
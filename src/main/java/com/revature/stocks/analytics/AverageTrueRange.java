@@ -0,0 +1,72 @@
+package com.revature.stocks.analytics;
+
+/**
+ * AverageTrueRange Class
+ * Wilder ATR(n): true range seeded with a simple mean of the first n values,
+ * then smoothed as atr = (atr * (n - 1) + tr) / n
+ */
+public final class AverageTrueRange implements Indicator {
+
+    private final int period;
+    private final String name;
+
+    private double prevClose;
+    private int count;
+    private double atr;
+
+    public AverageTrueRange(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("ATR period must be positive: " + period);
+        }
+        this.period = period;
+        this.name = "atr_" + period;
+        reset();
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        if (Double.isNaN(high) || Double.isNaN(low) || Double.isNaN(close)) {
+            return;
+        }
+
+        double trueRange = high - low;
+        if (!Double.isNaN(prevClose)) {
+            trueRange = Math.max(trueRange, Math.max(Math.abs(high - prevClose), Math.abs(low - prevClose)));
+        }
+        prevClose = close;
+        count++;
+
+        if (count <= period) {
+            atr += trueRange / period;
+        } else {
+            atr = (atr * (period - 1) + trueRange) / period;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return count >= period;
+    }
+
+    @Override
+    public int outputCount() {
+        return 1;
+    }
+
+    @Override
+    public String outputName(int index) {
+        return name;
+    }
+
+    @Override
+    public double output(int index) {
+        return isReady() ? atr : Double.NaN;
+    }
+
+    @Override
+    public void reset() {
+        prevClose = Double.NaN;
+        count = 0;
+        atr = 0;
+    }
+}
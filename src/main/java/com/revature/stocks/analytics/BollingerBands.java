@@ -0,0 +1,97 @@
+package com.revature.stocks.analytics;
+
+/**
+ * BollingerBands Class
+ * Middle band is the n-day SMA of closes; upper/lower are k population standard
+ * deviations away. Mean and variance are maintained with a sliding-window Welford
+ * update, so each bar costs O(1) regardless of n (the window itself is n doubles).
+ */
+public final class BollingerBands implements Indicator {
+
+    private static final String[] OUTPUT_NAMES = {"bollinger_upper", "bollinger_middle", "bollinger_lower"};
+
+    private final int period;
+    private final double width;
+    private final double[] window;
+
+    private int count;
+    private int head;
+    private double mean;
+    private double m2;
+
+    public BollingerBands(int period, double width) {
+        if (period <= 1) {
+            throw new IllegalArgumentException("Bollinger period must be greater than 1: " + period);
+        }
+        this.period = period;
+        this.width = width;
+        this.window = new double[period];
+        reset();
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        if (Double.isNaN(close)) {
+            return;
+        }
+        if (count < period) {
+            window[count++] = close;
+            double delta = close - mean;
+            mean += delta / count;
+            m2 += delta * (close - mean);
+            return;
+        }
+
+        double old = window[head];
+        window[head] = close;
+        head = (head + 1) % period;
+
+        double oldMean = mean;
+        mean += (close - old) / period;
+        m2 += (close - old) * (close - mean + old - oldMean);
+        if (m2 < 0) {
+            m2 = 0; // guard against rounding drift on flat windows
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return count >= period;
+    }
+
+    @Override
+    public int outputCount() {
+        return OUTPUT_NAMES.length;
+    }
+
+    @Override
+    public String outputName(int index) {
+        return OUTPUT_NAMES[index];
+    }
+
+    @Override
+    public double output(int index) {
+        if (!isReady()) {
+            return Double.NaN;
+        }
+        double band = width * Math.sqrt(m2 / period);
+        switch (index) {
+            case 0:
+                return mean + band;
+            case 1:
+                return mean;
+            case 2:
+                return mean - band;
+            default:
+                throw new IndexOutOfBoundsException("Bollinger output index: " + index);
+        }
+    }
+
+    @Override
+    public void reset() {
+        count = 0;
+        head = 0;
+        mean = 0;
+        m2 = 0;
+    }
+}
@@ -0,0 +1,121 @@
+package com.revature.stocks.analytics;
+
+import java.util.stream.IntStream;
+
+/**
+ * CorrelationEngine Class
+ * Pairwise return correlation across all symbols of a ReturnMatrix.
+ * Symbols are tiled into blocks and days into chunks so each task works on a few
+ * L1-resident rows at a time; block pairs run in parallel and never share a cell.
+ * The inner loop is branch-free: missing returns are zeroed and masked by validity.
+ */
+public class CorrelationEngine {
+
+    public static final int DEFAULT_MIN_OBSERVATIONS = 20;
+
+    private static final int SYMBOL_BLOCK = 8;
+    private static final int DAY_BLOCK = 1024;
+
+    private final int minObservations;
+
+    public CorrelationEngine() {
+        this(DEFAULT_MIN_OBSERVATIONS);
+    }
+
+    public CorrelationEngine(int minObservations) {
+        this.minObservations = minObservations;
+    }
+
+    public int getMinObservations() {
+        return minObservations;
+    }
+
+    /**
+     * Correlation matrix over every aligned day
+     */
+    public double[][] compute(ReturnMatrix matrix) {
+        return compute(matrix, 0, matrix.dayCount());
+    }
+
+    /**
+     * Correlation matrix over aligned days [fromDay, toDay)
+     */
+    public double[][] compute(ReturnMatrix matrix, int fromDay, int toDay) {
+        PairSums sums = new PairSums(matrix.symbolCount());
+        accumulate(matrix, fromDay, toDay, sums);
+        return sums.toMatrix(minObservations);
+    }
+
+    /**
+     * Add the co-moment sums of days [fromDay, toDay) into the given accumulator
+     */
+    void accumulate(ReturnMatrix matrix, int fromDay, int toDay, PairSums sums) {
+        int symbols = matrix.symbolCount();
+        int days = Math.max(0, toDay - fromDay);
+        if (symbols == 0 || days == 0) {
+            return;
+        }
+
+        double[][] values = new double[symbols][days];
+        double[][] valid = new double[symbols][days];
+        for (int s = 0; s < symbols; s++) {
+            double[] returns = matrix.returnsOf(s);
+            for (int t = 0; t < days; t++) {
+                double r = returns[fromDay + t];
+                if (!Double.isNaN(r)) {
+                    values[s][t] = r;
+                    valid[s][t] = 1.0;
+                }
+            }
+        }
+
+        int blocks = (symbols + SYMBOL_BLOCK - 1) / SYMBOL_BLOCK;
+        int tasks = blocks * (blocks + 1) / 2;
+        int[] taskRow = new int[tasks];
+        int[] taskColumn = new int[tasks];
+        int task = 0;
+        for (int bi = 0; bi < blocks; bi++) {
+            for (int bj = bi; bj < blocks; bj++) {
+                taskRow[task] = bi;
+                taskColumn[task] = bj;
+                task++;
+            }
+        }
+
+        IntStream.range(0, tasks).parallel().forEach(t ->
+            accumulateBlock(values, valid, days, taskRow[t] * SYMBOL_BLOCK, taskColumn[t] * SYMBOL_BLOCK, sums));
+    }
+
+    private void accumulateBlock(double[][] values, double[][] valid, int days,
+                                 int rowStart, int columnStart, PairSums sums) {
+        int symbols = values.length;
+        int rowEnd = Math.min(symbols, rowStart + SYMBOL_BLOCK);
+        int columnEnd = Math.min(symbols, columnStart + SYMBOL_BLOCK);
+
+        for (int t0 = 0; t0 < days; t0 += DAY_BLOCK) {
+            int t1 = Math.min(days, t0 + DAY_BLOCK);
+            for (int i = rowStart; i < rowEnd; i++) {
+                double[] xi = values[i];
+                double[] vi = valid[i];
+                for (int j = Math.max(i, columnStart); j < columnEnd; j++) {
+                    double[] xj = values[j];
+                    double[] vj = valid[j];
+                    double n = 0, sx = 0, sy = 0, sxx = 0, syy = 0, sxy = 0;
+                    for (int t = t0; t < t1; t++) {
+                        double a = xi[t];
+                        double b = xj[t];
+                        double wa = vi[t];
+                        double wb = vj[t];
+                        n += wa * wb;
+                        sx += a * wb;
+                        sy += b * wa;
+                        sxx += a * a * wb;
+                        syy += b * b * wa;
+                        sxy += a * b;
+                    }
+                    sums.add(i, j, n, sx, sy, sxx, syy, sxy);
+                }
+            }
+        }
+    }
+}
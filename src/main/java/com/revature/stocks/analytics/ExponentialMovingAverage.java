@@ -0,0 +1,83 @@
+package com.revature.stocks.analytics;
+
+/**
+ * ExponentialMovingAverage Class
+ * EMA(n) of closing prices, seeded with the simple average of the first n closes
+ */
+public final class ExponentialMovingAverage implements Indicator {
+
+    private final int period;
+    private final double alpha;
+    private final String name;
+
+    private int count;
+    private double seedSum;
+    private double value;
+
+    public ExponentialMovingAverage(int period) {
+        this(period, "ema_" + period);
+    }
+
+    public ExponentialMovingAverage(int period, String name) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("EMA period must be positive: " + period);
+        }
+        this.period = period;
+        this.alpha = 2.0 / (period + 1);
+        this.name = name;
+        reset();
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        add(close);
+    }
+
+    /**
+     * Feed a raw value; used when the EMA smooths another indicator's output
+     */
+    public void add(double x) {
+        if (Double.isNaN(x)) {
+            return;
+        }
+        count++;
+        if (count < period) {
+            seedSum += x;
+        } else if (count == period) {
+            value = (seedSum + x) / period;
+        } else {
+            value += alpha * (x - value);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return count >= period;
+    }
+
+    public double value() {
+        return isReady() ? value : Double.NaN;
+    }
+
+    @Override
+    public int outputCount() {
+        return 1;
+    }
+
+    @Override
+    public String outputName(int index) {
+        return name;
+    }
+
+    @Override
+    public double output(int index) {
+        return value();
+    }
+
+    @Override
+    public void reset() {
+        count = 0;
+        seedSum = 0;
+        value = Double.NaN;
+    }
+}
@@ -0,0 +1,39 @@
+package com.revature.stocks.analytics;
+
+/**
+ * Indicator Interface
+ * A streaming technical indicator fed one bar at a time in ascending date order.
+ * Implementations keep constant-size state so several indicators can share one pass.
+ */
+public interface Indicator {
+
+    /**
+     * Feed the next bar
+     */
+    void update(double high, double low, double close);
+
+    /**
+     * True once enough bars have been seen for the outputs to be meaningful
+     */
+    boolean isReady();
+
+    /**
+     * Number of values this indicator produces per bar
+     */
+    int outputCount();
+
+    /**
+     * Column name of an output, e.g. "ema_12"
+     */
+    String outputName(int index);
+
+    /**
+     * Current value of an output, NaN while warming up
+     */
+    double output(int index);
+
+    /**
+     * Clear all state so the indicator can be reused for another series
+     */
+    void reset();
+}
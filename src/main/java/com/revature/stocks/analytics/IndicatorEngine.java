@@ -0,0 +1,99 @@
+package com.revature.stocks.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.revature.stocks.model.PriceSeries;
+
+/**
+ * IndicatorEngine Class
+ * Evaluates any number of streaming indicators in a single traversal of a price series
+ */
+public final class IndicatorEngine {
+
+    private final List<Indicator> indicators;
+    private final List<String> columnNames;
+
+    public IndicatorEngine(List<Indicator> indicators) {
+        this.indicators = new ArrayList<>(indicators);
+        this.columnNames = new ArrayList<>();
+        for (Indicator indicator : this.indicators) {
+            for (int k = 0; k < indicator.outputCount(); k++) {
+                columnNames.add(indicator.outputName(k));
+            }
+        }
+    }
+
+    /**
+     * EMA(12), EMA(26), RSI(14), MACD(12, 26, 9), Bollinger(20, 2) and ATR(14)
+     */
+    public static IndicatorEngine standard() {
+        return new IndicatorEngine(Arrays.asList(
+            new ExponentialMovingAverage(12),
+            new ExponentialMovingAverage(26),
+            new RelativeStrengthIndex(14),
+            new MovingAverageConvergenceDivergence(12, 26, 9),
+            new BollingerBands(20, 2.0),
+            new AverageTrueRange(14)
+        ));
+    }
+
+    /**
+     * Reset every indicator and compute all output columns in one pass
+     */
+    public IndicatorResult run(PriceSeries series) {
+        reset();
+
+        int size = series.size();
+        double[][] columns = new double[columnNames.size()][size];
+        double[] highs = series.highPrices();
+        double[] lows = series.lowPrices();
+        double[] closes = series.closePrices();
+
+        for (int i = 0; i < size; i++) {
+            int column = 0;
+            for (Indicator indicator : indicators) {
+                indicator.update(highs[i], lows[i], closes[i]);
+                for (int k = 0; k < indicator.outputCount(); k++) {
+                    columns[column++][i] = indicator.output(k);
+                }
+            }
+        }
+
+        return new IndicatorResult(series, columnNames, columns);
+    }
+
+    /**
+     * Feed a single new bar to every indicator (streaming use)
+     */
+    public void onBar(double high, double low, double close) {
+        for (Indicator indicator : indicators) {
+            indicator.update(high, low, close);
+        }
+    }
+
+    /**
+     * Current value of every output column, in column order
+     */
+    public double[] currentValues() {
+        double[] values = new double[columnNames.size()];
+        int column = 0;
+        for (Indicator indicator : indicators) {
+            for (int k = 0; k < indicator.outputCount(); k++) {
+                values[column++] = indicator.output(k);
+            }
+        }
+        return values;
+    }
+
+    public void reset() {
+        for (Indicator indicator : indicators) {
+            indicator.reset();
+        }
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+}
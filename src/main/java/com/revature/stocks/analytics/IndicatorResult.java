@@ -0,0 +1,47 @@
+package com.revature.stocks.analytics;
+
+import java.util.List;
+
+import com.revature.stocks.model.PriceSeries;
+
+/**
+ * IndicatorResult Class
+ * Column-oriented output of an IndicatorEngine run, aligned with the input series
+ */
+public class IndicatorResult {
+
+    private final PriceSeries series;
+    private final List<String> columnNames;
+    private final double[][] columns;
+
+    public IndicatorResult(PriceSeries series, List<String> columnNames, double[][] columns) {
+        this.series = series;
+        this.columnNames = columnNames;
+        this.columns = columns;
+    }
+
+    public PriceSeries getSeries() {
+        return series;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public int size() {
+        return series.size();
+    }
+
+    /**
+     * Values of a named column, or null if the engine did not produce it
+     */
+    public double[] column(String name) {
+        int index = columnNames.indexOf(name);
+        return index >= 0 ? columns[index] : null;
+    }
+
+    public double value(String name, int row) {
+        double[] column = column(name);
+        return column != null ? column[row] : Double.NaN;
+    }
+}
@@ -0,0 +1,44 @@
+package com.revature.stocks.analytics;
+
+import java.util.logging.Logger;
+
+/**
+ * KernelLoader Class
+ * Picks the vectorized kernels when they are on the classpath and the incubator
+ * module is loaded, otherwise falls back to the scalar kernels
+ */
+final class KernelLoader {
+
+    private static final Logger logger = Logger.getLogger(KernelLoader.class.getName());
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+    static final String VECTOR_KERNELS_CLASS = "com.revature.stocks.analytics.VectorAnalyticsKernels";
+    static final String DISABLE_PROPERTY = "revstox.simd.disabled";
+
+    static final AnalyticsKernels SCALAR = new ScalarAnalyticsKernels();
+    static final AnalyticsKernels INSTANCE = load();
+
+    private KernelLoader() {
+    }
+
+    private static AnalyticsKernels load() {
+        if (Boolean.getBoolean(DISABLE_PROPERTY)) {
+            logger.info("SIMD kernels disabled by " + DISABLE_PROPERTY + "; using scalar kernels");
+            return SCALAR;
+        }
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            logger.info(VECTOR_MODULE + " not loaded; using scalar kernels");
+            return SCALAR;
+        }
+
+        try {
+            Class<?> kernelsClass = Class.forName(VECTOR_KERNELS_CLASS);
+            AnalyticsKernels kernels = (AnalyticsKernels) kernelsClass.getDeclaredConstructor().newInstance();
+            logger.info("Using " + kernels.name() + " analytics kernels");
+            return kernels;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.info("Vector kernels unavailable (" + e + "); using scalar kernels");
+            return SCALAR;
+        }
+    }
+}
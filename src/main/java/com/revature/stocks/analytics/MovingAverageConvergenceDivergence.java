@@ -0,0 +1,73 @@
+package com.revature.stocks.analytics;
+
+/**
+ * MovingAverageConvergenceDivergence Class
+ * MACD line (fast EMA - slow EMA), its signal EMA and the histogram
+ */
+public final class MovingAverageConvergenceDivergence implements Indicator {
+
+    private static final String[] OUTPUT_NAMES = {"macd", "macd_signal", "macd_histogram"};
+
+    private final ExponentialMovingAverage fast;
+    private final ExponentialMovingAverage slow;
+    private final ExponentialMovingAverage signal;
+
+    private double macd;
+
+    public MovingAverageConvergenceDivergence(int fastPeriod, int slowPeriod, int signalPeriod) {
+        if (fastPeriod >= slowPeriod) {
+            throw new IllegalArgumentException("MACD fast period must be shorter than slow period");
+        }
+        this.fast = new ExponentialMovingAverage(fastPeriod);
+        this.slow = new ExponentialMovingAverage(slowPeriod);
+        this.signal = new ExponentialMovingAverage(signalPeriod);
+        reset();
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        fast.add(close);
+        slow.add(close);
+        if (slow.isReady()) {
+            macd = fast.value() - slow.value();
+            signal.add(macd);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return signal.isReady();
+    }
+
+    @Override
+    public int outputCount() {
+        return OUTPUT_NAMES.length;
+    }
+
+    @Override
+    public String outputName(int index) {
+        return OUTPUT_NAMES[index];
+    }
+
+    @Override
+    public double output(int index) {
+        switch (index) {
+            case 0:
+                return macd;
+            case 1:
+                return signal.value();
+            case 2:
+                return signal.isReady() ? macd - signal.value() : Double.NaN;
+            default:
+                throw new IndexOutOfBoundsException("MACD output index: " + index);
+        }
+    }
+
+    @Override
+    public void reset() {
+        fast.reset();
+        slow.reset();
+        signal.reset();
+        macd = Double.NaN;
+    }
+}
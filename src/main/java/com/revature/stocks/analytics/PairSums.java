@@ -0,0 +1,112 @@
+package com.revature.stocks.analytics;
+
+import java.util.Arrays;
+
+/**
+ * PairSums Class
+ * Running co-moment sums for every symbol pair (i <= j), counting only days on which
+ * both symbols have a return. Shared by the full and rolling correlation kernels.
+ */
+class PairSums {
+
+    private final int symbols;
+    private final double[] count;
+    private final double[] sumX;
+    private final double[] sumY;
+    private final double[] sumXX;
+    private final double[] sumYY;
+    private final double[] sumXY;
+
+    PairSums(int symbols) {
+        int cells = symbols * symbols;
+        this.symbols = symbols;
+        this.count = new double[cells];
+        this.sumX = new double[cells];
+        this.sumY = new double[cells];
+        this.sumXX = new double[cells];
+        this.sumYY = new double[cells];
+        this.sumXY = new double[cells];
+    }
+
+    /**
+     * Accumulate partial sums for one pair; callers must own the (i, j) cell exclusively
+     */
+    void add(int i, int j, double n, double sx, double sy, double sxx, double syy, double sxy) {
+        int cell = i * symbols + j;
+        count[cell] += n;
+        sumX[cell] += sx;
+        sumY[cell] += sy;
+        sumXX[cell] += sxx;
+        sumYY[cell] += syy;
+        sumXY[cell] += sxy;
+    }
+
+    /**
+     * Add (sign = 1) or remove (sign = -1) one aligned day for every pair
+     */
+    void addDay(ReturnMatrix matrix, int day, double sign) {
+        for (int i = 0; i < symbols; i++) {
+            double x = matrix.returnsOf(i)[day];
+            if (Double.isNaN(x)) {
+                continue;
+            }
+            for (int j = i; j < symbols; j++) {
+                double y = matrix.returnsOf(j)[day];
+                if (Double.isNaN(y)) {
+                    continue;
+                }
+                add(i, j, sign, sign * x, sign * y, sign * x * x, sign * y * y, sign * x * y);
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(count, 0);
+        Arrays.fill(sumX, 0);
+        Arrays.fill(sumY, 0);
+        Arrays.fill(sumXX, 0);
+        Arrays.fill(sumYY, 0);
+        Arrays.fill(sumXY, 0);
+    }
+
+    /**
+     * Pearson correlation of pair (i, j); NaN with too few joint observations or zero variance
+     */
+    double correlation(int i, int j, int minObservations) {
+        if (i > j) {
+            int swap = i;
+            i = j;
+            j = swap;
+        }
+        int cell = i * symbols + j;
+        double n = Math.rint(count[cell]);
+        if (n < minObservations || n < 2) {
+            return Double.NaN;
+        }
+
+        double varX = n * sumXX[cell] - sumX[cell] * sumX[cell];
+        double varY = n * sumYY[cell] - sumY[cell] * sumY[cell];
+        if (varX <= 0 || varY <= 0) {
+            return Double.NaN;
+        }
+        if (i == j) {
+            return 1.0;
+        }
+
+        double covariance = n * sumXY[cell] - sumX[cell] * sumY[cell];
+        double correlation = covariance / Math.sqrt(varX * varY);
+        return Math.max(-1.0, Math.min(1.0, correlation));
+    }
+
+    double[][] toMatrix(int minObservations) {
+        double[][] matrix = new double[symbols][symbols];
+        for (int i = 0; i < symbols; i++) {
+            for (int j = i; j < symbols; j++) {
+                double value = correlation(i, j, minObservations);
+                matrix[i][j] = value;
+                matrix[j][i] = value;
+            }
+        }
+        return matrix;
+    }
+}
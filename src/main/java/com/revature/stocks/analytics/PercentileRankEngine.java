@@ -0,0 +1,92 @@
+package com.revature.stocks.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.revature.stocks.model.CrossSection;
+import com.revature.stocks.model.PercentileRank;
+
+/**
+ * PercentileRankEngine Class
+ * Cross-sectional percentile ranks with SQL PERCENT_RANK() semantics: (rank - 1) / (n - 1),
+ * where rank is 1 + the number of strictly smaller values (ties share the lowest rank) and
+ * n counts the non-missing values that day. A lone value ranks 0; missing values stay null.
+ * Trade dates are independent, so they are ranked in parallel.
+ */
+public class PercentileRankEngine {
+
+    private static final int SCALE = 6;
+
+    /**
+     * Rank every cross-section, in input order
+     */
+    public List<PercentileRank> rank(List<CrossSection> sections) {
+        return sections.parallelStream()
+                       .map(this::rank)
+                       .flatMap(List::stream)
+                       .collect(Collectors.toList());
+    }
+
+    public List<PercentileRank> rank(CrossSection section) {
+        double[] returnRanks = percentRanks(section.returns());
+        double[] volumeRanks = percentRanks(section.volumes());
+        double[] volatilityRanks = percentRanks(section.volatilities());
+
+        List<PercentileRank> ranks = new ArrayList<>(section.size());
+        for (int i = 0; i < section.size(); i++) {
+            PercentileRank rank = new PercentileRank(section.getSymbol(i), section.getTradeDate());
+            rank.setReturnPercentile(toDecimal(returnRanks[i]));
+            rank.setVolumePercentile(toDecimal(volumeRanks[i]));
+            rank.setVolatilityPercentile(toDecimal(volatilityRanks[i]));
+            ranks.add(rank);
+        }
+        return ranks;
+    }
+
+    /**
+     * PERCENT_RANK of each value among the non-NaN values; NaN where the input is NaN
+     */
+    public static double[] percentRanks(double[] values) {
+        double[] sorted = new double[values.length];
+        int n = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                sorted[n++] = value;
+            }
+        }
+        Arrays.sort(sorted, 0, n);
+
+        double[] ranks = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isNaN(values[i])) {
+                ranks[i] = Double.NaN;
+            } else {
+                ranks[i] = n > 1 ? (double) lowerBound(sorted, n, values[i]) / (n - 1) : 0.0;
+            }
+        }
+        return ranks;
+    }
+
+    // First index whose value is >= key, i.e. the number of strictly smaller values
+    private static int lowerBound(double[] sorted, int n, double key) {
+        int low = 0;
+        int high = n;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static BigDecimal toDecimal(double value) {
+        return Double.isNaN(value) ? null : BigDecimal.valueOf(value).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,196 @@
+package com.revature.stocks.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.revature.stocks.model.DailyPrice;
+import com.revature.stocks.model.PriceBar;
+import com.revature.stocks.model.Resolution;
+
+/**
+ * PricePyramid Class
+ * Daily, weekly, monthly and yearly OHLCV bars of one symbol, built in a single pass over its
+ * daily prices and extended in place as newer days arrive. Open is the first open of the
+ * period, close the last close, high/low the extremes, volume and turnover are summed and
+ * VWAP is re-weighted by volume.
+ */
+public class PricePyramid {
+
+    private final String symbol;
+    private final Map<Resolution, BarBuilder> builders = new EnumMap<>(Resolution.class);
+    private LocalDate lastTradeDate;
+
+    public PricePyramid(String symbol) {
+        this.symbol = symbol;
+        for (Resolution resolution : Resolution.values()) {
+            builders.put(resolution, new BarBuilder(symbol, resolution));
+        }
+    }
+
+    /**
+     * Build the pyramid from daily prices in ascending trade date order
+     */
+    public static PricePyramid build(String symbol, List<DailyPrice> ascendingPrices) {
+        PricePyramid pyramid = new PricePyramid(symbol);
+        for (DailyPrice price : ascendingPrices) {
+            if (!pyramid.append(price)) {
+                throw new IllegalArgumentException("Daily prices must be in ascending trade date order: " +
+                                                   symbol + " " + price.getTradeDate());
+            }
+        }
+        return pyramid;
+    }
+
+    /**
+     * Fold a newer trading day into every resolution. Returns false, leaving the pyramid
+     * unchanged, if the day is not after the last one seen (a revision needs a rebuild).
+     */
+    public synchronized boolean append(DailyPrice price) {
+        LocalDate tradeDate = price.getTradeDate().toLocalDate();
+        if (lastTradeDate != null && !tradeDate.isAfter(lastTradeDate)) {
+            return false;
+        }
+        for (BarBuilder builder : builders.values()) {
+            builder.add(price, tradeDate);
+        }
+        lastTradeDate = tradeDate;
+        return true;
+    }
+
+    /**
+     * All bars of a resolution, oldest first
+     */
+    public List<PriceBar> getBars(Resolution resolution) {
+        return getBars(resolution, null, null);
+    }
+
+    /**
+     * Bars of a resolution that overlap [startDate, endDate], oldest first; null bounds are open
+     */
+    public synchronized List<PriceBar> getBars(Resolution resolution, Date startDate, Date endDate) {
+        List<PriceBar> bars = builders.get(resolution).bars;
+        List<PriceBar> results = new ArrayList<>();
+
+        int from = 0;
+        if (startDate != null) {
+            // First bar whose last trade date reaches the start date
+            int low = 0;
+            int high = bars.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (bars.get(mid).getLastTradeDate().before(startDate)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            from = low;
+        }
+
+        for (int i = from; i < bars.size(); i++) {
+            PriceBar bar = bars.get(i);
+            if (endDate != null && bar.getFirstTradeDate().after(endDate)) {
+                break;
+            }
+            // The newest bar is still being extended; hand out a copy
+            results.add(i == bars.size() - 1 ? copyOf(bar) : bar);
+        }
+        return results;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public synchronized int size(Resolution resolution) {
+        return builders.get(resolution).bars.size();
+    }
+
+    private static PriceBar copyOf(PriceBar bar) {
+        PriceBar copy = new PriceBar(bar.getSymbol(), bar.getResolution(), bar.getPeriodStart());
+        copy.setFirstTradeDate(bar.getFirstTradeDate());
+        copy.setLastTradeDate(bar.getLastTradeDate());
+        copy.setTradingDays(bar.getTradingDays());
+        copy.setOpenPrice(bar.getOpenPrice());
+        copy.setHighPrice(bar.getHighPrice());
+        copy.setLowPrice(bar.getLowPrice());
+        copy.setClosePrice(bar.getClosePrice());
+        copy.setVwap(bar.getVwap());
+        copy.setVolume(bar.getVolume());
+        copy.setTurnover(bar.getTurnover());
+        return copy;
+    }
+
+    /**
+     * Accumulates the open bar of one resolution
+     */
+    private static final class BarBuilder {
+
+        private static final int VWAP_SCALE = 2;
+
+        private final String symbol;
+        private final Resolution resolution;
+        private final List<PriceBar> bars = new ArrayList<>();
+
+        private LocalDate periodStart;
+        private PriceBar current;
+        private BigDecimal vwapNotional;
+        private long vwapVolume;
+
+        BarBuilder(String symbol, Resolution resolution) {
+            this.symbol = symbol;
+            this.resolution = resolution;
+        }
+
+        void add(DailyPrice price, LocalDate tradeDate) {
+            LocalDate start = resolution.periodStart(tradeDate);
+            if (current == null || !start.equals(periodStart)) {
+                periodStart = start;
+                current = new PriceBar(symbol, resolution, Date.valueOf(start));
+                current.setFirstTradeDate(price.getTradeDate());
+                current.setOpenPrice(price.getOpenPrice());
+                vwapNotional = BigDecimal.ZERO;
+                vwapVolume = 0;
+                bars.add(current);
+            }
+
+            current.setLastTradeDate(price.getTradeDate());
+            current.setTradingDays(current.getTradingDays() + 1);
+            current.setClosePrice(price.getClosePrice());
+            current.setHighPrice(max(current.getHighPrice(), price.getHighPrice()));
+            current.setLowPrice(min(current.getLowPrice(), price.getLowPrice()));
+
+            Long volume = price.getVolume();
+            if (volume != null) {
+                current.setVolume(current.getVolume() == null ? volume : current.getVolume() + volume);
+            }
+            if (price.getTurnover() != null) {
+                current.setTurnover(current.getTurnover() == null ? price.getTurnover()
+                                                                  : current.getTurnover().add(price.getTurnover()));
+            }
+            if (price.getVwap() != null && volume != null && volume > 0) {
+                vwapNotional = vwapNotional.add(price.getVwap().multiply(BigDecimal.valueOf(volume)));
+                vwapVolume += volume;
+                current.setVwap(vwapNotional.divide(BigDecimal.valueOf(vwapVolume), VWAP_SCALE, RoundingMode.HALF_UP));
+            }
+        }
+
+        private static BigDecimal max(BigDecimal a, BigDecimal b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return a.max(b);
+        }
+
+        private static BigDecimal min(BigDecimal a, BigDecimal b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return a.min(b);
+        }
+    }
+}
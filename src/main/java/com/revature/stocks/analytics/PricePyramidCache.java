@@ -0,0 +1,55 @@
+package com.revature.stocks.analytics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.revature.stocks.model.DailyPrice;
+
+/**
+ * PricePyramidCache Class
+ * Process-wide cache of per-symbol price pyramids. Pyramids are built on first request and
+ * kept current by feeding every imported daily price through onDailyPrice.
+ */
+public final class PricePyramidCache {
+
+    private static final Logger logger = Logger.getLogger(PricePyramidCache.class.getName());
+    private static final PricePyramidCache instance = new PricePyramidCache();
+
+    private final Map<String, PricePyramid> pyramids = new ConcurrentHashMap<>();
+
+    private PricePyramidCache() {
+    }
+
+    public static PricePyramidCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Cached pyramid for a symbol, building it with the loader on a miss
+     */
+    public PricePyramid get(String symbol, Function<String, PricePyramid> loader) {
+        return pyramids.computeIfAbsent(symbol, loader);
+    }
+
+    /**
+     * Extend a cached pyramid with a newly stored price; out-of-order days (backfills or
+     * revisions) drop the pyramid so the next read rebuilds it
+     */
+    public void onDailyPrice(DailyPrice price) {
+        PricePyramid pyramid = pyramids.get(price.getSymbol());
+        if (pyramid != null && !pyramid.append(price)) {
+            pyramids.remove(price.getSymbol(), pyramid);
+            logger.fine("Dropped price pyramid for " + price.getSymbol() + " after revision on " + price.getTradeDate());
+        }
+    }
+
+    public void invalidate(String symbol) {
+        pyramids.remove(symbol);
+    }
+
+    public void clear() {
+        pyramids.clear();
+    }
+}
@@ -0,0 +1,75 @@
+package com.revature.stocks.analytics;
+
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.revature.stocks.cache.DataVersion;
+
+/**
+ * RankingEngine Class
+ * Process-wide holder of the current RankingIndex. The index is built on first use and
+ * remembers the stock_analytics DataVersion it was loaded at; once a write bumps that
+ * version, the next ranking request rebuilds it.
+ */
+public final class RankingEngine {
+
+    private static final Logger logger = Logger.getLogger(RankingEngine.class.getName());
+    private static final RankingEngine instance = new RankingEngine();
+
+    private volatile RankingIndex index;
+    private volatile long indexVersion = -1;
+
+    private RankingEngine() {
+    }
+
+    public static RankingEngine getInstance() {
+        return instance;
+    }
+
+    /**
+     * Install an index restored from a cache snapshot that was validated against the database,
+     * as if it had just been built; ignored if an index is already loaded
+     */
+    public synchronized void prime(RankingIndex restored) {
+        if (index == null) {
+            index = restored;
+            indexVersion = DataVersion.STOCK_ANALYTICS.current();
+        }
+    }
+
+    /**
+     * Index to save in a cache snapshot; null if none is loaded or it is stale
+     */
+    public synchronized RankingIndex getLoadedIndex() {
+        return indexVersion == DataVersion.STOCK_ANALYTICS.current() ? index : null;
+    }
+
+    /**
+     * Current index, building it with the loader if it is missing or stale; null if the loader fails
+     */
+    public RankingIndex getIndex(Supplier<RankingIndex> loader) {
+        long version = DataVersion.STOCK_ANALYTICS.current();
+        synchronized (this) {
+            if (index != null && indexVersion == version) {
+                return index;
+            }
+        }
+
+        long start = System.nanoTime();
+        RankingIndex loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+        logger.info("Built ranking index for " + loaded.symbolCount() + " symbols in " +
+                   (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        synchronized (this) {
+            // Tagged with the version read before loading, so a racing write leaves it stale
+            if (version >= indexVersion) {
+                index = loaded;
+                indexVersion = version;
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,299 @@
+package com.revature.stocks.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import com.revature.stocks.cache.SnapshotReader;
+import com.revature.stocks.cache.SnapshotWriter;
+
+/**
+ * RankingIndex Class
+ * Per-symbol cumulative sums of the stock_analytics metrics indexed by analysis date, so the
+ * average over [fromDate, latest] is a prefix-sum difference instead of a GROUP BY scan.
+ * Sums are kept as exact unscaled DECIMAL(8,4) values and averages are rounded the way MySQL
+ * rounds AVG() over a scale-4 column (scale 8, half up); NULLs are skipped as AVG() skips them.
+ */
+public class RankingIndex {
+
+    public enum Metric {
+        DAILY_VOLATILITY,
+        DAILY_PRICE_CHANGE,
+        VOLUME_TREND
+    }
+
+    static final int VALUE_SCALE = 4;
+    static final int AVERAGE_SCALE = 8;
+    private static final int METRICS = Metric.values().length;
+
+    private final String[] symbols;
+    private final int[][] days;
+    // [symbol][metric][row + 1], row 0 is the empty prefix
+    private final long[][][] sums;
+    private final int[][][] counts;
+
+    private RankingIndex(String[] symbols, int[][] days, long[][][] sums, int[][][] counts) {
+        this.symbols = symbols;
+        this.days = days;
+        this.sums = sums;
+        this.counts = counts;
+    }
+
+    public int symbolCount() {
+        return symbols.length;
+    }
+
+    /**
+     * Write the index's columns to a cache snapshot section
+     */
+    public void writeTo(SnapshotWriter writer) {
+        writer.putInt(symbols.length);
+        for (int s = 0; s < symbols.length; s++) {
+            writer.putString(symbols[s]);
+            writer.putInt(days[s].length);
+            for (int day : days[s]) {
+                writer.putInt(day);
+            }
+            for (int m = 0; m < METRICS; m++) {
+                for (int row = 0; row <= days[s].length; row++) {
+                    writer.putLong(sums[s][m][row]);
+                    writer.putInt(counts[s][m][row]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read an index written by writeTo
+     */
+    public static RankingIndex readFrom(SnapshotReader reader) {
+        int symbolCount = reader.getInt();
+        String[] symbols = new String[symbolCount];
+        int[][] days = new int[symbolCount][];
+        long[][][] sums = new long[symbolCount][METRICS][];
+        int[][][] counts = new int[symbolCount][METRICS][];
+        for (int s = 0; s < symbolCount; s++) {
+            symbols[s] = reader.getString();
+            days[s] = new int[reader.getInt()];
+            for (int row = 0; row < days[s].length; row++) {
+                days[s][row] = reader.getInt();
+            }
+            for (int m = 0; m < METRICS; m++) {
+                sums[s][m] = new long[days[s].length + 1];
+                counts[s][m] = new int[days[s].length + 1];
+                for (int row = 0; row <= days[s].length; row++) {
+                    sums[s][m][row] = reader.getLong();
+                    counts[s][m][row] = reader.getInt();
+                }
+            }
+        }
+        return new RankingIndex(symbols, days, sums, counts);
+    }
+
+    /**
+     * Averages of every symbol that has at least one row on or after fromDate
+     */
+    public List<SymbolAverages> averagesFrom(Date fromDate) {
+        int fromDay = (int) fromDate.toLocalDate().toEpochDay();
+        List<SymbolAverages> results = new ArrayList<>();
+        for (int s = 0; s < symbols.length; s++) {
+            SymbolAverages averages = averagesOf(s, fromDay);
+            if (averages != null) {
+                results.add(averages);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * All symbols ranked by a metric average, highest first, NULL averages last
+     */
+    public List<SymbolAverages> rank(Date fromDate, Metric metric) {
+        List<SymbolAverages> results = averagesFrom(fromDate);
+        results.sort(descending(metric));
+        return results;
+    }
+
+    /**
+     * The k highest metric averages, highest first, selected with a bounded heap
+     */
+    public List<SymbolAverages> top(Date fromDate, Metric metric, int k) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+        int fromDay = (int) fromDate.toLocalDate().toEpochDay();
+        Comparator<SymbolAverages> order = descending(metric);
+
+        // Heap head is the weakest of the current top k
+        PriorityQueue<SymbolAverages> heap = new PriorityQueue<>(k + 1, order.reversed());
+        for (int s = 0; s < symbols.length; s++) {
+            SymbolAverages averages = averagesOf(s, fromDay);
+            if (averages == null) {
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.add(averages);
+            } else if (order.compare(averages, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(averages);
+            }
+        }
+
+        List<SymbolAverages> results = new ArrayList<>(heap);
+        results.sort(order);
+        return results;
+    }
+
+    /**
+     * Descending by metric average with NULLs last (MySQL ORDER BY ... DESC), ties by symbol
+     */
+    public static Comparator<SymbolAverages> descending(Metric metric) {
+        return Comparator.comparing((SymbolAverages averages) -> averages.get(metric),
+                                    Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()))
+                         .thenComparing(SymbolAverages::getSymbol);
+    }
+
+    private SymbolAverages averagesOf(int symbolIndex, int fromDay) {
+        int[] symbolDays = days[symbolIndex];
+        int from = lowerBound(symbolDays, fromDay);
+        int to = symbolDays.length;
+        if (from == to) {
+            return null;
+        }
+
+        BigDecimal[] averages = new BigDecimal[METRICS];
+        for (int m = 0; m < METRICS; m++) {
+            int count = counts[symbolIndex][m][to] - counts[symbolIndex][m][from];
+            if (count > 0) {
+                long sum = sums[symbolIndex][m][to] - sums[symbolIndex][m][from];
+                averages[m] = BigDecimal.valueOf(sum, VALUE_SCALE)
+                                        .divide(BigDecimal.valueOf(count), AVERAGE_SCALE, RoundingMode.HALF_UP);
+            }
+        }
+        return new SymbolAverages(symbols[symbolIndex], averages);
+    }
+
+    private static int lowerBound(int[] sortedDays, int day) {
+        int index = Arrays.binarySearch(sortedDays, day);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Averages of one symbol over the requested range
+     */
+    public static class SymbolAverages {
+
+        private final String symbol;
+        private final BigDecimal[] averages;
+
+        SymbolAverages(String symbol, BigDecimal[] averages) {
+            this.symbol = symbol;
+            this.averages = averages;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public BigDecimal get(Metric metric) {
+            return averages[metric.ordinal()];
+        }
+    }
+
+    /**
+     * Builds the index from rows grouped by symbol and ordered by analysis date within a symbol
+     */
+    public static class Builder {
+
+        private final List<String> symbols = new ArrayList<>();
+        private final List<int[]> days = new ArrayList<>();
+        private final List<long[][]> sums = new ArrayList<>();
+        private final List<int[][]> counts = new ArrayList<>();
+        private final Set<String> seen = new HashSet<>();
+
+        private String currentSymbol;
+        private int size;
+        private int[] currentDays = new int[256];
+        private long[][] currentSums = new long[METRICS][257];
+        private int[][] currentCounts = new int[METRICS][257];
+
+        /**
+         * Add one stock_analytics row; metric values may be null
+         */
+        public Builder add(String symbol, Date analysisDate, BigDecimal dailyVolatility,
+                           BigDecimal dailyPriceChange, BigDecimal volumeTrend) {
+            if (!symbol.equals(currentSymbol)) {
+                finishSymbol();
+                // Symbol order follows the database collation; only grouping is required
+                if (!seen.add(symbol)) {
+                    throw new IllegalArgumentException("Rows must be grouped by symbol: " + symbol);
+                }
+                currentSymbol = symbol;
+            }
+
+            int day = (int) analysisDate.toLocalDate().toEpochDay();
+            if (size > 0 && day <= currentDays[size - 1]) {
+                throw new IllegalArgumentException("Rows must be ordered by analysis date: " + symbol + " " + analysisDate);
+            }
+            if (size == currentDays.length) {
+                grow();
+            }
+
+            currentDays[size] = day;
+            accumulate(Metric.DAILY_VOLATILITY, dailyVolatility);
+            accumulate(Metric.DAILY_PRICE_CHANGE, dailyPriceChange);
+            accumulate(Metric.VOLUME_TREND, volumeTrend);
+            size++;
+            return this;
+        }
+
+        public RankingIndex build() {
+            finishSymbol();
+            return new RankingIndex(symbols.toArray(new String[0]),
+                                    days.toArray(new int[0][]),
+                                    sums.toArray(new long[0][][]),
+                                    counts.toArray(new int[0][][]));
+        }
+
+        private void accumulate(Metric metric, BigDecimal value) {
+            int m = metric.ordinal();
+            long unscaled = value == null ? 0
+                : value.setScale(VALUE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            currentSums[m][size + 1] = currentSums[m][size] + unscaled;
+            currentCounts[m][size + 1] = currentCounts[m][size] + (value == null ? 0 : 1);
+        }
+
+        private void grow() {
+            int capacity = currentDays.length * 2;
+            currentDays = Arrays.copyOf(currentDays, capacity);
+            for (int m = 0; m < METRICS; m++) {
+                currentSums[m] = Arrays.copyOf(currentSums[m], capacity + 1);
+                currentCounts[m] = Arrays.copyOf(currentCounts[m], capacity + 1);
+            }
+        }
+
+        private void finishSymbol() {
+            if (currentSymbol == null || size == 0) {
+                return;
+            }
+            long[][] symbolSums = new long[METRICS][];
+            int[][] symbolCounts = new int[METRICS][];
+            for (int m = 0; m < METRICS; m++) {
+                symbolSums[m] = Arrays.copyOf(currentSums[m], size + 1);
+                symbolCounts[m] = Arrays.copyOf(currentCounts[m], size + 1);
+            }
+            symbols.add(currentSymbol);
+            days.add(Arrays.copyOf(currentDays, size));
+            sums.add(symbolSums);
+            counts.add(symbolCounts);
+            size = 0;
+        }
+    }
+}
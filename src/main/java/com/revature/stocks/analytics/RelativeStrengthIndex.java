@@ -0,0 +1,86 @@
+package com.revature.stocks.analytics;
+
+/**
+ * RelativeStrengthIndex Class
+ * Wilder RSI(n): average gain/loss seeded with a simple mean of the first n changes,
+ * then smoothed as avg = (avg * (n - 1) + current) / n
+ */
+public final class RelativeStrengthIndex implements Indicator {
+
+    private final int period;
+    private final String name;
+
+    private double prevClose;
+    private int changes;
+    private double avgGain;
+    private double avgLoss;
+
+    public RelativeStrengthIndex(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("RSI period must be positive: " + period);
+        }
+        this.period = period;
+        this.name = "rsi_" + period;
+        reset();
+    }
+
+    @Override
+    public void update(double high, double low, double close) {
+        if (Double.isNaN(close)) {
+            return;
+        }
+        if (Double.isNaN(prevClose)) {
+            prevClose = close;
+            return;
+        }
+
+        double change = close - prevClose;
+        double gain = change > 0 ? change : 0;
+        double loss = change < 0 ? -change : 0;
+        prevClose = close;
+        changes++;
+
+        if (changes <= period) {
+            avgGain += gain / period;
+            avgLoss += loss / period;
+        } else {
+            avgGain = (avgGain * (period - 1) + gain) / period;
+            avgLoss = (avgLoss * (period - 1) + loss) / period;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return changes >= period;
+    }
+
+    @Override
+    public int outputCount() {
+        return 1;
+    }
+
+    @Override
+    public String outputName(int index) {
+        return name;
+    }
+
+    @Override
+    public double output(int index) {
+        if (!isReady()) {
+            return Double.NaN;
+        }
+        if (avgLoss == 0) {
+            return avgGain == 0 ? 50.0 : 100.0;
+        }
+        double rs = avgGain / avgLoss;
+        return 100.0 - 100.0 / (1.0 + rs);
+    }
+
+    @Override
+    public void reset() {
+        prevClose = Double.NaN;
+        changes = 0;
+        avgGain = 0;
+        avgLoss = 0;
+    }
+}
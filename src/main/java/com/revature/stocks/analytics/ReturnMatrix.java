@@ -0,0 +1,155 @@
+package com.revature.stocks.analytics;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import com.revature.stocks.model.PriceSeries;
+
+/**
+ * ReturnMatrix Class
+ * Daily log returns of several symbols aligned on the union of their trade dates.
+ * Row s holds symbol s's returns; a cell is NaN when the symbol did not trade that
+ * day (or on its first trading day). Each return is measured from the symbol's own
+ * previous close, so a missing day does not break the next day's return.
+ */
+public class ReturnMatrix {
+
+    private final String[] symbols;
+    private final int[] tradeDays;
+    private final double[][] returns;
+    private final double[] lastCloses;
+
+    private ReturnMatrix(String[] symbols, int[] tradeDays, double[][] returns, double[] lastCloses) {
+        this.symbols = symbols;
+        this.tradeDays = tradeDays;
+        this.returns = returns;
+        this.lastCloses = lastCloses;
+    }
+
+    /**
+     * Align the series on trade date and compute per-symbol log returns
+     */
+    public static ReturnMatrix align(Collection<PriceSeries> seriesList) {
+        List<PriceSeries> nonEmpty = new ArrayList<>();
+        int total = 0;
+        for (PriceSeries series : seriesList) {
+            if (!series.isEmpty()) {
+                nonEmpty.add(series);
+                total += series.size();
+            }
+        }
+
+        // Union of trade dates
+        int[] allDays = new int[total];
+        int offset = 0;
+        for (PriceSeries series : nonEmpty) {
+            System.arraycopy(series.tradeDays(), 0, allDays, offset, series.size());
+            offset += series.size();
+        }
+        Arrays.sort(allDays);
+        int unique = 0;
+        for (int i = 0; i < allDays.length; i++) {
+            if (unique == 0 || allDays[i] != allDays[unique - 1]) {
+                allDays[unique++] = allDays[i];
+            }
+        }
+        int[] tradeDays = Arrays.copyOf(allDays, unique);
+
+        String[] symbols = new String[nonEmpty.size()];
+        double[][] returns = new double[nonEmpty.size()][unique];
+        double[] lastCloses = new double[nonEmpty.size()];
+
+        for (int s = 0; s < nonEmpty.size(); s++) {
+            PriceSeries series = nonEmpty.get(s);
+            symbols[s] = series.getSymbol();
+            double[] row = returns[s];
+            Arrays.fill(row, Double.NaN);
+
+            int[] days = series.tradeDays();
+            double[] closes = series.closePrices();
+            int column = Arrays.binarySearch(tradeDays, days[0]);
+            for (int i = 1; i < series.size(); i++) {
+                while (tradeDays[column] < days[i]) {
+                    column++;
+                }
+                if (closes[i - 1] > 0 && closes[i] > 0) {
+                    row[column] = Math.log(closes[i] / closes[i - 1]);
+                }
+            }
+            lastCloses[s] = closes[series.size() - 1];
+        }
+
+        return new ReturnMatrix(symbols, tradeDays, returns, lastCloses);
+    }
+
+    /**
+     * Restrict to the given symbols, in the given order (unknown symbols are skipped)
+     */
+    public ReturnMatrix select(List<String> wanted) {
+        List<Integer> rows = new ArrayList<>();
+        for (String symbol : wanted) {
+            int index = indexOf(symbol);
+            if (index >= 0) {
+                rows.add(index);
+            }
+        }
+
+        String[] selectedSymbols = new String[rows.size()];
+        double[][] selectedReturns = new double[rows.size()][];
+        double[] selectedCloses = new double[rows.size()];
+        for (int k = 0; k < rows.size(); k++) {
+            int row = rows.get(k);
+            selectedSymbols[k] = symbols[row];
+            selectedReturns[k] = returns[row];
+            selectedCloses[k] = lastCloses[row];
+        }
+        return new ReturnMatrix(selectedSymbols, tradeDays, selectedReturns, selectedCloses);
+    }
+
+    public int indexOf(String symbol) {
+        for (int s = 0; s < symbols.length; s++) {
+            if (symbols[s].equals(symbol)) {
+                return s;
+            }
+        }
+        return -1;
+    }
+
+    public int symbolCount() {
+        return symbols.length;
+    }
+
+    public int dayCount() {
+        return tradeDays.length;
+    }
+
+    public String getSymbol(int index) {
+        return symbols[index];
+    }
+
+    public List<String> getSymbols() {
+        return Arrays.asList(symbols);
+    }
+
+    public Date getTradeDate(int day) {
+        return Date.valueOf(LocalDate.ofEpochDay(tradeDays[day]));
+    }
+
+    /**
+     * Log returns for one symbol, indexed by aligned day; shared, do not modify
+     */
+    public double[] returnsOf(int symbolIndex) {
+        return returns[symbolIndex];
+    }
+
+    /**
+     * Last close seen for a symbol in the loaded window
+     */
+    public double lastCloseOf(int symbolIndex) {
+        return lastCloses[symbolIndex];
+    }
+}
@@ -0,0 +1,203 @@
+package com.revature.stocks.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.revature.stocks.model.PriceSeries;
+import com.revature.stocks.model.ReturnPoint;
+
+/**
+ * ReturnSeries Class
+ * Drawdown, cumulative and trailing returns of one symbol for every trade date, computed in
+ * a single forward pass. A dense calendar-day table maps any date to the last trade date on
+ * or before it, so lookups are constant time.
+ */
+public class ReturnSeries {
+
+    public static final int DAYS_1Y = 252;
+    public static final int DAYS_3Y = 756;
+    public static final int DAYS_5Y = 1260;
+
+    private static final int PRICE_SCALE = 4;
+    private static final int PERCENT_SCALE = 4;
+
+    private final String symbol;
+    private final int size;
+    private final int[] tradeDays;
+    private final double[] closes;
+    private final double[] runningMax;
+    private final double[] drawdowns;
+    private final double[] cumulativeReturns;
+    private final double[] returns1y;
+    private final double[] returns3y;
+    private final double[] returns5y;
+
+    // lookup[d] = index of the last trade on or before tradeDays[0] + d
+    private int[] lookup;
+
+    private ReturnSeries(String symbol, int size) {
+        this.symbol = symbol;
+        this.size = size;
+        this.tradeDays = new int[size];
+        this.closes = new double[size];
+        this.runningMax = new double[size];
+        this.drawdowns = new double[size];
+        this.cumulativeReturns = new double[size];
+        this.returns1y = new double[size];
+        this.returns3y = new double[size];
+        this.returns5y = new double[size];
+    }
+
+    /**
+     * Compute every figure from a price series, oldest first. Missing or non-positive closes
+     * produce NaN figures and do not move the running maximum.
+     */
+    public static ReturnSeries compute(PriceSeries series) {
+        int n = series.size();
+        ReturnSeries result = new ReturnSeries(series.getSymbol(), n);
+        double[] closes = series.closePrices();
+
+        double max = Double.NaN;
+        double first = Double.NaN;
+        for (int i = 0; i < n; i++) {
+            double close = closes[i];
+            result.tradeDays[i] = series.getTradeDay(i);
+            result.closes[i] = close;
+
+            if (close > 0) {
+                if (Double.isNaN(first)) {
+                    first = close;
+                }
+                if (Double.isNaN(max) || close > max) {
+                    max = close;
+                }
+            }
+            boolean valid = close > 0;
+            result.runningMax[i] = max;
+            result.drawdowns[i] = valid ? (close / max - 1) * 100 : Double.NaN;
+            result.cumulativeReturns[i] = valid ? (close / first - 1) * 100 : Double.NaN;
+            result.returns1y[i] = trailingReturn(closes, i, DAYS_1Y);
+            result.returns3y[i] = trailingReturn(closes, i, DAYS_3Y);
+            result.returns5y[i] = trailingReturn(closes, i, DAYS_5Y);
+        }
+        return result.withLookup();
+    }
+
+    /**
+     * Rebuild from stored points, oldest first
+     */
+    public static ReturnSeries fromPoints(String symbol, List<ReturnPoint> points) {
+        ReturnSeries result = new ReturnSeries(symbol, points.size());
+        for (int i = 0; i < points.size(); i++) {
+            ReturnPoint point = points.get(i);
+            result.tradeDays[i] = (int) point.getTradeDate().toLocalDate().toEpochDay();
+            result.closes[i] = toDouble(point.getClosePrice());
+            result.runningMax[i] = toDouble(point.getRunningMax());
+            result.drawdowns[i] = toDouble(point.getDrawdown());
+            result.cumulativeReturns[i] = toDouble(point.getCumulativeReturn());
+            result.returns1y[i] = toDouble(point.getReturn1y());
+            result.returns3y[i] = toDouble(point.getReturn3y());
+            result.returns5y[i] = toDouble(point.getReturn5y());
+        }
+        return result.withLookup();
+    }
+
+    /**
+     * Index of the last trade date on or before a date, or -1 if the date precedes the series
+     */
+    public int indexOnOrBefore(Date date) {
+        if (size == 0) {
+            return -1;
+        }
+        long offset = date.toLocalDate().toEpochDay() - tradeDays[0];
+        if (offset < 0) {
+            return -1;
+        }
+        return offset >= lookup.length ? size - 1 : lookup[(int) offset];
+    }
+
+    /**
+     * Figures on the last trade date on or before a date, or null before the first trade date
+     */
+    public ReturnPoint pointOnOrBefore(Date date) {
+        int index = indexOnOrBefore(date);
+        return index >= 0 ? pointAt(index) : null;
+    }
+
+    public ReturnPoint pointAt(int index) {
+        ReturnPoint point = new ReturnPoint(symbol, getTradeDate(index));
+        point.setClosePrice(toDecimal(closes[index], PRICE_SCALE));
+        point.setRunningMax(toDecimal(runningMax[index], PRICE_SCALE));
+        point.setDrawdown(toDecimal(drawdowns[index], PERCENT_SCALE));
+        point.setCumulativeReturn(toDecimal(cumulativeReturns[index], PERCENT_SCALE));
+        point.setReturn1y(toDecimal(returns1y[index], PERCENT_SCALE));
+        point.setReturn3y(toDecimal(returns3y[index], PERCENT_SCALE));
+        point.setReturn5y(toDecimal(returns5y[index], PERCENT_SCALE));
+        return point;
+    }
+
+    /**
+     * Points from an index to the end, oldest first
+     */
+    public List<ReturnPoint> pointsFrom(int fromIndex) {
+        List<ReturnPoint> points = new ArrayList<>(Math.max(0, size - fromIndex));
+        for (int i = Math.max(0, fromIndex); i < size; i++) {
+            points.add(pointAt(i));
+        }
+        return points;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Date getTradeDate(int index) {
+        return Date.valueOf(LocalDate.ofEpochDay(tradeDays[index]));
+    }
+
+    public double getClose(int index) {
+        return closes[index];
+    }
+
+    private ReturnSeries withLookup() {
+        if (size == 0) {
+            lookup = new int[0];
+            return this;
+        }
+        int first = tradeDays[0];
+        lookup = new int[tradeDays[size - 1] - first + 1];
+        int index = 0;
+        for (int offset = 0; offset < lookup.length; offset++) {
+            while (index + 1 < size && tradeDays[index + 1] - first <= offset) {
+                index++;
+            }
+            lookup[offset] = index;
+        }
+        return this;
+    }
+
+    private static double trailingReturn(double[] closes, int index, int days) {
+        if (index < days) {
+            return Double.NaN;
+        }
+        double start = closes[index - days];
+        double end = closes[index];
+        return start > 0 && end > 0 ? (end / start - 1) * 100 : Double.NaN;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static BigDecimal toDecimal(double value, int scale) {
+        return Double.isNaN(value) ? null : BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+}
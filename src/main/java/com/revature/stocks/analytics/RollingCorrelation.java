@@ -0,0 +1,81 @@
+package com.revature.stocks.analytics;
+
+import java.sql.Date;
+
+/**
+ * RollingCorrelation Class
+ * Steps a fixed-length window across a ReturnMatrix one aligned day at a time.
+ * Each step adds the entering day's co-moments and subtracts the leaving day's,
+ * reusing the previous window's sums (O(N^2) per step instead of O(W * N^2)).
+ * Sums are rebuilt from scratch periodically to keep floating-point drift bounded.
+ */
+public class RollingCorrelation {
+
+    private static final int RECOMPUTE_INTERVAL = 1024;
+
+    private final ReturnMatrix matrix;
+    private final int window;
+    private final CorrelationEngine engine;
+    private final PairSums sums;
+
+    private int end = -1;
+    private int stepsSinceRecompute;
+
+    public RollingCorrelation(ReturnMatrix matrix, int window) {
+        this(matrix, window, new CorrelationEngine(Math.min(window, CorrelationEngine.DEFAULT_MIN_OBSERVATIONS)));
+    }
+
+    public RollingCorrelation(ReturnMatrix matrix, int window, CorrelationEngine engine) {
+        if (window < 2) {
+            throw new IllegalArgumentException("Rolling correlation window must be at least 2 days: " + window);
+        }
+        this.matrix = matrix;
+        this.window = window;
+        this.engine = engine;
+        this.sums = new PairSums(matrix.symbolCount());
+    }
+
+    public boolean hasNext() {
+        int next = end < 0 ? window - 1 : end + 1;
+        return next < matrix.dayCount();
+    }
+
+    /**
+     * Advance to the next window; returns the aligned index of the window's last day
+     */
+    public int advance() {
+        if (!hasNext()) {
+            throw new IllegalStateException("Rolling correlation has no more windows");
+        }
+
+        if (end < 0 || ++stepsSinceRecompute >= RECOMPUTE_INTERVAL) {
+            end = end < 0 ? window - 1 : end + 1;
+            sums.clear();
+            engine.accumulate(matrix, end - window + 1, end + 1, sums);
+            stepsSinceRecompute = 0;
+        } else {
+            end++;
+            sums.addDay(matrix, end, 1.0);
+            sums.addDay(matrix, end - window, -1.0);
+        }
+        return end;
+    }
+
+    public Date currentEndDate() {
+        return matrix.getTradeDate(end);
+    }
+
+    /**
+     * Correlation of two symbols in the current window
+     */
+    public double correlation(int i, int j) {
+        return sums.correlation(i, j, engine.getMinObservations());
+    }
+
+    /**
+     * Full correlation matrix of the current window
+     */
+    public double[][] currentMatrix() {
+        return sums.toMatrix(engine.getMinObservations());
+    }
+}
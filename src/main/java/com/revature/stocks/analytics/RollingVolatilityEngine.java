@@ -0,0 +1,87 @@
+package com.revature.stocks.analytics;
+
+import java.util.Arrays;
+
+import com.revature.stocks.model.PriceSeries;
+
+/**
+ * RollingVolatilityEngine Class
+ * Annualized N-day realized volatility of daily log returns for any set of windows.
+ * All windows are computed in one pass; each uses a sliding-window Welford update
+ * (add the newest return, drop the one leaving the window), so every step is O(1).
+ */
+public class RollingVolatilityEngine {
+
+    public static final int TRADING_DAYS_PER_YEAR = 252;
+
+    private final int[] windows;
+
+    public RollingVolatilityEngine(int... windows) {
+        if (windows.length == 0) {
+            throw new IllegalArgumentException("At least one volatility window is required");
+        }
+        for (int window : windows) {
+            if (window < 2) {
+                throw new IllegalArgumentException("Volatility window must be at least 2 days: " + window);
+            }
+        }
+        this.windows = Arrays.copyOf(windows, windows.length);
+    }
+
+    public int[] getWindows() {
+        return Arrays.copyOf(windows, windows.length);
+    }
+
+    /**
+     * Realized volatility in percent, indexed [window][day]; NaN until a window has filled
+     */
+    public double[][] compute(PriceSeries series) {
+        int size = series.size();
+        double[][] result = new double[windows.length][size];
+        for (double[] column : result) {
+            Arrays.fill(column, Double.NaN);
+        }
+        if (size < 2) {
+            return result;
+        }
+
+        double[] closes = series.closePrices();
+        double[] returns = new double[size];
+        returns[0] = Double.NaN;
+        for (int i = 1; i < size; i++) {
+            returns[i] = closes[i - 1] > 0 && closes[i] > 0 ? Math.log(closes[i] / closes[i - 1]) : 0.0;
+        }
+
+        double annualization = Math.sqrt(TRADING_DAYS_PER_YEAR) * 100.0;
+        int count = windows.length;
+        double[] means = new double[count];
+        double[] m2s = new double[count];
+        int[] filled = new int[count];
+
+        for (int i = 1; i < size; i++) {
+            double x = returns[i];
+            for (int w = 0; w < count; w++) {
+                int window = windows[w];
+                if (filled[w] < window) {
+                    filled[w]++;
+                    double delta = x - means[w];
+                    means[w] += delta / filled[w];
+                    m2s[w] += delta * (x - means[w]);
+                } else {
+                    double old = returns[i - window];
+                    double oldMean = means[w];
+                    means[w] += (x - old) / window;
+                    m2s[w] += (x - old) * (x - means[w] + old - oldMean);
+                    if (m2s[w] < 0) {
+                        m2s[w] = 0; // guard against rounding drift on flat windows
+                    }
+                }
+                if (filled[w] == window) {
+                    result[w][i] = Math.sqrt(m2s[w] / (window - 1)) * annualization;
+                }
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package com.revature.stocks.analytics;
+
+/**
+ * ScalarAnalyticsKernels Class
+ * Plain-loop implementation of the bulk analytics kernels
+ */
+public class ScalarAnalyticsKernels implements AnalyticsKernels {
+
+    @Override
+    public void dailyVolatility(double[] high, double[] low, double[] open, double[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            out[i] = open[i] > 0 ? (high[i] - low[i]) / open[i] * 100.0 : 0.0;
+        }
+    }
+
+    @Override
+    public void dailyPriceChange(double[] close, double[] open, double[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            out[i] = open[i] > 0 ? (close[i] - open[i]) / open[i] * 100.0 : 0.0;
+        }
+    }
+
+    @Override
+    public void turnoverRatio(double[] turnover, double[] volume, double[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            out[i] = volume[i] > 0 ? turnover[i] / volume[i] : Double.NaN;
+        }
+    }
+
+    @Override
+    public void rollingSum(double[] values, int window, double[] out, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+            if (i >= window) {
+                sum -= values[i - window];
+            }
+            out[i] = sum;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
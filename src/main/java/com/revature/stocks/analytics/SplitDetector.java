@@ -0,0 +1,88 @@
+package com.revature.stocks.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.revature.stocks.model.CorporateAction;
+import com.revature.stocks.model.PriceSeries;
+
+/**
+ * SplitDetector Class
+ * Flags overnight price drops that look like unadjusted splits or bonus issues and proposes
+ * a price factor for each, snapped to the nearest simple ratio (1:2, 1:5, 2:3, ...).
+ * Candidates are suggestions only; nothing is stored.
+ */
+public class SplitDetector {
+
+    private static final double DEFAULT_MAX_RATIO = 0.6;
+    private static final double SNAP_TOLERANCE = 0.03;
+    private static final int MAX_DENOMINATOR = 10;
+
+    private final double maxRatio;
+
+    public SplitDetector() {
+        this(DEFAULT_MAX_RATIO);
+    }
+
+    /**
+     * @param maxRatio largest day-over-day price ratio treated as a split (0.6 = a 40% drop)
+     */
+    public SplitDetector(double maxRatio) {
+        this.maxRatio = maxRatio;
+    }
+
+    public List<CorporateAction> detect(PriceSeries series) {
+        List<CorporateAction> candidates = new ArrayList<>();
+
+        for (int i = 1; i < series.size(); i++) {
+            double lastClose = series.getClose(i - 1);
+            if (!(lastClose > 0)) {
+                continue;
+            }
+
+            // The exchange's prev_close on an ex-date is already adjusted, which gives the ratio
+            // directly; otherwise fall back to the opening gap
+            double ratio = series.getPrevClose(i) / lastClose;
+            if (!(ratio > 0 && ratio <= maxRatio)) {
+                ratio = series.getOpen(i) / lastClose;
+                if (!(ratio > 0 && ratio <= maxRatio) || !(series.getClose(i) / lastClose <= maxRatio)) {
+                    continue;
+                }
+            }
+
+            double snapped = snap(ratio);
+            if (Double.isNaN(snapped)) {
+                continue;
+            }
+
+            CorporateAction action = new CorporateAction(series.getSymbol(), series.getTradeDate(i),
+                                                         CorporateAction.TYPE_SPLIT,
+                                                         BigDecimal.valueOf(snapped).setScale(8, RoundingMode.HALF_UP));
+            action.setDescription(String.format("Detected: close %.2f -> %.2f", lastClose, series.getClose(i)));
+            candidates.add(action);
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Nearest p/q (q up to 10) within tolerance, or NaN if the drop is not a clean ratio
+     */
+    private static double snap(double ratio) {
+        double best = Double.NaN;
+        double bestError = SNAP_TOLERANCE;
+        for (int q = 2; q <= MAX_DENOMINATOR; q++) {
+            for (int p = 1; p < q; p++) {
+                double candidate = (double) p / q;
+                double error = Math.abs(candidate - ratio) / candidate;
+                if (error < bestError) {
+                    best = candidate;
+                    bestError = error;
+                }
+            }
+        }
+        return best;
+    }
+}
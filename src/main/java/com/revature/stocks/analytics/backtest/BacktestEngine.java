@@ -0,0 +1,137 @@
+package com.revature.stocks.analytics.backtest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.revature.stocks.model.PriceSeries;
+
+/**
+ * BacktestEngine Class
+ * Runs every (symbol x strategy spec) combination in parallel over series that are already
+ * loaded into primitive arrays. A position chosen at a bar's close earns the next bar's
+ * close-to-close return; each position change pays the configured cost in basis points.
+ */
+public class BacktestEngine {
+
+    public static final double DEFAULT_COST_BPS = 10.0;
+    private static final double TRADING_DAYS_PER_YEAR = 252.0;
+
+    private final double costPerUnitTurnover;
+
+    public BacktestEngine() {
+        this(DEFAULT_COST_BPS);
+    }
+
+    public BacktestEngine(double costBps) {
+        this.costPerUnitTurnover = costBps / 10_000.0;
+    }
+
+    /**
+     * Simulate every spec on every series, in parallel; results follow (series, spec) order
+     */
+    public List<BacktestResult> sweep(Collection<PriceSeries> seriesList, List<StrategySpec> specs) {
+        PriceSeries[] series = seriesList.stream().filter(s -> s.size() > 1).toArray(PriceSeries[]::new);
+        int specCount = specs.size();
+        if (series.length == 0 || specCount == 0) {
+            return new ArrayList<>();
+        }
+
+        return IntStream.range(0, series.length * specCount)
+                        .parallel()
+                        .mapToObj(task -> run(series[task / specCount], specs.get(task % specCount)))
+                        .collect(Collectors.toList());
+    }
+
+    /**
+     * Simulate one spec on one series
+     */
+    public BacktestResult run(PriceSeries series, StrategySpec spec) {
+        return simulate(series, spec.newStrategy(), spec.getDescription());
+    }
+
+    /**
+     * Single pass over the bars; allocation-free apart from the result object
+     */
+    public BacktestResult simulate(PriceSeries series, Strategy strategy, String description) {
+        strategy.reset();
+        double[] open = series.openPrices();
+        double[] high = series.highPrices();
+        double[] low = series.lowPrices();
+        double[] close = series.closePrices();
+        int n = series.size();
+
+        double equity = 1.0;
+        double peak = 1.0;
+        double maxDrawdown = 0.0;
+        double lastClose = Double.NaN;
+        int position = 0;
+        int trades = 0;
+        int daysInMarket = 0;
+        int observations = 0;
+
+        // Welford over daily strategy returns
+        double mean = 0.0;
+        double m2 = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            double c = close[i];
+            if (!(c > 0)) {
+                continue;
+            }
+
+            if (lastClose > 0) {
+                double dailyReturn = position * (c / lastClose - 1.0);
+                equity *= 1.0 + dailyReturn;
+                observations++;
+                double delta = dailyReturn - mean;
+                mean += delta / observations;
+                m2 += delta * (dailyReturn - mean);
+                if (position != 0) {
+                    daysInMarket++;
+                }
+            }
+
+            int target = strategy.onBar(open[i], high[i], low[i], c);
+            if (target != position) {
+                equity *= 1.0 - costPerUnitTurnover * Math.abs(target - position);
+                if (target != 0) {
+                    trades++;
+                }
+                position = target;
+            }
+
+            if (equity > peak) {
+                peak = equity;
+            } else {
+                maxDrawdown = Math.max(maxDrawdown, 1.0 - equity / peak);
+            }
+            lastClose = c;
+        }
+
+        double sharpe = Double.NaN;
+        if (observations > 1) {
+            double stdDev = Math.sqrt(m2 / (observations - 1));
+            if (stdDev > 0) {
+                sharpe = mean / stdDev * Math.sqrt(TRADING_DAYS_PER_YEAR);
+            }
+        }
+
+        return new BacktestResult(series.getSymbol(), description, observations,
+                                  (equity - 1.0) * 100.0, maxDrawdown * 100.0, sharpe, trades,
+                                  observations > 0 ? 100.0 * daysInMarket / observations : 0.0);
+    }
+
+    /**
+     * Sort results best first by Sharpe ratio, undefined ratios last
+     */
+    public static void sortBySharpe(List<BacktestResult> results) {
+        results.sort((a, b) -> {
+            double x = Double.isNaN(a.getSharpeRatio()) ? Double.NEGATIVE_INFINITY : a.getSharpeRatio();
+            double y = Double.isNaN(b.getSharpeRatio()) ? Double.NEGATIVE_INFINITY : b.getSharpeRatio();
+            return Double.compare(y, x);
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package com.revature.stocks.analytics.backtest;
+
+/**
+ * BacktestResult Class
+ * Outcome of one strategy run over one symbol's history
+ */
+public class BacktestResult {
+
+    private final String symbol;
+    private final String strategy;
+    private final int days;
+    private final double totalReturnPercent;
+    private final double maxDrawdownPercent;
+    private final double sharpeRatio;
+    private final int trades;
+    private final double exposurePercent;
+
+    public BacktestResult(String symbol, String strategy, int days, double totalReturnPercent,
+                          double maxDrawdownPercent, double sharpeRatio, int trades, double exposurePercent) {
+        this.symbol = symbol;
+        this.strategy = strategy;
+        this.days = days;
+        this.totalReturnPercent = totalReturnPercent;
+        this.maxDrawdownPercent = maxDrawdownPercent;
+        this.sharpeRatio = sharpeRatio;
+        this.trades = trades;
+        this.exposurePercent = exposurePercent;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Compounded return of the strategy's equity over the run, in percent
+     */
+    public double getTotalReturnPercent() {
+        return totalReturnPercent;
+    }
+
+    /**
+     * Largest peak-to-trough equity decline, in percent (positive number)
+     */
+    public double getMaxDrawdownPercent() {
+        return maxDrawdownPercent;
+    }
+
+    /**
+     * Annualized Sharpe ratio of daily strategy returns (zero risk-free rate); NaN if undefined
+     */
+    public double getSharpeRatio() {
+        return sharpeRatio;
+    }
+
+    /**
+     * Number of position entries
+     */
+    public int getTrades() {
+        return trades;
+    }
+
+    /**
+     * Share of days spent in a position, in percent
+     */
+    public double getExposurePercent() {
+        return exposurePercent;
+    }
+
+    @Override
+    public String toString() {
+        return "BacktestResult{" +
+                "symbol='" + symbol + '\'' +
+                ", strategy='" + strategy + '\'' +
+                ", days=" + days +
+                ", totalReturnPercent=" + totalReturnPercent +
+                ", maxDrawdownPercent=" + maxDrawdownPercent +
+                ", sharpeRatio=" + sharpeRatio +
+                ", trades=" + trades +
+                ", exposurePercent=" + exposurePercent +
+                '}';
+    }
+}
@@ -0,0 +1,59 @@
+package com.revature.stocks.analytics.backtest;
+
+/**
+ * SmaCrossoverStrategy Class
+ * Long while the fast simple moving average of closes is above the slow one, flat otherwise.
+ * Both averages are running sums over ring buffers allocated once per instance.
+ */
+public class SmaCrossoverStrategy implements Strategy {
+
+    private final int fastPeriod;
+    private final int slowPeriod;
+    private final double[] window;
+
+    private int count;
+    private double fastSum;
+    private double slowSum;
+
+    public SmaCrossoverStrategy(int fastPeriod, int slowPeriod) {
+        if (fastPeriod <= 0 || slowPeriod <= fastPeriod) {
+            throw new IllegalArgumentException("SMA periods must satisfy 0 < fast < slow: " +
+                                               fastPeriod + ", " + slowPeriod);
+        }
+        this.fastPeriod = fastPeriod;
+        this.slowPeriod = slowPeriod;
+        this.window = new double[slowPeriod];
+    }
+
+    @Override
+    public int onBar(double open, double high, double low, double close) {
+        // Closes older than the fast window leave the fast sum; older than slow, the slow sum
+        if (count >= fastPeriod) {
+            fastSum -= window[(count - fastPeriod) % slowPeriod];
+        }
+        if (count >= slowPeriod) {
+            slowSum -= window[count % slowPeriod];
+        }
+        window[count % slowPeriod] = close;
+        fastSum += close;
+        slowSum += close;
+        count++;
+
+        if (count < slowPeriod) {
+            return 0;
+        }
+        return fastSum / fastPeriod > slowSum / slowPeriod ? 1 : 0;
+    }
+
+    @Override
+    public void reset() {
+        count = 0;
+        fastSum = 0;
+        slowSum = 0;
+    }
+
+    @Override
+    public String describe() {
+        return "SMA(" + fastPeriod + "," + slowPeriod + ")";
+    }
+}
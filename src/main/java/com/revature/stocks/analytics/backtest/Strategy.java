@@ -0,0 +1,25 @@
+package com.revature.stocks.analytics.backtest;
+
+/**
+ * Strategy Interface
+ * A rule that is fed one bar at a time and answers with the position to hold into the
+ * next bar (1 long, 0 flat, -1 short). Implementations keep O(1) primitive state and must
+ * not allocate in onBar, so a sweep can run thousands of them without garbage.
+ */
+public interface Strategy {
+
+    /**
+     * Consume the bar that just closed and return the target position
+     */
+    int onBar(double open, double high, double low, double close);
+
+    /**
+     * Clear all state so the instance can be reused on another series
+     */
+    void reset();
+
+    /**
+     * Short description including parameters, e.g. "SMA(10,50)"
+     */
+    String describe();
+}
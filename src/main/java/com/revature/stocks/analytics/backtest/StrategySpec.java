@@ -0,0 +1,66 @@
+package com.revature.stocks.analytics.backtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * StrategySpec Class
+ * One parameter combination of a strategy; creates a fresh instance per simulation
+ */
+public class StrategySpec {
+
+    private final String description;
+    private final Supplier<Strategy> factory;
+
+    public StrategySpec(String description, Supplier<Strategy> factory) {
+        this.description = description;
+        this.factory = factory;
+    }
+
+    public static StrategySpec smaCrossover(int fastPeriod, int slowPeriod) {
+        return new StrategySpec("SMA(" + fastPeriod + "," + slowPeriod + ")",
+                                () -> new SmaCrossoverStrategy(fastPeriod, slowPeriod));
+    }
+
+    public static StrategySpec volatilityBreakout(int atrPeriod, double multiplier) {
+        return new StrategySpec("VolBreakout(" + atrPeriod + "," + multiplier + ")",
+                                () -> new VolatilityBreakoutStrategy(atrPeriod, multiplier));
+    }
+
+    /**
+     * Every fast < slow combination of the given periods
+     */
+    public static List<StrategySpec> smaCrossoverGrid(int[] fastPeriods, int[] slowPeriods) {
+        List<StrategySpec> specs = new ArrayList<>();
+        for (int fast : fastPeriods) {
+            for (int slow : slowPeriods) {
+                if (fast < slow) {
+                    specs.add(smaCrossover(fast, slow));
+                }
+            }
+        }
+        return specs;
+    }
+
+    /**
+     * Every combination of ATR period and band multiplier
+     */
+    public static List<StrategySpec> volatilityBreakoutGrid(int[] atrPeriods, double[] multipliers) {
+        List<StrategySpec> specs = new ArrayList<>();
+        for (int period : atrPeriods) {
+            for (double multiplier : multipliers) {
+                specs.add(volatilityBreakout(period, multiplier));
+            }
+        }
+        return specs;
+    }
+
+    public Strategy newStrategy() {
+        return factory.get();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
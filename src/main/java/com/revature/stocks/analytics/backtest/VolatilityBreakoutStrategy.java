@@ -0,0 +1,56 @@
+package com.revature.stocks.analytics.backtest;
+
+import com.revature.stocks.analytics.AverageTrueRange;
+
+/**
+ * VolatilityBreakoutStrategy Class
+ * Goes long when the close moves more than k x ATR(n) above the previous close and exits
+ * when it moves more than k x ATR(n) below it; holds the current position in between.
+ */
+public final class VolatilityBreakoutStrategy implements Strategy {
+
+    private final int atrPeriod;
+    private final double multiplier;
+    private final AverageTrueRange atr;
+
+    private double prevClose;
+    private int position;
+
+    public VolatilityBreakoutStrategy(int atrPeriod, double multiplier) {
+        if (multiplier <= 0) {
+            throw new IllegalArgumentException("Breakout multiplier must be positive: " + multiplier);
+        }
+        this.atrPeriod = atrPeriod;
+        this.multiplier = multiplier;
+        this.atr = new AverageTrueRange(atrPeriod);
+        reset();
+    }
+
+    @Override
+    public int onBar(double open, double high, double low, double close) {
+        // Compare against the band from the previous bar's ATR, then fold this bar in
+        if (atr.isReady() && !Double.isNaN(prevClose)) {
+            double band = multiplier * atr.output(0);
+            if (close > prevClose + band) {
+                position = 1;
+            } else if (close < prevClose - band) {
+                position = 0;
+            }
+        }
+        atr.update(high, low, close);
+        prevClose = close;
+        return position;
+    }
+
+    @Override
+    public void reset() {
+        atr.reset();
+        prevClose = Double.NaN;
+        position = 0;
+    }
+
+    @Override
+    public String describe() {
+        return "VolBreakout(" + atrPeriod + "," + multiplier + ")";
+    }
+}
@@ -0,0 +1,79 @@
+package com.revature.stocks.analytics.risk;
+
+import java.util.stream.IntStream;
+
+import com.revature.stocks.analytics.ReturnMatrix;
+
+/**
+ * HistoricalSimulation Class
+ * Revalues the portfolio under every observed daily (or overlapping h-day) return vector.
+ * A symbol that did not trade on a day contributes no move; days on which no held symbol
+ * traded are skipped.
+ */
+public class HistoricalSimulation {
+
+    private final ReturnMatrix returns;
+    private final double[] positionValues;
+
+    /**
+     * @param returns        aligned log returns, one row per held symbol
+     * @param positionValues current value of each row's position, in row order
+     */
+    public HistoricalSimulation(ReturnMatrix returns, double[] positionValues) {
+        if (returns.symbolCount() != positionValues.length) {
+            throw new IllegalArgumentException("Expected " + returns.symbolCount() + " position values, got " +
+                                               positionValues.length);
+        }
+        this.returns = returns;
+        this.positionValues = positionValues;
+    }
+
+    /**
+     * VaR and ES of portfolio losses over an h-day horizon from overlapping windows
+     */
+    public RiskMeasures run(int horizonDays, double confidence) {
+        int symbols = returns.symbolCount();
+        int days = returns.dayCount();
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be positive: " + horizonDays);
+        }
+
+        // Prefix sums of log returns and of traded-day counts, per symbol
+        double[][] cumulative = new double[symbols][days + 1];
+        int[][] traded = new int[symbols][days + 1];
+        for (int s = 0; s < symbols; s++) {
+            double[] row = returns.returnsOf(s);
+            for (int d = 0; d < days; d++) {
+                boolean valid = !Double.isNaN(row[d]);
+                cumulative[s][d + 1] = cumulative[s][d] + (valid ? row[d] : 0.0);
+                traded[s][d + 1] = traded[s][d] + (valid ? 1 : 0);
+            }
+        }
+
+        int windows = Math.max(0, days - horizonDays + 1);
+        double[] losses = new double[windows];
+        boolean[] used = new boolean[windows];
+
+        IntStream.range(0, windows).parallel().forEach(w -> {
+            int end = w + horizonDays;
+            double pnl = 0;
+            boolean any = false;
+            for (int s = 0; s < symbols; s++) {
+                if (traded[s][end] > traded[s][w]) {
+                    pnl += positionValues[s] * Math.expm1(cumulative[s][end] - cumulative[s][w]);
+                    any = true;
+                }
+            }
+            losses[w] = -pnl;
+            used[w] = any;
+        });
+
+        int count = 0;
+        for (int w = 0; w < windows; w++) {
+            if (used[w]) {
+                losses[count++] = losses[w];
+            }
+        }
+        return RiskMeasures.fromLosses(losses, count, confidence);
+    }
+}
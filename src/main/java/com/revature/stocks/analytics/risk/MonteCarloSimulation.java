@@ -0,0 +1,168 @@
+package com.revature.stocks.analytics.risk;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import com.revature.stocks.analytics.ReturnMatrix;
+
+/**
+ * MonteCarloSimulation Class
+ * Simulates correlated multi-day log-return paths from the sample mean and covariance of
+ * the held symbols' daily returns (multivariate normal via Cholesky). Scenarios are split
+ * into fixed chunks, each with its own SplittableRandom split from one seeded root, so a
+ * run is reproducible for a given seed regardless of how many cores execute it.
+ */
+public class MonteCarloSimulation {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final double JITTER = 1e-12;
+
+    private final double[] positionValues;
+    private final double[] mean;
+    private final double[][] cholesky;
+
+    public MonteCarloSimulation(ReturnMatrix returns, double[] positionValues) {
+        if (returns.symbolCount() != positionValues.length) {
+            throw new IllegalArgumentException("Expected " + returns.symbolCount() + " position values, got " +
+                                               positionValues.length);
+        }
+        this.positionValues = positionValues;
+        int symbols = returns.symbolCount();
+        this.mean = new double[symbols];
+        double[][] covariance = new double[symbols][symbols];
+        estimate(returns, mean, covariance);
+        this.cholesky = decompose(covariance);
+    }
+
+    /**
+     * VaR and ES at day 1 and at the horizon, from the same simulated paths
+     * @return {one-day measures, horizon measures}
+     */
+    public RiskMeasures[] run(int scenarios, int horizonDays, double confidence, long seed) {
+        if (scenarios <= 0 || horizonDays <= 0) {
+            throw new IllegalArgumentException("Scenarios and horizon must be positive");
+        }
+        int symbols = positionValues.length;
+        double[] oneDayLosses = new double[scenarios];
+        double[] horizonLosses = new double[scenarios];
+
+        int chunks = (scenarios + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] generators = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            generators[c] = root.split();
+        }
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            SplittableRandom random = generators[c];
+            double[] shocks = new double[symbols];
+            double[] pathReturn = new double[symbols];
+            int end = Math.min(scenarios, (c + 1) * CHUNK_SIZE);
+
+            for (int scenario = c * CHUNK_SIZE; scenario < end; scenario++) {
+                Arrays.fill(pathReturn, 0.0);
+                for (int day = 0; day < horizonDays; day++) {
+                    for (int s = 0; s < symbols; s++) {
+                        shocks[s] = random.nextGaussian();
+                    }
+                    // pathReturn += mean + L * z
+                    for (int s = 0; s < symbols; s++) {
+                        double[] row = cholesky[s];
+                        double correlated = 0;
+                        for (int k = 0; k <= s; k++) {
+                            correlated += row[k] * shocks[k];
+                        }
+                        pathReturn[s] += mean[s] + correlated;
+                    }
+                    if (day == 0) {
+                        oneDayLosses[scenario] = -portfolioPnl(pathReturn);
+                    }
+                }
+                horizonLosses[scenario] = -portfolioPnl(pathReturn);
+            }
+        });
+
+        return new RiskMeasures[] {
+            RiskMeasures.fromLosses(oneDayLosses, scenarios, confidence),
+            RiskMeasures.fromLosses(horizonLosses, scenarios, confidence)
+        };
+    }
+
+    private double portfolioPnl(double[] logReturns) {
+        double pnl = 0;
+        for (int s = 0; s < logReturns.length; s++) {
+            pnl += positionValues[s] * Math.expm1(logReturns[s]);
+        }
+        return pnl;
+    }
+
+    /**
+     * Sample mean and covariance over days where every symbol has a return
+     */
+    private static void estimate(ReturnMatrix returns, double[] mean, double[][] covariance) {
+        int symbols = returns.symbolCount();
+        double[][] rows = new double[symbols][];
+        for (int s = 0; s < symbols; s++) {
+            rows[s] = returns.returnsOf(s);
+        }
+
+        int n = 0;
+        double[] delta = new double[symbols];
+        for (int d = 0; d < returns.dayCount(); d++) {
+            boolean complete = true;
+            for (int s = 0; s < symbols && complete; s++) {
+                complete = !Double.isNaN(rows[s][d]);
+            }
+            if (!complete) {
+                continue;
+            }
+
+            // Welford update of the mean vector and co-moment matrix
+            n++;
+            for (int s = 0; s < symbols; s++) {
+                delta[s] = rows[s][d] - mean[s];
+                mean[s] += delta[s] / n;
+            }
+            for (int i = 0; i < symbols; i++) {
+                double after = rows[i][d] - mean[i];
+                for (int j = 0; j <= i; j++) {
+                    covariance[i][j] += delta[j] * after;
+                }
+            }
+        }
+
+        if (n < 2) {
+            throw new IllegalStateException("Need at least 2 days on which every held symbol traded, found " + n);
+        }
+        for (int i = 0; i < symbols; i++) {
+            for (int j = 0; j <= i; j++) {
+                covariance[i][j] /= (n - 1);
+                covariance[j][i] = covariance[i][j];
+            }
+        }
+    }
+
+    /**
+     * Lower-triangular Cholesky factor; a tiny diagonal jitter absorbs rounding when the
+     * covariance is only positive semi-definite (e.g. duplicated symbols)
+     */
+    private static double[][] decompose(double[][] covariance) {
+        int n = covariance.length;
+        double[][] lower = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                double sum = covariance[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= lower[i][k] * lower[j][k];
+                }
+                if (i == j) {
+                    lower[i][i] = Math.sqrt(Math.max(sum, 0) + JITTER);
+                } else {
+                    lower[i][j] = sum / lower[j][j];
+                }
+            }
+        }
+        return lower;
+    }
+}
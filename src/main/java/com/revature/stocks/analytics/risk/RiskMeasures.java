@@ -0,0 +1,56 @@
+package com.revature.stocks.analytics.risk;
+
+import java.util.Arrays;
+
+/**
+ * RiskMeasures Class
+ * Value at Risk and expected shortfall from a sample of portfolio losses
+ * (positive numbers are losses)
+ */
+public final class RiskMeasures {
+
+    private final double valueAtRisk;
+    private final double expectedShortfall;
+    private final int sampleSize;
+
+    private RiskMeasures(double valueAtRisk, double expectedShortfall, int sampleSize) {
+        this.valueAtRisk = valueAtRisk;
+        this.expectedShortfall = expectedShortfall;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * VaR is the confidence-quantile of the losses; ES is the mean loss at or beyond it.
+     * The array is sorted in place.
+     */
+    public static RiskMeasures fromLosses(double[] losses, int count, double confidence) {
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1: " + confidence);
+        }
+        if (count == 0) {
+            return new RiskMeasures(Double.NaN, Double.NaN, 0);
+        }
+
+        Arrays.sort(losses, 0, count);
+        int index = Math.min(count - 1, Math.max(0, (int) Math.ceil(confidence * count) - 1));
+        double var = losses[index];
+
+        double tail = 0;
+        for (int i = index; i < count; i++) {
+            tail += losses[i];
+        }
+        return new RiskMeasures(var, tail / (count - index), count);
+    }
+
+    public double getValueAtRisk() {
+        return valueAtRisk;
+    }
+
+    public double getExpectedShortfall() {
+        return expectedShortfall;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+}
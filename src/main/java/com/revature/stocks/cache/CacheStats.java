@@ -0,0 +1,89 @@
+package com.revature.stocks.cache;
+
+/**
+ * CacheStats Class
+ * Immutable snapshot of a cache's counters
+ */
+public final class CacheStats {
+
+    private final String name;
+    private final int size;
+    private final long hits;
+    private final long negativeHits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final long invalidations;
+
+    public CacheStats(String name, int size, long hits, long negativeHits, long misses,
+                      long evictions, long expirations, long invalidations) {
+        this.name = name;
+        this.size = size;
+        this.hits = hits;
+        this.negativeHits = negativeHits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.invalidations = invalidations;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Lookups answered from the cache, including negative hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Lookups answered from a cached "not found"
+     */
+    public long getNegativeHits() {
+        return negativeHits;
+    }
+
+    /**
+     * Lookups that went to the loader
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Entries dropped to stay within the size bound
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Entries dropped because their time to live had passed
+     */
+    public long getExpirations() {
+        return expirations;
+    }
+
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups > 0 ? (double) hits / lookups : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{size=%d, hits=%d (negative %d), misses=%d, hitRate=%.1f%%, " +
+                             "evictions=%d, expirations=%d, invalidations=%d}",
+                             name, size, hits, negativeHits, misses, getHitRate() * 100,
+                             evictions, expirations, invalidations);
+    }
+}
@@ -0,0 +1,44 @@
+package com.revature.stocks.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataVersion Class
+ * Monotonic version counter of one table's contents. Every DAO write path that changes the
+ * table bumps it; anything derived from the table remembers the version it was built from
+ * and is stale as soon as the counter has moved.
+ */
+public final class DataVersion {
+
+    public static final DataVersion DAILY_PRICES = new DataVersion("daily_prices");
+    public static final DataVersion STOCK_ANALYTICS = new DataVersion("stock_analytics");
+    public static final DataVersion REALIZED_VOLATILITY = new DataVersion("realized_volatility");
+
+    private final String name;
+    private final AtomicLong version = new AtomicLong();
+
+    private DataVersion(String name) {
+        this.name = name;
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Record a change to the table
+     * @return the new version
+     */
+    public long bump() {
+        return version.incrementAndGet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name + "@" + version.get();
+    }
+}
@@ -0,0 +1,112 @@
+package com.revature.stocks.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.revature.stocks.model.DailyPrice;
+
+/**
+ * LatestPriceBoard Class
+ * Process-wide board of each symbol's latest DailyPrice. It is loaded once in a single query
+ * and then kept current by DailyPriceDAO, which offers every stored price; a price replaces
+ * the board entry only if its trade date is the same or newer. Reads never lock. The board
+ * keeps its own copies of offered prices and hands out copies, so callers can modify what
+ * they get without affecting the board.
+ */
+public final class LatestPriceBoard {
+
+    private static final Logger logger = Logger.getLogger(LatestPriceBoard.class.getName());
+    private static final LatestPriceBoard instance = new LatestPriceBoard();
+
+    private final Map<String, DailyPrice> prices = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    private LatestPriceBoard() {
+    }
+
+    public static LatestPriceBoard getInstance() {
+        return instance;
+    }
+
+    /**
+     * Load the board with the loader unless already loaded. Prices offered while loading are
+     * kept when newer than the loaded ones. A null from the loader (load failed) leaves the
+     * board unloaded.
+     * @return whether the board is loaded
+     */
+    public boolean ensureLoaded(Supplier<Map<String, DailyPrice>> loader) {
+        if (loaded) {
+            return true;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return true;
+            }
+            Map<String, DailyPrice> latest = loader.get();
+            if (latest == null) {
+                return false;
+            }
+            for (DailyPrice price : latest.values()) {
+                offer(price);
+            }
+            loaded = true;
+            logger.info("Latest price board loaded with " + prices.size() + " symbols");
+            return true;
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Atomically keep the newer of the board entry and a stored price (same date replaces,
+     * so revisions of the latest day show up)
+     */
+    public void offer(DailyPrice price) {
+        if (price == null || price.getSymbol() == null || price.getTradeDate() == null) {
+            return;
+        }
+        prices.merge(price.getSymbol(), new DailyPrice(price),
+                     (current, offered) -> offered.getTradeDate().before(current.getTradeDate()) ? current : offered);
+    }
+
+    /**
+     * Latest price of a symbol, or null when it has none
+     */
+    public DailyPrice get(String symbol) {
+        DailyPrice price = prices.get(symbol);
+        return price != null ? new DailyPrice(price) : null;
+    }
+
+    /**
+     * Snapshot of every symbol's latest price, sorted by symbol
+     */
+    public SortedMap<String, DailyPrice> getAll() {
+        SortedMap<String, DailyPrice> snapshot = new TreeMap<>();
+        for (Map.Entry<String, DailyPrice> entry : prices.entrySet()) {
+            snapshot.put(entry.getKey(), new DailyPrice(entry.getValue()));
+        }
+        return Collections.unmodifiableSortedMap(snapshot);
+    }
+
+    /**
+     * Drop a symbol, e.g. after its stock (and with it its prices) was deleted
+     */
+    public void remove(String symbol) {
+        prices.remove(symbol);
+    }
+
+    /**
+     * Forget everything; the next ensureLoaded reloads from the database
+     */
+    public synchronized void clear() {
+        prices.clear();
+        loaded = false;
+    }
+}
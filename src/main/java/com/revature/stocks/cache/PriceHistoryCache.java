@@ -0,0 +1,142 @@
+package com.revature.stocks.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.model.PriceHistory;
+
+/**
+ * PriceHistoryCache Class
+ * Process-wide, least-recently-used cache of per-symbol PriceHistory, bounded by the histories'
+ * estimated heap bytes rather than by entry count. DailyPriceDAO invalidates a symbol whenever
+ * one of its rows is written; as in ReadThroughCache, a load that overlaps an invalidation is
+ * not cached. A history larger than the whole budget is returned but never cached.
+ */
+public final class PriceHistoryCache {
+
+    public static final String MAX_BYTES_PROPERTY = "cache.price.history.max.bytes";
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final Logger logger = Logger.getLogger(PriceHistoryCache.class.getName());
+    private static final PriceHistoryCache instance = new PriceHistoryCache(loadMaxBytes());
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, PriceHistory> histories = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+
+    // Bumped by every invalidation; a load only caches if it did not change meanwhile
+    private long generation;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    private PriceHistoryCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static PriceHistoryCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Cached history for a symbol (upper-cased), loading it on a miss; null when the loader
+     * found nothing or failed
+     */
+    public PriceHistory get(String symbol, Function<String, PriceHistory> loader) {
+        String key = symbol.toUpperCase();
+        long loadGeneration;
+        synchronized (this) {
+            PriceHistory history = histories.get(key);
+            if (history != null) {
+                hits++;
+                return history;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        PriceHistory loaded = loader.apply(symbol);
+
+        if (loaded != null) {
+            synchronized (this) {
+                if (generation == loadGeneration && loaded.estimatedBytes() <= maxBytes) {
+                    PriceHistory previous = histories.put(key, loaded);
+                    if (previous != null) {
+                        usedBytes -= previous.estimatedBytes();
+                    }
+                    usedBytes += loaded.estimatedBytes();
+                    evictOverBudget();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Cached history for a symbol without loading it; null on a miss
+     */
+    public synchronized PriceHistory getIfPresent(String symbol) {
+        PriceHistory history = histories.get(symbol.toUpperCase());
+        if (history != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return history;
+    }
+
+    /**
+     * Drop a symbol's history after one of its rows was written
+     */
+    public synchronized void invalidate(String symbol) {
+        generation++;
+        invalidations++;
+        PriceHistory removed = histories.remove(symbol.toUpperCase());
+        if (removed != null) {
+            usedBytes -= removed.estimatedBytes();
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        invalidations++;
+        histories.clear();
+        usedBytes = 0;
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats("price-history", histories.size(), hits, 0, misses, evictions, 0, invalidations);
+    }
+
+    private void evictOverBudget() {
+        Iterator<PriceHistory> eldest = histories.values().iterator();
+        while (usedBytes > maxBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().estimatedBytes();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long loadMaxBytes() {
+        String value = DatabaseConfig.getInstance().getProperty(MAX_BYTES_PROPERTY, String.valueOf(DEFAULT_MAX_BYTES));
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warning("Invalid " + MAX_BYTES_PROPERTY + " '" + value + "', using " + DEFAULT_MAX_BYTES);
+            return DEFAULT_MAX_BYTES;
+        }
+    }
+}
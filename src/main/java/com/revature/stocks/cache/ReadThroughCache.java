@@ -0,0 +1,151 @@
+package com.revature.stocks.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ReadThroughCache Class
+ * Size-bounded, least-recently-used cache with a time to live per entry. A miss calls the
+ * loader and caches its result; a null result is cached as a negative entry with its own
+ * (usually shorter) time to live. The loader runs outside the lock, and a load that overlaps
+ * an invalidation of its key is not cached, so a write followed by invalidate() is never
+ * hidden by a stale in-flight read.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // Bumped by every invalidation; a load only caches if it did not change meanwhile
+    private long generation;
+
+    private long hits;
+    private long negativeHits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    /**
+     * @param maxEntries     size bound; least recently used entries are evicted beyond it
+     * @param ttlMillis      time to live of loaded values
+     * @param negativeTtlMillis time to live of "not found" results, 0 to not cache them
+     */
+    public ReadThroughCache(String name, int maxEntries, long ttlMillis, long negativeTtlMillis) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxEntries);
+        }
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.negativeTtlNanos = negativeTtlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Cached value for a key, loading it on a miss; null when the loader found nothing
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt - System.nanoTime() > 0) {
+                    hits++;
+                    if (entry.value == null) {
+                        negativeHits++;
+                    }
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+
+        synchronized (this) {
+            long ttl = value != null ? ttlNanos : negativeTtlNanos;
+            if (generation == loadGeneration && ttl > 0) {
+                entries.put(key, new Entry<>(value, System.nanoTime() + ttl));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Seed a value loaded elsewhere (e.g. from a snapshot) unless the key is already cached;
+     * it gets the normal time to live
+     */
+    public synchronized void prime(K key, V value) {
+        if (value != null && !entries.containsKey(key)) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+            evictOverflow();
+        }
+    }
+
+    /**
+     * Unexpired non-null values, least recently used first
+     */
+    public synchronized Map<K, V> snapshot() {
+        Map<K, V> values = new LinkedHashMap<>();
+        long now = System.nanoTime();
+        for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+            Entry<V> cached = entry.getValue();
+            if (cached.value != null && cached.expiresAt - now > 0) {
+                values.put(entry.getKey(), cached.value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Drop one key, e.g. after it was written
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        invalidations++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(name, entries.size(), hits, negativeHits, misses, evictions, expirations, invalidations);
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
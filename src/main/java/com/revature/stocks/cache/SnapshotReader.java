@@ -0,0 +1,145 @@
+package com.revature.stocks.cache;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * SnapshotReader Class
+ * Reads a snapshot written by SnapshotWriter from a read-only memory mapping of the file.
+ * Sections are visited with nextSection; a section's payload must be read completely or
+ * skipped with skipSection. A truncated or corrupt file surfaces as IOException.
+ */
+public final class SnapshotReader {
+
+    private final ByteBuffer buffer;
+    private final long createdMillis;
+    private final String fingerprint;
+    private int sectionEnd = -1;
+
+    private SnapshotReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        try {
+            if (buffer.getInt() != SnapshotWriter.MAGIC) {
+                throw new IOException("Not a cache snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != SnapshotWriter.FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format version " + version);
+            }
+            this.createdMillis = buffer.getLong();
+            this.fingerprint = getString();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated cache snapshot header");
+        }
+    }
+
+    /**
+     * Map a snapshot file read-only; the mapping stays valid after the channel is closed
+     */
+    public static SnapshotReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new SnapshotReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public long getCreatedMillis() {
+        return createdMillis;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Move to the next section, skipping any unread rest of the current one
+     * @return the section's tag, or -1 at the end of the snapshot
+     */
+    public int nextSection() throws IOException {
+        if (sectionEnd >= 0) {
+            buffer.position(sectionEnd);
+        }
+        if (!buffer.hasRemaining()) {
+            sectionEnd = -1;
+            return -1;
+        }
+        try {
+            int tag = buffer.getInt();
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IOException("Truncated snapshot section " + tag);
+            }
+            sectionEnd = buffer.position() + length;
+            return tag;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated snapshot section header");
+        }
+    }
+
+    public void skipSection() {
+        if (sectionEnd >= 0) {
+            buffer.position(sectionEnd);
+        }
+    }
+
+    public int getInt() {
+        return buffer.getInt();
+    }
+
+    public long getLong() {
+        return buffer.getLong();
+    }
+
+    public boolean getBoolean() {
+        return buffer.get() != 0;
+    }
+
+    public String getString() {
+        if (!getBoolean()) {
+            return null;
+        }
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public Integer getNullableInt() {
+        return getBoolean() ? buffer.getInt() : null;
+    }
+
+    public Long getNullableLong() {
+        return getBoolean() ? buffer.getLong() : null;
+    }
+
+    public BigDecimal getDecimal() {
+        if (!getBoolean()) {
+            return null;
+        }
+        int scale = buffer.getInt();
+        byte[] unscaled = new byte[buffer.getInt()];
+        buffer.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    public Date getDate() {
+        return getBoolean() ? Date.valueOf(LocalDate.ofEpochDay(buffer.getLong())) : null;
+    }
+
+    public Timestamp getTimestamp() {
+        if (!getBoolean()) {
+            return null;
+        }
+        Timestamp timestamp = new Timestamp(buffer.getLong());
+        timestamp.setNanos(buffer.getInt());
+        return timestamp;
+    }
+}
@@ -0,0 +1,160 @@
+package com.revature.stocks.cache;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * SnapshotWriter Class
+ * Builds a cache snapshot in a growable heap buffer and writes it to disk through a
+ * FileChannel. The file is a header (magic, format version, creation time, database
+ * fingerprint) followed by sections of (tag, length, payload), so a reader can skip sections
+ * it does not know. Nullable values carry a one-byte presence flag.
+ */
+public final class SnapshotWriter {
+
+    static final int MAGIC = 0x52565358; // "RVSX"
+    static final int FORMAT_VERSION = 1;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    private int sectionStart = -1;
+
+    public SnapshotWriter(String fingerprint) {
+        putInt(MAGIC);
+        putInt(FORMAT_VERSION);
+        putLong(System.currentTimeMillis());
+        putString(fingerprint);
+    }
+
+    /**
+     * Start a section; its length is filled in by endSection
+     */
+    public void beginSection(int tag) {
+        if (sectionStart >= 0) {
+            throw new IllegalStateException("Section " + tag + " started inside another section");
+        }
+        putInt(tag);
+        putInt(0);
+        sectionStart = buffer.position();
+    }
+
+    public void endSection() {
+        buffer.putInt(sectionStart - 4, buffer.position() - sectionStart);
+        sectionStart = -1;
+    }
+
+    public void putInt(int value) {
+        ensureRemaining(4);
+        buffer.putInt(value);
+    }
+
+    public void putLong(long value) {
+        ensureRemaining(8);
+        buffer.putLong(value);
+    }
+
+    public void putBoolean(boolean value) {
+        ensureRemaining(1);
+        buffer.put((byte) (value ? 1 : 0));
+    }
+
+    public void putString(String value) {
+        putBoolean(value != null);
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            ensureRemaining(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    public void putNullableInt(Integer value) {
+        putBoolean(value != null);
+        if (value != null) {
+            putInt(value);
+        }
+    }
+
+    public void putNullableLong(Long value) {
+        putBoolean(value != null);
+        if (value != null) {
+            putLong(value);
+        }
+    }
+
+    /**
+     * Decimals are written as scale plus unscaled digits, so they read back with equal scale
+     */
+    public void putDecimal(BigDecimal value) {
+        putBoolean(value != null);
+        if (value != null) {
+            putInt(value.scale());
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            putInt(unscaled.length);
+            ensureRemaining(unscaled.length);
+            buffer.put(unscaled);
+        }
+    }
+
+    public void putDate(Date value) {
+        putBoolean(value != null);
+        if (value != null) {
+            putLong(value.toLocalDate().toEpochDay());
+        }
+    }
+
+    public void putTimestamp(Timestamp value) {
+        putBoolean(value != null);
+        if (value != null) {
+            putLong(value.getTime());
+            putInt(value.getNanos());
+        }
+    }
+
+    /**
+     * Write the snapshot to a temporary file and move it over the target, so a crash while
+     * writing never leaves a torn snapshot behind
+     * @return bytes written
+     */
+    public long writeTo(Path path) throws IOException {
+        if (sectionStart >= 0) {
+            throw new IllegalStateException("Unfinished snapshot section");
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        ByteBuffer contents = buffer.duplicate();
+        contents.flip();
+        long size = contents.remaining();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (contents.hasRemaining()) {
+                channel.write(contents);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return size;
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+}
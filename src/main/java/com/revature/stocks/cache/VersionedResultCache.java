@@ -0,0 +1,106 @@
+package com.revature.stocks.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * VersionedResultCache Class
+ * Size-bounded LRU cache of query results that depend on one table. Each result is stored
+ * with the DataVersion it was computed against and served only while that version is still
+ * current, so results never go stale and there is no time to live to tune. A result is
+ * tagged with the version read before computing it, so a write that races the computation
+ * makes it stale rather than hiding the write.
+ */
+public class VersionedResultCache<K, V> {
+
+    private final String name;
+    private final DataVersion dataVersion;
+    private final int maxEntries;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long staleDrops;
+
+    public VersionedResultCache(String name, DataVersion dataVersion, int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxEntries);
+        }
+        this.name = name;
+        this.dataVersion = dataVersion;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Cached result for a key at the current data version, computing it on a miss. Null
+     * results are not cached.
+     */
+    public V get(K key, Supplier<? extends V> compute) {
+        return get(key, compute, value -> true);
+    }
+    
+    /**
+     * As get(key, compute), but results the predicate rejects are returned without being
+     * cached (e.g. empty lists a DAO returns when a query fails)
+     */
+    public V get(K key, Supplier<? extends V> compute, Predicate<? super V> cacheable) {
+        long version = dataVersion.current();
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.version == version) {
+                    hits++;
+                    return entry.value;
+                }
+                entries.remove(key);
+                staleDrops++;
+            }
+            misses++;
+        }
+
+        V value = compute.get();
+
+        if (value != null && cacheable.test(value)) {
+            synchronized (this) {
+                entries.put(key, new Entry<>(value, version));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Counters, with stale drops reported as expirations
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(name, entries.size(), hits, 0, misses, evictions, staleDrops, 0);
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long version;
+
+        Entry(V value, long version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+}
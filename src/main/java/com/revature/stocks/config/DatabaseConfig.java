@@ -23,6 +23,7 @@ public class DatabaseConfig {
     private String username;
     private String password;
     private String driver;
+    private Properties connectionProperties;
     
     private DatabaseConfig() {
         loadProperties();
@@ -71,6 +72,13 @@ public class DatabaseConfig {
             throw new RuntimeException("Incomplete database configuration");
         }
         
+        // Let Connector/J send each executeBatch of an insert as multi-row statements
+        connectionProperties = new Properties();
+        connectionProperties.setProperty("user", username);
+        connectionProperties.setProperty("password", password);
+        connectionProperties.setProperty("rewriteBatchedStatements",
+                                         properties.getProperty("db.rewrite.batched.statements", "true"));
+        
         // Load database driver
         try {
             Class.forName(driver);
@@ -86,7 +94,7 @@ public class DatabaseConfig {
      */
     public Connection getConnection() throws SQLException {
         try {
-            Connection connection = DriverManager.getConnection(url, username, password);
+            Connection connection = DriverManager.getConnection(url, connectionProperties);
             logger.info("Database connection established successfully");
             return connection;
         } catch (SQLException e) {
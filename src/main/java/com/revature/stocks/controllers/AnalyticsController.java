@@ -1,13 +1,42 @@
 package com.revature.stocks.controllers;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import com.revature.stocks.analytics.backtest.BacktestResult;
+import com.revature.stocks.analytics.backtest.StrategySpec;
+import com.revature.stocks.analytics.risk.RiskMeasures;
+import com.revature.stocks.model.CorporateAction;
+import com.revature.stocks.model.CorrelationMatrix;
+import com.revature.stocks.model.MovingAveragePoint;
+import com.revature.stocks.model.PercentileRank;
+import com.revature.stocks.model.PerformanceRow;
+import com.revature.stocks.model.PriceChangePoint;
+import com.revature.stocks.model.PriceGapPoint;
+import com.revature.stocks.model.ReturnPoint;
+import com.revature.stocks.model.PriceAnomaly;
+import com.revature.stocks.model.RiskReport;
+import com.revature.stocks.model.SectorRollup;
 import com.revature.stocks.model.StockAnalytics;
+import com.revature.stocks.model.TechnicalIndicators;
+import com.revature.stocks.model.VolatilityPoint;
+import com.revature.stocks.model.VolatilityRankRow;
 import com.revature.stocks.services.AnalyticsService;
+import com.revature.stocks.services.AnomalyService;
+import com.revature.stocks.services.PercentileRankService;
+import com.revature.stocks.services.BacktestService;
+import com.revature.stocks.services.PriceAdjustmentService;
+import com.revature.stocks.services.RiskService;
+import com.revature.stocks.services.SectorService;
 import com.revature.stocks.services.StockService;
 
 /**
@@ -19,11 +48,23 @@ public class AnalyticsController {
     private static final Logger logger = Logger.getLogger(AnalyticsController.class.getName());
     private AnalyticsService analyticsService;
     private StockService stockService;
+    private SectorService sectorService;
+    private PriceAdjustmentService priceAdjustmentService;
+    private BacktestService backtestService;
+    private RiskService riskService;
+    private AnomalyService anomalyService;
+    private PercentileRankService percentileRankService;
     private Scanner scanner;
     
     public AnalyticsController() {
         this.analyticsService = new AnalyticsService();
         this.stockService = new StockService();
+        this.sectorService = new SectorService();
+        this.priceAdjustmentService = new PriceAdjustmentService();
+        this.backtestService = new BacktestService();
+        this.riskService = new RiskService();
+        this.anomalyService = new AnomalyService();
+        this.percentileRankService = new PercentileRankService();
         this.scanner = new Scanner(System.in);
     }
     
@@ -46,6 +87,17 @@ public class AnalyticsController {
             System.out.println("9. Rank Stocks by Volatility");
             System.out.println("10. Generate Analytics Summary");
             System.out.println("11. Cleanup Old Analytics");
+            System.out.println("12. Technical Indicators");
+            System.out.println("13. Return Correlation Matrix");
+            System.out.println("14. Sector Rollups");
+            System.out.println("15. Corporate Actions & Adjusted Prices");
+            System.out.println("16. Strategy Backtest Sweep");
+            System.out.println("17. Portfolio Risk (VaR / Expected Shortfall)");
+            System.out.println("18. Price and Volume Anomalies");
+            System.out.println("19. Daily Percentile Ranks");
+            System.out.println("20. Drawdown and Trailing Returns");
+            System.out.println("21. Calculate Analytics History for Stock");
+            System.out.println("22. Rolling Correlation of Two Stocks");
             System.out.println("0. Exit");
             System.out.print("Enter your choice: ");
             
@@ -86,6 +138,39 @@ public class AnalyticsController {
                     case 11:
                         cleanupOldAnalytics();
                         break;
+                    case 12:
+                        calculateTechnicalIndicators();
+                        break;
+                    case 13:
+                        calculateCorrelationMatrix();
+                        break;
+                    case 14:
+                        viewSectorRollups();
+                        break;
+                    case 15:
+                        manageCorporateActions();
+                        break;
+                    case 16:
+                        runBacktestSweep();
+                        break;
+                    case 17:
+                        calculatePortfolioRisk();
+                        break;
+                    case 18:
+                        viewPriceAnomalies();
+                        break;
+                    case 19:
+                        viewPercentileRanks();
+                        break;
+                    case 20:
+                        viewDrawdownAndReturns();
+                        break;
+                    case 21:
+                        calculateAnalyticsHistoryForStock();
+                        break;
+                    case 22:
+                        calculateRollingCorrelation();
+                        break;
                     case 0:
                         exit = true;
                         System.out.println("Exiting Analytics...");
@@ -109,7 +194,7 @@ public class AnalyticsController {
     private void calculateAnalyticsForStock() {
         System.out.println("\n=== CALCULATE ANALYTICS ===");
         
-        System.out.print("Enter stock symbol: ");
+        System.out.print("Enter stock symbol (or ALL for every stock): ");
         String symbol = scanner.nextLine().trim().toUpperCase();
         
         if (symbol.isEmpty()) {
@@ -117,8 +202,10 @@ public class AnalyticsController {
             return;
         }
         
+        boolean allStocks = symbol.equals("ALL");
+        
         // Check if stock exists
-        if (!stockService.doesStockExist(symbol)) {
+        if (!allStocks && !stockService.doesStockExist(symbol)) {
             System.out.println("Stock not found: " + symbol);
             return;
         }
@@ -138,6 +225,20 @@ public class AnalyticsController {
             }
         }
         
+        if (allStocks) {
+            List<String> symbols = stockService.getAvailableSymbols();
+            if (symbols == null || symbols.isEmpty()) {
+                System.out.println("No stocks found.");
+                return;
+            }
+            
+            System.out.println("Calculating analytics for " + symbols.size() + " stocks on " + analysisDate + "...");
+            
+            int stored = analyticsService.calculateAndStoreAnalytics(symbols, analysisDate);
+            System.out.println("Analytics calculated and stored for " + stored + " of " + symbols.size() + " stocks.");
+            return;
+        }
+        
         System.out.println("Calculating analytics for " + symbol + " on " + analysisDate + "...");
         
         boolean success = analyticsService.calculateAndStoreAnalytics(symbol, analysisDate);
@@ -149,6 +250,51 @@ public class AnalyticsController {
         }
     }
     
+    /**
+     * Calculate and store analytics for every trade date of a stock in a date range
+     */
+    private void calculateAnalyticsHistoryForStock() {
+        System.out.println("\n=== CALCULATE ANALYTICS HISTORY ===");
+        
+        System.out.print("Enter stock symbol: ");
+        String symbol = scanner.nextLine().trim().toUpperCase();
+        
+        if (symbol.isEmpty()) {
+            System.out.println("Symbol cannot be empty!");
+            return;
+        }
+        
+        if (!stockService.doesStockExist(symbol)) {
+            System.out.println("Stock not found: " + symbol);
+            return;
+        }
+        
+        System.out.print("Enter start date (YYYY-MM-DD) or press Enter for the first trade date: ");
+        String fromStr = scanner.nextLine().trim();
+        System.out.print("Enter end date (YYYY-MM-DD) or press Enter for the latest trade date: ");
+        String toStr = scanner.nextLine().trim();
+        
+        Date fromDate;
+        Date toDate;
+        try {
+            fromDate = fromStr.isEmpty() ? null : Date.valueOf(fromStr);
+            toDate = toStr.isEmpty() ? null : Date.valueOf(toStr);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+            return;
+        }
+        
+        System.out.println("Calculating analytics history for " + symbol + "...");
+        
+        int stored = analyticsService.calculateAndStoreAnalyticsHistory(symbol, fromDate, toDate);
+        
+        if (stored > 0) {
+            System.out.println("Stored " + stored + " analytics records for " + symbol + ".");
+        } else {
+            System.out.println("No analytics were stored. Check if price data exists for the specified range.");
+        }
+    }
+    
     /**
      * View stock analytics
      */
@@ -174,38 +320,55 @@ public class AnalyticsController {
                 System.out.println("Invalid number. Using default limit of 10.");
             }
         }
-        
-        List<StockAnalytics> analytics = analyticsService.getAnalytics(symbol);
-        
-        if (analytics == null || analytics.isEmpty()) {
-            System.out.println("No analytics data found for: " + symbol);
-            return;
+        if (limit <= 0) {
+            System.out.println("Limit must be positive. Using default limit of 10.");
+            limit = 10;
         }
         
-        System.out.println("\n=== ANALYTICS FOR " + symbol + " ===");
-        System.out.printf("%-12s %-12s %-15s %-12s %-12s %-12s%n", 
-                         "DATE", "VOLATILITY", "PRICE_CHANGE", "MA_7", "MA_30", "CATEGORY");
-        System.out.println("=".repeat(85));
+        // Page backwards from the newest record; each page starts before the last date shown
+        Date beforeDate = null;
+        int shown = 0;
         
-        int count = 0;
-        for (StockAnalytics analytic : analytics) {
-            if (count >= limit) break;
+        while (true) {
+            List<StockAnalytics> page = analyticsService.getAnalyticsPage(symbol, beforeDate, limit);
             
-            System.out.printf("%-12s %-12s %-15s %-12s %-12s %-12s%n",
-                             analytic.getAnalysisDate(),
-                             analytic.getDailyVolatility() != null ? 
-                                 String.format("%.2f%%", analytic.getDailyVolatility()) : "N/A",
-                             analytic.getDailyPriceChange() != null ? 
-                                 String.format("%.2f%%", analytic.getDailyPriceChange()) : "N/A",
-                             analytic.getMovingAvg7() != null ? 
-                                 String.format("%.2f", analytic.getMovingAvg7()) : "N/A",
-                             analytic.getMovingAvg30() != null ? 
-                                 String.format("%.2f", analytic.getMovingAvg30()) : "N/A",
-                             analytic.getVolatilityCategory());
-            count++;
+            if (page == null || page.isEmpty()) {
+                System.out.println(shown == 0 ? "No analytics data found for: " + symbol : "No more records.");
+                return;
+            }
+            
+            if (shown == 0) {
+                System.out.println("\n=== ANALYTICS FOR " + symbol + " ===");
+                System.out.printf("%-12s %-12s %-15s %-12s %-12s %-12s%n", 
+                                 "DATE", "VOLATILITY", "PRICE_CHANGE", "MA_7", "MA_30", "CATEGORY");
+                System.out.println("=".repeat(85));
+            }
+            
+            for (StockAnalytics analytic : page) {
+                System.out.printf("%-12s %-12s %-15s %-12s %-12s %-12s%n",
+                                 analytic.getAnalysisDate(),
+                                 analytic.getDailyVolatility() != null ? 
+                                     String.format("%.2f%%", analytic.getDailyVolatility()) : "N/A",
+                                 analytic.getDailyPriceChange() != null ? 
+                                     String.format("%.2f%%", analytic.getDailyPriceChange()) : "N/A",
+                                 analytic.getMovingAvg7() != null ? 
+                                     String.format("%.2f", analytic.getMovingAvg7()) : "N/A",
+                                 analytic.getMovingAvg30() != null ? 
+                                     String.format("%.2f", analytic.getMovingAvg30()) : "N/A",
+                                 analytic.getVolatilityCategory());
+            }
+            shown += page.size();
+            beforeDate = page.get(page.size() - 1).getAnalysisDate();
+            
+            System.out.println("\nShowing the " + shown + " most recent records");
+            if (page.size() < limit) {
+                return;
+            }
+            System.out.print("Enter 'n' for the next page, or press Enter to return: ");
+            if (!scanner.nextLine().trim().equalsIgnoreCase("n")) {
+                return;
+            }
         }
-        
-        System.out.println("\nShowing " + count + " of " + analytics.size() + " total records");
     }
     
     /**
@@ -222,7 +385,7 @@ public class AnalyticsController {
             return;
         }
         
-        List<Map<String, Object>> volatilityData = analyticsService.calculateDailyVolatility(symbol);
+        List<VolatilityPoint> volatilityData = analyticsService.calculateDailyVolatility(symbol);
         
         if (volatilityData == null || volatilityData.isEmpty()) {
             System.out.println("No volatility data found for: " + symbol);
@@ -234,12 +397,12 @@ public class AnalyticsController {
         System.out.println("=".repeat(32));
         
         int count = 0;
-        for (Map<String, Object> data : volatilityData) {
+        for (VolatilityPoint data : volatilityData) {
             if (count >= 20) break; // Show top 20 records
             
             System.out.printf("%-15s %-15s%n",
-                             data.get("trade_date"),
-                             String.format("%.4f", data.get("daily_volatility")));
+                             data.tradeDate(),
+                             String.format("%.4f", data.dailyVolatility()));
             count++;
         }
         
@@ -260,7 +423,7 @@ public class AnalyticsController {
             return;
         }
         
-        List<Map<String, Object>> priceChangeData = analyticsService.calculateDailyPriceChanges(symbol);
+        List<PriceChangePoint> priceChangeData = analyticsService.calculateDailyPriceChanges(symbol);
         
         if (priceChangeData == null || priceChangeData.isEmpty()) {
             System.out.println("No price change data found for: " + symbol);
@@ -272,12 +435,12 @@ public class AnalyticsController {
         System.out.println("=".repeat(35));
         
         int count = 0;
-        for (Map<String, Object> data : priceChangeData) {
+        for (PriceChangePoint data : priceChangeData) {
             if (count >= 20) break;
             
             System.out.printf("%-15s %-18s%n",
-                             data.get("trade_date"),
-                             String.format("%.4f", data.get("price_change")));
+                             data.tradeDate(),
+                             String.format("%.4f", data.priceChange()));
             count++;
         }
         
@@ -298,7 +461,7 @@ public class AnalyticsController {
             return;
         }
         
-        List<Map<String, Object>> movingAvgData = analyticsService.calculateMovingAverages(symbol);
+        List<MovingAveragePoint> movingAvgData = analyticsService.calculateMovingAverages(symbol);
         
         if (movingAvgData == null || movingAvgData.isEmpty()) {
             System.out.println("No moving average data found for: " + symbol);
@@ -311,18 +474,15 @@ public class AnalyticsController {
         System.out.println("=".repeat(55));
         
         int count = 0;
-        for (Map<String, Object> data : movingAvgData) {
+        for (MovingAveragePoint data : movingAvgData) {
             if (count >= 15) break;
             
-            System.out.printf("%-12s %-10s %-10s %-10s %-10s%n",
-                             data.get("trade_date"),
-                             String.format("%.2f", data.get("close_price")),
-                             data.get("moving_avg_7") != null ? 
-                                 String.format("%.2f", data.get("moving_avg_7")) : "N/A",
-                             data.get("moving_avg_30") != null ? 
-                                 String.format("%.2f", data.get("moving_avg_30")) : "N/A",
-                             data.get("moving_avg_90") != null ? 
-                                 String.format("%.2f", data.get("moving_avg_90")) : "N/A");
+            System.out.printf("%-12s %-10.2f %-10.2f %-10.2f %-10.2f%n",
+                             data.tradeDate(),
+                             data.closePrice(),
+                             data.movingAvg7(),
+                             data.movingAvg30(),
+                             data.movingAvg90());
             count++;
         }
         
@@ -343,7 +503,7 @@ public class AnalyticsController {
             return;
         }
         
-        List<Map<String, Object>> priceGapData = analyticsService.calculatePriceGaps(symbol);
+        List<PriceGapPoint> priceGapData = analyticsService.calculatePriceGaps(symbol);
         
         if (priceGapData == null || priceGapData.isEmpty()) {
             System.out.println("No price gap data found for: " + symbol);
@@ -355,12 +515,12 @@ public class AnalyticsController {
         System.out.println("=".repeat(32));
         
         int count = 0;
-        for (Map<String, Object> data : priceGapData) {
+        for (PriceGapPoint data : priceGapData) {
             if (count >= 20) break;
             
             System.out.printf("%-15s %-15s%n",
-                             data.get("trade_date"),
-                             String.format("%.4f", data.get("price_gap")));
+                             data.tradeDate(),
+                             data.priceGap() != null ? String.format("%.4f", data.priceGap()) : "N/A");
             count++;
         }
         
@@ -389,7 +549,7 @@ public class AnalyticsController {
             return;
         }
         
-        List<Map<String, Object>> performanceData = analyticsService.compareStockPerformance(fromDate);
+        List<PerformanceRow> performanceData = analyticsService.compareStockPerformance(fromDate);
         
         if (performanceData == null || performanceData.isEmpty()) {
             System.out.println("No performance data found from: " + fromDate);
@@ -401,12 +561,12 @@ public class AnalyticsController {
                          "SYMBOL", "AVG_VOLATILITY", "AVG_CHANGE", "PERFORMANCE");
         System.out.println("=".repeat(65));
         
-        for (Map<String, Object> data : performanceData) {
+        for (PerformanceRow data : performanceData) {
             System.out.printf("%-10s %-15s %-15s %-15s%n",
-                             data.get("symbol"),
-                             String.format("%.4f%%", data.get("avg_volatility")),
-                             String.format("%.4f%%", data.get("avg_price_change")),
-                             data.get("performance_category"));
+                             data.symbol(),
+                             formatRankingPercent(data.avgVolatility()),
+                             formatRankingPercent(data.avgPriceChange()),
+                             data.performanceCategory());
         }
         
         System.out.println("\nTotal stocks compared: " + performanceData.size());
@@ -447,7 +607,7 @@ public class AnalyticsController {
             }
         }
         
-        List<Map<String, Object>> topPerformers = analyticsService.getTopPerformers(fromDate, limit);
+        List<PerformanceRow> topPerformers = analyticsService.getTopPerformers(fromDate, limit);
         
         if (topPerformers == null || topPerformers.isEmpty()) {
             System.out.println("No performance data found from: " + fromDate);
@@ -460,13 +620,13 @@ public class AnalyticsController {
         System.out.println("=".repeat(70));
         
         int rank = 1;
-        for (Map<String, Object> data : topPerformers) {
+        for (PerformanceRow data : topPerformers) {
             System.out.printf("%-5d %-10s %-15s %-15s %-15s%n",
                              rank++,
-                             data.get("symbol"),
-                             String.format("%.4f%%", data.get("avg_return")),
-                             String.format("%.4f%%", data.get("avg_volatility")),
-                             data.get("performance_category"));
+                             data.symbol(),
+                             formatRankingPercent(data.avgPriceChange()),
+                             formatRankingPercent(data.avgVolatility()),
+                             data.performanceCategory());
         }
         
         System.out.println("\nDisplaying top " + topPerformers.size() + " performers");
@@ -494,10 +654,26 @@ public class AnalyticsController {
             return;
         }
         
-        List<Map<String, Object>> volatilityRanking = analyticsService.rankStocksByVolatility(fromDate);
+        System.out.print("Enter realized volatility window in days (or press Enter for intraday range): ");
+        String windowStr = scanner.nextLine().trim();
+        int realizedWindow = 0;
+        
+        if (!windowStr.isEmpty()) {
+            try {
+                realizedWindow = Integer.parseInt(windowStr);
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid number. Ranking by intraday range.");
+            }
+        }
+        
+        List<VolatilityRankRow> volatilityRanking = analyticsService.rankStocksByVolatility(fromDate, realizedWindow);
         
         if (volatilityRanking == null || volatilityRanking.isEmpty()) {
             System.out.println("No volatility data found from: " + fromDate);
+            if (realizedWindow > 0) {
+                System.out.println("Realized volatility is stored by Calculate Analytics History for windows " +
+                                   Arrays.toString(AnalyticsService.DEFAULT_REALIZED_VOLATILITY_WINDOWS) + ".");
+            }
             return;
         }
         
@@ -507,13 +683,13 @@ public class AnalyticsController {
         System.out.println("=".repeat(70));
         
         int rank = 1;
-        for (Map<String, Object> data : volatilityRanking) {
+        for (VolatilityRankRow data : volatilityRanking) {
             System.out.printf("%-5d %-10s %-15s %-15s %-15s%n",
                              rank++,
-                             data.get("symbol"),
-                             String.format("%.4f%%", data.get("avg_volatility")),
-                             String.format("%.4f%%", data.get("max_volatility")),
-                             data.get("volatility_category"));
+                             data.symbol(),
+                             formatRankingPercent(data.avgVolatility()),
+                             formatRankingPercent(data.maxVolatility()),
+                             data.volatilityCategory());
         }
         
         System.out.println("\nTotal stocks ranked: " + volatilityRanking.size());
@@ -602,6 +778,688 @@ public class AnalyticsController {
         }
     }
     
+    /**
+     * Calculate, store and display technical indicators
+     */
+    private void calculateTechnicalIndicators() {
+        System.out.println("\n=== TECHNICAL INDICATORS ===");
+        
+        System.out.print("Enter stock symbol: ");
+        String symbol = scanner.nextLine().trim().toUpperCase();
+        
+        if (symbol.isEmpty()) {
+            System.out.println("Symbol cannot be empty!");
+            return;
+        }
+        
+        List<TechnicalIndicators> indicators = analyticsService.calculateTechnicalIndicators(symbol);
+        
+        if (indicators == null || indicators.isEmpty()) {
+            System.out.println("No price data found for: " + symbol);
+            return;
+        }
+        
+        System.out.println("\n=== TECHNICAL INDICATORS FOR " + symbol + " ===");
+        System.out.printf("%-12s %-10s %-10s %-8s %-10s %-10s %-10s %-10s %-8s %-10s%n",
+                         "DATE", "EMA_12", "EMA_26", "RSI_14", "MACD", "SIGNAL", "BB_UPPER", "BB_LOWER", "ATR_14", "MOMENTUM");
+        System.out.println("=".repeat(105));
+        
+        int count = 0;
+        for (TechnicalIndicators row : indicators) {
+            if (count >= 15) break;
+            
+            System.out.printf("%-12s %-10s %-10s %-8s %-10s %-10s %-10s %-10s %-8s %-10s%n",
+                             row.getAnalysisDate(),
+                             formatDecimal(row.getEma12()),
+                             formatDecimal(row.getEma26()),
+                             formatDecimal(row.getRsi14()),
+                             formatDecimal(row.getMacd()),
+                             formatDecimal(row.getMacdSignal()),
+                             formatDecimal(row.getBollingerUpper()),
+                             formatDecimal(row.getBollingerLower()),
+                             formatDecimal(row.getAtr14()),
+                             row.getMomentumSignal());
+            count++;
+        }
+        
+        System.out.println("\nShowing " + count + " of " + indicators.size() + " total records");
+        
+        System.out.print("Store these indicators? (y/N): ");
+        String confirmation = scanner.nextLine().trim().toLowerCase();
+        
+        if (confirmation.equals("y") || confirmation.equals("yes")) {
+            int stored = analyticsService.storeTechnicalIndicators(symbol, indicators);
+            System.out.println("Stored " + stored + " technical indicator records.");
+        }
+    }
+    
+    /**
+     * Calculate the return correlation matrix and show the strongest and weakest pairs
+     */
+    private void calculateCorrelationMatrix() {
+        System.out.println("\n=== RETURN CORRELATION MATRIX ===");
+        
+        System.out.print("Enter start date (YYYY-MM-DD): ");
+        String fromStr = scanner.nextLine().trim();
+        System.out.print("Enter end date (YYYY-MM-DD) or press Enter for today: ");
+        String toStr = scanner.nextLine().trim();
+        
+        Date fromDate;
+        Date toDate;
+        try {
+            fromDate = Date.valueOf(fromStr);
+            toDate = toStr.isEmpty() ? new Date(System.currentTimeMillis()) : Date.valueOf(toStr);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+            return;
+        }
+        
+        CorrelationMatrix matrix = analyticsService.calculateCorrelationMatrix(fromDate, toDate);
+        
+        if (matrix == null || matrix.size() < 2) {
+            System.out.println("Not enough price data between " + fromDate + " and " + toDate);
+            return;
+        }
+        
+        List<String> symbols = matrix.getSymbols();
+        double[][] values = matrix.getValues();
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < symbols.size(); i++) {
+            for (int j = i + 1; j < symbols.size(); j++) {
+                if (!Double.isNaN(values[i][j])) {
+                    pairs.add(new int[]{i, j});
+                }
+            }
+        }
+        pairs.sort((a, b) -> Double.compare(values[b[0]][b[1]], values[a[0]][a[1]]));
+        
+        System.out.println("\n=== MOST CORRELATED PAIRS (" + fromDate + " to " + toDate + ") ===");
+        System.out.printf("%-12s %-12s %-12s%n", "SYMBOL_A", "SYMBOL_B", "CORRELATION");
+        System.out.println("=".repeat(38));
+        for (int k = 0; k < Math.min(10, pairs.size()); k++) {
+            int[] pair = pairs.get(k);
+            System.out.printf("%-12s %-12s %-12.4f%n", symbols.get(pair[0]), symbols.get(pair[1]), values[pair[0]][pair[1]]);
+        }
+        
+        System.out.println("\n=== LEAST CORRELATED PAIRS ===");
+        System.out.printf("%-12s %-12s %-12s%n", "SYMBOL_A", "SYMBOL_B", "CORRELATION");
+        System.out.println("=".repeat(38));
+        for (int k = Math.max(0, pairs.size() - 10); k < pairs.size(); k++) {
+            int[] pair = pairs.get(k);
+            System.out.printf("%-12s %-12s %-12.4f%n", symbols.get(pair[0]), symbols.get(pair[1]), values[pair[0]][pair[1]]);
+        }
+        
+        System.out.println("\nSymbols: " + symbols.size() + ", Pairs: " + pairs.size());
+    }
+    
+    /**
+     * Calculate the rolling return correlation of two stocks and show the most recent windows
+     */
+    private void calculateRollingCorrelation() {
+        System.out.println("\n=== ROLLING CORRELATION ===");
+        
+        System.out.print("Enter first stock symbol: ");
+        String symbolA = scanner.nextLine().trim().toUpperCase();
+        System.out.print("Enter second stock symbol: ");
+        String symbolB = scanner.nextLine().trim().toUpperCase();
+        
+        if (symbolA.isEmpty() || symbolB.isEmpty()) {
+            System.out.println("Symbols cannot be empty!");
+            return;
+        }
+        
+        System.out.print("Enter window in trading days (default 20): ");
+        String windowStr = scanner.nextLine().trim();
+        int windowDays = 20;
+        
+        if (!windowStr.isEmpty()) {
+            try {
+                windowDays = Integer.parseInt(windowStr);
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid number. Using default of 20.");
+            }
+        }
+        
+        if (windowDays < 2) {
+            System.out.println("Window must be at least 2 days!");
+            return;
+        }
+        
+        System.out.print("Enter start date (YYYY-MM-DD): ");
+        String fromStr = scanner.nextLine().trim();
+        System.out.print("Enter end date (YYYY-MM-DD) or press Enter for today: ");
+        String toStr = scanner.nextLine().trim();
+        
+        Date fromDate;
+        Date toDate;
+        try {
+            fromDate = Date.valueOf(fromStr);
+            toDate = toStr.isEmpty() ? new Date(System.currentTimeMillis()) : Date.valueOf(toStr);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+            return;
+        }
+        
+        Map<Date, Double> correlations =
+            analyticsService.calculateRollingCorrelation(symbolA, symbolB, fromDate, toDate, windowDays);
+        
+        if (correlations.isEmpty()) {
+            System.out.println("Not enough overlapping price data for " + symbolA + " and " + symbolB +
+                               " between " + fromDate + " and " + toDate);
+            return;
+        }
+        
+        System.out.println("\n=== " + windowDays + "-DAY CORRELATION " + symbolA + "/" + symbolB + " ===");
+        System.out.printf("%-12s %-12s%n", "WINDOW_END", "CORRELATION");
+        System.out.println("=".repeat(25));
+        
+        List<Map.Entry<Date, Double>> entries = new ArrayList<>(correlations.entrySet());
+        int shown = 0;
+        for (int i = entries.size() - 1; i >= 0 && shown < 20; i--, shown++) {
+            Map.Entry<Date, Double> entry = entries.get(i);
+            System.out.printf("%-12s %-12s%n", entry.getKey(),
+                             entry.getValue().isNaN() ? "N/A" : String.format("%.4f", entry.getValue()));
+        }
+        
+        System.out.println("\nShowing " + shown + " of " + entries.size() + " windows");
+    }
+    
+    /**
+     * Show sector rollups: one sector over a date range, or every sector on one date
+     */
+    private void viewSectorRollups() {
+        System.out.println("\n=== SECTOR ROLLUPS ===");
+        
+        System.out.print("Rebuild rollups for a date range first? (y/n): ");
+        if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+            System.out.print("Enter start date (YYYY-MM-DD): ");
+            String fromStr = scanner.nextLine().trim();
+            System.out.print("Enter end date (YYYY-MM-DD): ");
+            String toStr = scanner.nextLine().trim();
+            try {
+                int rows = sectorService.refreshSectorRollups(Date.valueOf(fromStr), Date.valueOf(toStr));
+                System.out.println(rows >= 0 ? "Sector rollups rebuilt." : "Failed to rebuild sector rollups.");
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+                return;
+            }
+        }
+        
+        List<String> sectors = sectorService.getSectors();
+        if (sectors.isEmpty()) {
+            System.out.println("No sector rollups available. Rebuild them for a date range first.");
+            return;
+        }
+        System.out.println("Sectors: " + String.join(", ", sectors));
+        
+        System.out.print("Enter sector (or press Enter for all sectors on one date): ");
+        String sector = scanner.nextLine().trim();
+        
+        List<SectorRollup> rollups;
+        Date fromDate = null;
+        Date toDate = null;
+        try {
+            if (sector.isEmpty()) {
+                Date latest = sectorService.getLatestRollupDate();
+                System.out.print("Enter date (YYYY-MM-DD) or press Enter for " + latest + ": ");
+                String dateStr = scanner.nextLine().trim();
+                rollups = sectorService.getSectorSnapshot(dateStr.isEmpty() ? latest : Date.valueOf(dateStr));
+            } else {
+                System.out.print("Enter start date (YYYY-MM-DD): ");
+                fromDate = Date.valueOf(scanner.nextLine().trim());
+                System.out.print("Enter end date (YYYY-MM-DD): ");
+                toDate = Date.valueOf(scanner.nextLine().trim());
+                rollups = sectorService.getSectorRollups(sector, fromDate, toDate);
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+            return;
+        }
+        
+        if (rollups == null || rollups.isEmpty()) {
+            System.out.println("No sector rollups found.");
+            return;
+        }
+        
+        System.out.printf("%-24s %-12s %-8s %-12s %-12s %-10s %-16s %-20s%n",
+                         "SECTOR", "DATE", "STOCKS", "EQ_RET%", "CAP_RET%", "AVG_VOL%", "VOLUME", "TURNOVER");
+        System.out.println("=".repeat(120));
+        for (SectorRollup rollup : rollups) {
+            System.out.printf("%-24s %-12s %-8d %-12s %-12s %-10s %-16s %-20s%n",
+                             rollup.getSector(), rollup.getTradeDate(), rollup.getSymbolCount(),
+                             formatDecimal(rollup.getEqualWeightedReturn()),
+                             formatDecimal(rollup.getCapWeightedReturn()),
+                             formatDecimal(rollup.getAvgVolatility()),
+                             rollup.getTotalVolume() != null ? rollup.getTotalVolume() : "N/A",
+                             formatDecimal(rollup.getTotalTurnover()));
+        }
+        
+        if (sector.isEmpty()) {
+            return;
+        }
+        
+        Map<String, List<StockAnalytics>> constituents =
+            sectorService.getSectorConstituentAnalytics(sector, fromDate, toDate);
+        if (constituents == null || constituents.isEmpty()) {
+            return;
+        }
+        
+        System.out.println("\n=== CONSTITUENTS (" + fromDate + " to " + toDate + ") ===");
+        System.out.printf("%-12s %-8s %-12s %-12s%n", "SYMBOL", "DAYS", "AVG_VOL%", "AVG_CHG%");
+        System.out.println("=".repeat(46));
+        for (Map.Entry<String, List<StockAnalytics>> entry : constituents.entrySet()) {
+            System.out.printf("%-12s %-8d %-12s %-12s%n", entry.getKey(), entry.getValue().size(),
+                             formatDecimal(averageOf(entry.getValue(), StockAnalytics::getDailyVolatility)),
+                             formatDecimal(averageOf(entry.getValue(), StockAnalytics::getDailyPriceChange)));
+        }
+    }
+    
+    /**
+     * List, detect and record corporate actions, and toggle adjusted-price analytics
+     */
+    private void manageCorporateActions() {
+        System.out.println("\n=== CORPORATE ACTIONS ===");
+        System.out.println("Adjusted prices for analytics: " + (analyticsService.isUseAdjustedPrices() ? "ON" : "OFF"));
+        
+        System.out.print("Enter stock symbol (or press Enter to toggle adjusted prices): ");
+        String symbol = scanner.nextLine().trim().toUpperCase();
+        
+        if (symbol.isEmpty()) {
+            analyticsService.setUseAdjustedPrices(!analyticsService.isUseAdjustedPrices());
+            System.out.println("Adjusted prices for analytics: " + (analyticsService.isUseAdjustedPrices() ? "ON" : "OFF"));
+            return;
+        }
+        
+        String canonical = priceAdjustmentService.resolveSymbol(symbol);
+        if (!canonical.equals(symbol)) {
+            System.out.println(symbol + " is an alias of " + canonical);
+        }
+        List<String> aliases = priceAdjustmentService.getAliases(canonical);
+        if (!aliases.isEmpty()) {
+            System.out.println("Aliases folded into " + canonical + ": " + String.join(", ", aliases));
+        }
+        
+        List<CorporateAction> actions = priceAdjustmentService.getCorporateActions(symbol);
+        if (actions != null && !actions.isEmpty()) {
+            System.out.printf("%-12s %-8s %-14s %-40s%n", "EX_DATE", "TYPE", "PRICE_FACTOR", "DESCRIPTION");
+            System.out.println("=".repeat(76));
+            for (CorporateAction action : actions) {
+                System.out.printf("%-12s %-8s %-14s %-40s%n", action.getExDate(), action.getActionType(),
+                                 action.getPriceFactor(), action.getDescription() != null ? action.getDescription() : "");
+            }
+        } else {
+            System.out.println("No corporate actions recorded for " + symbol);
+        }
+        
+        System.out.print("\nScan " + symbol + " for unadjusted splits? (y/n): ");
+        if (!scanner.nextLine().trim().equalsIgnoreCase("y")) {
+            return;
+        }
+        
+        List<CorporateAction> candidates = priceAdjustmentService.detectSplits(symbol);
+        if (candidates == null || candidates.isEmpty()) {
+            System.out.println("No split candidates found.");
+            return;
+        }
+        
+        for (CorporateAction candidate : candidates) {
+            System.out.print(candidate.getExDate() + " factor " + candidate.getPriceFactor() + " (" +
+                             candidate.getDescription() + ") - record it? (y/n): ");
+            if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+                boolean recorded = priceAdjustmentService.recordCorporateAction(candidate);
+                System.out.println(recorded ? "Recorded." : "Failed to record corporate action.");
+            }
+        }
+    }
+    
+    /**
+     * Sweep a strategy's parameter grid over every symbol and show the best runs
+     */
+    private void runBacktestSweep() {
+        System.out.println("\n=== STRATEGY BACKTEST SWEEP ===");
+        System.out.println("1. SMA Crossover (fast 5-50 x slow 20-200)");
+        System.out.println("2. Volatility Breakout (ATR 5-30 x multiplier 0.5-3.0)");
+        System.out.print("Choose strategy: ");
+        String choice = scanner.nextLine().trim();
+        
+        List<StrategySpec> specs;
+        if (choice.equals("1")) {
+            specs = StrategySpec.smaCrossoverGrid(new int[]{5, 10, 15, 20, 30, 50},
+                                                  new int[]{20, 50, 100, 150, 200});
+        } else if (choice.equals("2")) {
+            specs = StrategySpec.volatilityBreakoutGrid(new int[]{5, 10, 14, 20, 30},
+                                                        new double[]{0.5, 1.0, 1.5, 2.0, 3.0});
+        } else {
+            System.out.println("Invalid choice!");
+            return;
+        }
+        
+        System.out.print("Enter start date (YYYY-MM-DD): ");
+        String fromStr = scanner.nextLine().trim();
+        System.out.print("Enter end date (YYYY-MM-DD) or press Enter for today: ");
+        String toStr = scanner.nextLine().trim();
+        
+        Date fromDate;
+        Date toDate;
+        try {
+            fromDate = Date.valueOf(fromStr);
+            toDate = toStr.isEmpty() ? new Date(System.currentTimeMillis()) : Date.valueOf(toStr);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+            return;
+        }
+        
+        long start = System.currentTimeMillis();
+        List<BacktestResult> results = backtestService.runSweep(fromDate, toDate, specs, true);
+        long elapsed = System.currentTimeMillis() - start;
+        
+        if (results == null || results.isEmpty()) {
+            System.out.println("No price data between " + fromDate + " and " + toDate);
+            return;
+        }
+        
+        System.out.println("\n=== TOP 20 RUNS BY SHARPE RATIO ===");
+        System.out.printf("%-12s %-20s %-10s %-10s %-8s %-8s %-8s%n",
+                         "SYMBOL", "STRATEGY", "RETURN%", "MAX_DD%", "SHARPE", "TRADES", "EXPOSED%");
+        System.out.println("=".repeat(82));
+        for (int i = 0; i < Math.min(20, results.size()); i++) {
+            BacktestResult result = results.get(i);
+            System.out.printf("%-12s %-20s %-10.2f %-10.2f %-8.2f %-8d %-8.1f%n",
+                             result.getSymbol(), result.getStrategy(), result.getTotalReturnPercent(),
+                             result.getMaxDrawdownPercent(), result.getSharpeRatio(), result.getTrades(),
+                             result.getExposurePercent());
+        }
+        
+        System.out.println("\nSimulations: " + results.size() + " in " + elapsed + " ms (including data load)");
+    }
+    
+    /**
+     * Historical and Monte Carlo VaR / expected shortfall for a set of positions
+     */
+    private void calculatePortfolioRisk() {
+        System.out.println("\n=== PORTFOLIO RISK ===");
+        System.out.print("Enter positions as SYMBOL:QUANTITY separated by commas (e.g., TCS:10,INFY:25): ");
+        String positionsStr = scanner.nextLine().trim();
+        
+        Map<String, Double> quantities = new LinkedHashMap<>();
+        try {
+            for (String position : positionsStr.split(",")) {
+                String[] parts = position.trim().split(":");
+                if (parts.length != 2) {
+                    System.out.println("Invalid position: " + position.trim());
+                    return;
+                }
+                quantities.merge(parts[0].trim().toUpperCase(), Double.parseDouble(parts[1].trim()), Double::sum);
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid quantity! Please enter numbers.");
+            return;
+        }
+        
+        System.out.print("Enter history start date (YYYY-MM-DD): ");
+        String fromStr = scanner.nextLine().trim();
+        System.out.print("Enter history end date (YYYY-MM-DD) or press Enter for today: ");
+        String toStr = scanner.nextLine().trim();
+        System.out.print("Enter confidence level (e.g., 0.99) or press Enter for 0.99: ");
+        String confidenceStr = scanner.nextLine().trim();
+        
+        Date fromDate;
+        Date toDate;
+        double confidence;
+        try {
+            fromDate = Date.valueOf(fromStr);
+            toDate = toStr.isEmpty() ? new Date(System.currentTimeMillis()) : Date.valueOf(toStr);
+            confidence = confidenceStr.isEmpty() ? 0.99 : Double.parseDouble(confidenceStr);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid input! Use YYYY-MM-DD dates and a confidence between 0 and 1.");
+            return;
+        }
+        if (confidence <= 0 || confidence >= 1) {
+            System.out.println("Confidence must be between 0 and 1.");
+            return;
+        }
+        
+        RiskReport report = riskService.calculatePortfolioRisk(quantities, fromDate, toDate, confidence);
+        if (report == null) {
+            System.out.println("Error calculating portfolio risk.");
+            return;
+        }
+        if (!report.getUnpricedSymbols().isEmpty()) {
+            System.out.println("No price data for: " + String.join(", ", report.getUnpricedSymbols()));
+        }
+        if (report.getHistoricalOneDay() == null) {
+            return;
+        }
+        
+        Map<String, List<StockAnalytics>> positionAnalytics =
+            analyticsService.getAnalyticsInRange(report.getPositionValues().keySet(), fromDate, toDate);
+        
+        System.out.println("\n=== POSITIONS ===");
+        System.out.printf("%-12s %15s %12s%n", "SYMBOL", "VALUE", "AVG_VOL%");
+        for (Map.Entry<String, Double> entry : report.getPositionValues().entrySet()) {
+            List<StockAnalytics> analytics = positionAnalytics != null ? positionAnalytics.get(entry.getKey()) : null;
+            System.out.printf("%-12s %15.2f %12s%n", entry.getKey(), entry.getValue(),
+                             formatDecimal(averageOf(analytics, StockAnalytics::getDailyVolatility)));
+        }
+        System.out.printf("%-12s %15.2f%n", "TOTAL", report.getPortfolioValue());
+        
+        System.out.printf("%n=== RISK AT %.1f%% CONFIDENCE ===%n", report.getConfidence() * 100);
+        System.out.printf("%-24s %-15s %-15s %-10s%n", "METHOD", "VaR", "ES", "SAMPLES");
+        System.out.println("=".repeat(66));
+        printRiskRow("Historical 1-day", report.getHistoricalOneDay());
+        printRiskRow("Historical " + report.getHorizonDays() + "-day", report.getHistoricalHorizon());
+        printRiskRow("Monte Carlo 1-day", report.getMonteCarloOneDay());
+        printRiskRow("Monte Carlo " + report.getHorizonDays() + "-day", report.getMonteCarloHorizon());
+    }
+    
+    /**
+     * View flagged anomalies by date or symbol, or re-run detection over stored history
+     */
+    private void viewPriceAnomalies() {
+        System.out.println("\n=== PRICE AND VOLUME ANOMALIES ===");
+        System.out.println("1. View anomalies by date range");
+        System.out.println("2. View anomalies for a stock");
+        System.out.println("3. Backfill anomalies for a stock");
+        System.out.println("4. Backfill anomalies for all stocks");
+        System.out.print("Choose option: ");
+        String choice = scanner.nextLine().trim();
+        
+        List<PriceAnomaly> anomalies;
+        switch (choice) {
+            case "1":
+                System.out.print("Enter start date (YYYY-MM-DD): ");
+                String fromStr = scanner.nextLine().trim();
+                System.out.print("Enter end date (YYYY-MM-DD) or press Enter for the same day: ");
+                String toStr = scanner.nextLine().trim();
+                try {
+                    Date fromDate = Date.valueOf(fromStr);
+                    Date toDate = toStr.isEmpty() ? fromDate : Date.valueOf(toStr);
+                    anomalies = anomalyService.getAnomalies(fromDate, toDate);
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+                    return;
+                }
+                break;
+            case "2":
+                System.out.print("Enter stock symbol: ");
+                anomalies = anomalyService.getAnomaliesForSymbol(scanner.nextLine().trim().toUpperCase());
+                break;
+            case "3":
+                System.out.print("Enter stock symbol: ");
+                String symbol = scanner.nextLine().trim().toUpperCase();
+                int written = anomalyService.backfillAnomalies(symbol);
+                System.out.println(written >= 0 ? "Flagged " + written + " anomalies for " + symbol
+                                                : "Error backfilling anomalies for " + symbol);
+                return;
+            case "4":
+                System.out.println("Flagged " + anomalyService.backfillAllAnomalies() + " anomalies across all stocks");
+                return;
+            default:
+                System.out.println("Invalid choice!");
+                return;
+        }
+        
+        if (anomalies == null || anomalies.isEmpty()) {
+            System.out.println("No anomalies found.");
+            return;
+        }
+        
+        System.out.printf("%-12s %-12s %-15s %-18s %-18s %-8s%n",
+                         "DATE", "SYMBOL", "TYPE", "OBSERVED", "BASELINE", "Z");
+        System.out.println("=".repeat(88));
+        for (PriceAnomaly anomaly : anomalies) {
+            boolean percent = !PriceAnomaly.TYPE_VOLUME_SPIKE.equals(anomaly.getAnomalyType());
+            System.out.printf("%-12s %-12s %-15s %-18s %-18s %-8.2f%n",
+                             anomaly.getTradeDate(), anomaly.getSymbol(), anomaly.getAnomalyType(),
+                             String.format(percent ? "%.2f%%" : "%,.0f", anomaly.getObservedValue()),
+                             String.format(percent ? "%.2f%%" : "%,.0f", anomaly.getBaselineValue()),
+                             anomaly.getZScore());
+        }
+    }
+    
+    /**
+     * View cross-sectional percentile ranks, or bring the rank table up to date
+     */
+    private void viewPercentileRanks() {
+        System.out.println("\n=== DAILY PERCENTILE RANKS ===");
+        System.out.println("1. View all stocks on a date");
+        System.out.println("2. View a stock's rank history");
+        System.out.println("3. Update ranks for new dates");
+        System.out.println("4. Rebuild all ranks");
+        System.out.print("Choose option: ");
+        String choice = scanner.nextLine().trim();
+        
+        List<PercentileRank> ranks;
+        try {
+            switch (choice) {
+                case "1":
+                    System.out.print("Enter trade date (YYYY-MM-DD): ");
+                    ranks = percentileRankService.getPercentileRanks(Date.valueOf(scanner.nextLine().trim()));
+                    break;
+                case "2":
+                    System.out.print("Enter stock symbol: ");
+                    String symbol = scanner.nextLine().trim().toUpperCase();
+                    System.out.print("Enter start date (YYYY-MM-DD): ");
+                    Date fromDate = Date.valueOf(scanner.nextLine().trim());
+                    System.out.print("Enter end date (YYYY-MM-DD) or press Enter for today: ");
+                    String toStr = scanner.nextLine().trim();
+                    Date toDate = toStr.isEmpty() ? new Date(System.currentTimeMillis()) : Date.valueOf(toStr);
+                    ranks = percentileRankService.getPercentileHistory(symbol, fromDate, toDate);
+                    break;
+                case "3":
+                    System.out.println("Rows written: " + percentileRankService.updatePercentileRanks());
+                    return;
+                case "4":
+                    System.out.println("Rows written: " + percentileRankService.rebuildPercentileRanks());
+                    return;
+                default:
+                    System.out.println("Invalid choice!");
+                    return;
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+            return;
+        }
+        
+        if (ranks == null || ranks.isEmpty()) {
+            System.out.println("No percentile ranks found.");
+            return;
+        }
+        
+        System.out.printf("%-12s %-12s %-12s %-12s %-12s%n", "DATE", "SYMBOL", "RETURN", "VOLUME", "VOLATILITY");
+        System.out.println("=".repeat(64));
+        for (PercentileRank rank : ranks) {
+            System.out.printf("%-12s %-12s %-12s %-12s %-12s%n", rank.getTradeDate(), rank.getSymbol(),
+                             formatPercentile(rank.getReturnPercentile()),
+                             formatPercentile(rank.getVolumePercentile()),
+                             formatPercentile(rank.getVolatilityPercentile()));
+        }
+    }
+    
+    /**
+     * Show how far a stock is from its high and its 1/3/5 year returns as of a date
+     */
+    private void viewDrawdownAndReturns() {
+        System.out.print("Enter stock symbol: ");
+        String symbol = scanner.nextLine().trim().toUpperCase();
+        System.out.print("Enter date (YYYY-MM-DD) or press Enter for latest: ");
+        String dateStr = scanner.nextLine().trim();
+        
+        Date date;
+        try {
+            date = dateStr.isEmpty() ? new Date(System.currentTimeMillis()) : Date.valueOf(dateStr);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+            return;
+        }
+        
+        System.out.print("Refresh stored return series first? (y/n): ");
+        if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+            int written = analyticsService.refreshReturnSeries(symbol);
+            System.out.println(written >= 0 ? "Rows written: " + written : "Error refreshing return series.");
+        }
+        
+        ReturnPoint point = analyticsService.getReturnPoint(symbol, date);
+        if (point == null) {
+            System.out.println("No return series for " + symbol + " on or before " + date +
+                             " (refresh it first if the stock has price data)");
+            return;
+        }
+        
+        System.out.println("\n=== DRAWDOWN AND RETURNS: " + point.getSymbol() + " as of " + point.getTradeDate() + " ===");
+        System.out.println("Close:             " + formatDecimal(point.getClosePrice()));
+        System.out.println("All-time high:     " + formatDecimal(point.getRunningMax()));
+        System.out.println("Drawdown:          " + formatPercent(point.getDrawdown()));
+        System.out.println("Cumulative return: " + formatPercent(point.getCumulativeReturn()));
+        System.out.println("1 year return:     " + formatPercent(point.getReturn1y()));
+        System.out.println("3 year return:     " + formatPercent(point.getReturn3y()));
+        System.out.println("5 year return:     " + formatPercent(point.getReturn5y()));
+    }
+    
+    private String formatPercent(BigDecimal value) {
+        return value != null ? String.format("%.2f%%", value) : "N/A";
+    }
+    
+    private String formatRankingPercent(BigDecimal value) {
+        return value != null ? String.format("%.4f%%", value) : "N/A";
+    }
+    
+    private String formatPercentile(BigDecimal value) {
+        return value != null ? String.format("%.1f%%", value.doubleValue() * 100) : "N/A";
+    }
+    
+    private void printRiskRow(String method, RiskMeasures measures) {
+        if (measures == null) {
+            System.out.printf("%-24s %-15s %-15s %-10s%n", method, "N/A", "N/A", "N/A");
+            return;
+        }
+        System.out.printf("%-24s %-15.2f %-15.2f %-10d%n", method, measures.getValueAtRisk(),
+                         measures.getExpectedShortfall(), measures.getSampleSize());
+    }
+    
+    private String formatDecimal(Object value) {
+        return value != null ? String.format("%.2f", value) : "N/A";
+    }
+    
+    /**
+     * Average of one analytics field over the rows that have it, or null when none do
+     */
+    private BigDecimal averageOf(List<StockAnalytics> rows, Function<StockAnalytics, BigDecimal> field) {
+        if (rows == null) {
+            return null;
+        }
+        BigDecimal sum = BigDecimal.ZERO;
+        int count = 0;
+        for (StockAnalytics row : rows) {
+            BigDecimal value = field.apply(row);
+            if (value != null) {
+                sum = sum.add(value);
+                count++;
+            }
+        }
+        return count > 0 ? sum.divide(BigDecimal.valueOf(count), 4, RoundingMode.HALF_UP) : null;
+    }
+    
     /**
      * Close scanner resources
      */
@@ -1,11 +1,17 @@
 package com.revature.stocks.controllers;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 import java.util.logging.Logger;
 
 import com.revature.stocks.model.DailyPrice;
+import com.revature.stocks.model.PriceBar;
+import com.revature.stocks.model.Resolution;
 import com.revature.stocks.model.Stock;
 import com.revature.stocks.services.CSVImportService;
 import com.revature.stocks.services.StockService;
@@ -45,6 +51,9 @@ public class StockController {
             System.out.println("8. Get Price History");
             System.out.println("9. Get Stock Summary");
             System.out.println("10. Get Available Symbols");
+            System.out.println("11. View Cache Statistics");
+            System.out.println("12. Latest Prices (All Stocks)");
+            System.out.println("13. Compare Price History");
             System.out.println("0. Exit");
             System.out.print("Enter your choice: ");
             
@@ -82,6 +91,16 @@ public class StockController {
                     case 10:
                         getAvailableSymbols();
                         break;
+                    case 11:
+                        System.out.println(stockService.getStockCacheStats());
+                        System.out.println(stockService.getPriceHistoryCacheStats());
+                        break;
+                    case 12:
+                        viewAllLatestPrices();
+                        break;
+                    case 13:
+                        comparePriceHistory();
+                        break;
                     case 0:
                         exit = true;
                         System.out.println("Exiting Stock Management...");
@@ -370,6 +389,31 @@ public class StockController {
         }
     }
     
+    /**
+     * Dashboard of every stock's latest close
+     */
+    private void viewAllLatestPrices() {
+        System.out.println("\n=== LATEST PRICES ===");
+        
+        Map<String, DailyPrice> latestPrices = stockService.getAllLatestPrices();
+        if (latestPrices == null || latestPrices.isEmpty()) {
+            System.out.println("No price data found.");
+            return;
+        }
+        
+        System.out.printf("%-12s %-12s %-12s %-12s %-15s%n", "SYMBOL", "DATE", "CLOSE", "CHANGE%", "VOLUME");
+        System.out.println("=".repeat(67));
+        for (DailyPrice price : latestPrices.values()) {
+            String change = "N/A";
+            if (price.getPrevClose() != null && price.getPrevClose().signum() > 0 && price.getClosePrice() != null) {
+                change = String.format("%.2f", price.getClosePrice().subtract(price.getPrevClose())
+                    .multiply(BigDecimal.valueOf(100)).divide(price.getPrevClose(), 2, RoundingMode.HALF_UP));
+            }
+            System.out.printf("%-12s %-12s %-12s %-12s %-15s%n", price.getSymbol(), price.getTradeDate(),
+                             price.getClosePrice(), change, price.getVolume());
+        }
+    }
+    
     /**
      * Get price history for a stock
      */
@@ -384,6 +428,18 @@ public class StockController {
             return;
         }
         
+        System.out.print("Enter resolution - (D)aily, (W)eekly, (M)onthly, (Y)early (default Daily): ");
+        String resolutionStr = scanner.nextLine().trim();
+        Resolution resolution = Resolution.DAILY;
+        
+        if (!resolutionStr.isEmpty()) {
+            try {
+                resolution = Resolution.fromString(resolutionStr);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid resolution. Using daily prices.");
+            }
+        }
+        
         System.out.print("Enter number of recent records to display (default 10): ");
         String limitStr = scanner.nextLine().trim();
         int limit = 10;
@@ -395,34 +451,166 @@ public class StockController {
                 System.out.println("Invalid number format. Using default limit of 10.");
             }
         }
+        if (limit <= 0) {
+            System.out.println("Limit must be positive. Using default limit of 10.");
+            limit = 10;
+        }
+        
+        if (resolution != Resolution.DAILY) {
+            displayPriceBars(symbol, resolution, limit);
+            return;
+        }
         
-        List<DailyPrice> priceHistory = stockService.getPriceHistory(symbol);
+        // Page backwards from the newest record; each page starts before the last date shown
+        Date beforeDate = null;
+        int shown = 0;
+        
+        while (true) {
+            List<DailyPrice> page = stockService.getPriceHistoryPage(symbol, beforeDate, limit);
+            
+            if (page == null || page.isEmpty()) {
+                System.out.println(shown == 0 ? "No price history found for: " + symbol : "No more records.");
+                return;
+            }
+            
+            if (shown == 0) {
+                System.out.println("\n=== PRICE HISTORY FOR " + symbol + " ===");
+                System.out.printf("%-12s %-10s %-10s %-10s %-10s %-12s%n", 
+                                 "DATE", "OPEN", "HIGH", "LOW", "CLOSE", "VOLUME");
+                System.out.println("=".repeat(70));
+            }
+            
+            for (DailyPrice price : page) {
+                System.out.printf("%-12s %-10s %-10s %-10s %-10s %-12s%n",
+                                 price.getTradeDate(),
+                                 price.getOpenPrice(),
+                                 price.getHighPrice(),
+                                 price.getLowPrice(),
+                                 price.getClosePrice(),
+                                 price.getVolume() != null ? price.getVolume() : "N/A");
+            }
+            shown += page.size();
+            beforeDate = page.get(page.size() - 1).getTradeDate();
+            
+            System.out.println("\nShowing the " + shown + " most recent records");
+            if (page.size() < limit) {
+                return;
+            }
+            System.out.print("Enter 'n' for the next page, or press Enter to return: ");
+            if (!scanner.nextLine().trim().equalsIgnoreCase("n")) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Display resampled price bars for a stock
+     */
+    private void displayPriceBars(String symbol, Resolution resolution, int limit) {
+        List<PriceBar> bars = stockService.getPriceHistory(symbol, resolution);
         
-        if (priceHistory == null || priceHistory.isEmpty()) {
+        if (bars == null || bars.isEmpty()) {
             System.out.println("No price history found for: " + symbol);
             return;
         }
         
-        System.out.println("\n=== PRICE HISTORY FOR " + symbol + " ===");
-        System.out.printf("%-12s %-10s %-10s %-10s %-10s %-12s%n", 
-                         "DATE", "OPEN", "HIGH", "LOW", "CLOSE", "VOLUME");
-        System.out.println("=".repeat(70));
+        System.out.println("\n=== " + resolution + " PRICE HISTORY FOR " + symbol + " ===");
+        System.out.printf("%-12s %-6s %-10s %-10s %-10s %-10s %-10s %-14s%n", 
+                         "PERIOD", "DAYS", "OPEN", "HIGH", "LOW", "CLOSE", "VWAP", "VOLUME");
+        System.out.println("=".repeat(90));
         
         int count = 0;
-        for (DailyPrice price : priceHistory) {
+        for (PriceBar bar : bars) {
             if (count >= limit) break;
             
-            System.out.printf("%-12s %-10s %-10s %-10s %-10s %-12s%n",
-                             price.getTradeDate(),
-                             price.getOpenPrice(),
-                             price.getHighPrice(),
-                             price.getLowPrice(),
-                             price.getClosePrice(),
-                             price.getVolume() != null ? price.getVolume() : "N/A");
+            System.out.printf("%-12s %-6d %-10s %-10s %-10s %-10s %-10s %-14s%n",
+                             bar.getPeriodStart(),
+                             bar.getTradingDays(),
+                             bar.getOpenPrice(),
+                             bar.getHighPrice(),
+                             bar.getLowPrice(),
+                             bar.getClosePrice(),
+                             bar.getVwap() != null ? bar.getVwap() : "N/A",
+                             bar.getVolume() != null ? bar.getVolume() : "N/A");
             count++;
         }
         
-        System.out.println("\nShowing " + count + " of " + priceHistory.size() + " total records");
+        System.out.println("\nShowing " + count + " of " + bars.size() + " total bars");
+    }
+    
+    /**
+     * Compare the price history of several stocks over a date range
+     */
+    private void comparePriceHistory() {
+        System.out.println("\n=== COMPARE PRICE HISTORY ===");
+        
+        System.out.print("Enter stock symbols separated by commas (e.g., TCS,INFY,WIPRO): ");
+        List<String> symbols = new ArrayList<>();
+        for (String symbol : scanner.nextLine().split(",")) {
+            if (!symbol.trim().isEmpty()) {
+                symbols.add(symbol.trim().toUpperCase());
+            }
+        }
+        
+        if (symbols.isEmpty()) {
+            System.out.println("Enter at least one symbol!");
+            return;
+        }
+        
+        System.out.print("Enter start date (YYYY-MM-DD): ");
+        String fromStr = scanner.nextLine().trim();
+        System.out.print("Enter end date (YYYY-MM-DD) or press Enter for today: ");
+        String toStr = scanner.nextLine().trim();
+        
+        Date fromDate;
+        Date toDate;
+        try {
+            fromDate = Date.valueOf(fromStr);
+            toDate = toStr.isEmpty() ? new Date(System.currentTimeMillis()) : Date.valueOf(toStr);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid date format! Please use YYYY-MM-DD format.");
+            return;
+        }
+        
+        Map<String, List<DailyPrice>> histories = stockService.getPriceHistoryInRange(symbols, fromDate, toDate);
+        
+        if (histories == null) {
+            System.out.println("Error retrieving price history.");
+            return;
+        }
+        
+        System.out.println("\n=== PRICE COMPARISON (" + fromDate + " to " + toDate + ") ===");
+        System.out.printf("%-12s %-6s %-12s %-12s %-10s %-12s %-12s%n",
+                         "SYMBOL", "DAYS", "FIRST_CLOSE", "LAST_CLOSE", "CHANGE%", "HIGH", "LOW");
+        System.out.println("=".repeat(82));
+        
+        for (String symbol : symbols) {
+            List<DailyPrice> history = histories.get(symbol);
+            if (history == null || history.isEmpty()) {
+                System.out.printf("%-12s %-6s%n", symbol, "N/A");
+                continue;
+            }
+            
+            // Histories are newest first
+            BigDecimal first = history.get(history.size() - 1).getClosePrice();
+            BigDecimal last = history.get(0).getClosePrice();
+            BigDecimal high = null;
+            BigDecimal low = null;
+            for (DailyPrice price : history) {
+                if (price.getHighPrice() != null && (high == null || price.getHighPrice().compareTo(high) > 0)) {
+                    high = price.getHighPrice();
+                }
+                if (price.getLowPrice() != null && (low == null || price.getLowPrice().compareTo(low) < 0)) {
+                    low = price.getLowPrice();
+                }
+            }
+            String change = first != null && last != null && first.signum() != 0
+                ? last.subtract(first).multiply(BigDecimal.valueOf(100)).divide(first, 2, RoundingMode.HALF_UP) + "%"
+                : "N/A";
+            
+            System.out.printf("%-12s %-6d %-12s %-12s %-10s %-12s %-12s%n",
+                             symbol, history.size(), first, last, change, high, low);
+        }
     }
     
     /**
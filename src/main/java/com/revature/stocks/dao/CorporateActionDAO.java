@@ -0,0 +1,202 @@
+package com.revature.stocks.dao;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.model.CorporateAction;
+import com.revature.stocks.model.SymbolAlias;
+import com.revature.stocks.util.QueryConstants;
+
+/**
+ * CorporateAction Data Access Object
+ * Handles all database operations for CorporateAction and SymbolAlias entities
+ */
+public class CorporateActionDAO {
+
+    private static final Logger logger = Logger.getLogger(CorporateActionDAO.class.getName());
+    private DatabaseConfig dbConfig;
+
+    public CorporateActionDAO() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+
+    /**
+     * Insert or update a corporate action
+     */
+    public boolean insertOrUpdateAction(CorporateAction action) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.INSERT_CORPORATE_ACTION);
+            statement.setString(1, action.getSymbol());
+            statement.setDate(2, action.getExDate());
+            statement.setString(3, action.getActionType());
+            statement.setBigDecimal(4, action.getPriceFactor());
+            statement.setString(5, action.getDescription());
+
+            int rowsAffected = statement.executeUpdate();
+            logger.info("Corporate action inserted/updated: " + action.getSymbol() + " " +
+                       action.getActionType() + " on " + action.getExDate() + ", Rows affected: " + rowsAffected);
+            return rowsAffected > 0;
+
+        } catch (SQLException e) {
+            logger.severe("Error inserting/updating corporate action for " + action.getSymbol() + ": " + e.getMessage());
+            return false;
+        } finally {
+            closeResources(connection, statement, null);
+        }
+    }
+
+    /**
+     * Find corporate actions by symbol, oldest first
+     */
+    public List<CorporateAction> findBySymbol(String symbol) {
+        List<CorporateAction> actions = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_CORPORATE_ACTIONS_BY_SYMBOL);
+            statement.setString(1, symbol);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                actions.add(mapResultSetToAction(resultSet));
+            }
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving corporate actions for " + symbol + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return actions;
+    }
+
+    /**
+     * Delete a corporate action
+     */
+    public boolean deleteAction(String symbol, Date exDate, String actionType) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.DELETE_CORPORATE_ACTION);
+            statement.setString(1, symbol);
+            statement.setDate(2, exDate);
+            statement.setString(3, actionType);
+
+            int rowsAffected = statement.executeUpdate();
+            logger.info("Corporate action deleted: " + symbol + " " + actionType + " on " + exDate +
+                       ", Rows affected: " + rowsAffected);
+            return rowsAffected > 0;
+
+        } catch (SQLException e) {
+            logger.severe("Error deleting corporate action for " + symbol + ": " + e.getMessage());
+            return false;
+        } finally {
+            closeResources(connection, statement, null);
+        }
+    }
+
+    /**
+     * Insert or update a symbol alias
+     */
+    public boolean insertOrUpdateAlias(SymbolAlias alias) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.INSERT_SYMBOL_ALIAS);
+            statement.setString(1, alias.getAliasSymbol());
+            statement.setString(2, alias.getCanonicalSymbol());
+            statement.setString(3, alias.getDescription());
+
+            int rowsAffected = statement.executeUpdate();
+            logger.info("Symbol alias inserted/updated: " + alias.getAliasSymbol() + " -> " +
+                       alias.getCanonicalSymbol() + ", Rows affected: " + rowsAffected);
+            return rowsAffected > 0;
+
+        } catch (SQLException e) {
+            logger.severe("Error inserting/updating symbol alias " + alias.getAliasSymbol() + ": " + e.getMessage());
+            return false;
+        } finally {
+            closeResources(connection, statement, null);
+        }
+    }
+
+    /**
+     * Find all symbol aliases
+     */
+    public List<SymbolAlias> findAllAliases() {
+        List<SymbolAlias> aliases = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_ALL_SYMBOL_ALIASES);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                SymbolAlias alias = new SymbolAlias();
+                alias.setAliasSymbol(resultSet.getString("alias_symbol"));
+                alias.setCanonicalSymbol(resultSet.getString("canonical_symbol"));
+                alias.setDescription(resultSet.getString("description"));
+                alias.setCreatedDate(resultSet.getTimestamp("created_date"));
+                aliases.add(alias);
+            }
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving symbol aliases: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return aliases;
+    }
+
+    /**
+     * Map ResultSet to CorporateAction object
+     */
+    private CorporateAction mapResultSetToAction(ResultSet resultSet) throws SQLException {
+        CorporateAction action = new CorporateAction();
+        action.setId(resultSet.getLong("id"));
+        action.setSymbol(resultSet.getString("symbol"));
+        action.setExDate(resultSet.getDate("ex_date"));
+        action.setActionType(resultSet.getString("action_type"));
+        action.setPriceFactor(resultSet.getBigDecimal("price_factor"));
+        action.setDescription(resultSet.getString("description"));
+        action.setCreatedDate(resultSet.getTimestamp("created_date"));
+        return action;
+    }
+
+    /**
+     * Close database resources
+     */
+    private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) resultSet.close();
+            if (statement != null) statement.close();
+            if (connection != null) connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database resources: " + e.getMessage());
+        }
+    }
+}
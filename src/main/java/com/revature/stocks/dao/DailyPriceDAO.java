@@ -7,11 +7,28 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.revature.stocks.analytics.PricePyramidCache;
+import com.revature.stocks.cache.DataVersion;
+import com.revature.stocks.cache.LatestPriceBoard;
+import com.revature.stocks.cache.PriceHistoryCache;
 import com.revature.stocks.config.DatabaseConfig;
 import com.revature.stocks.model.DailyPrice;
+import com.revature.stocks.model.PriceSeries;
+import com.revature.stocks.model.PriceSeries.Projection;
 import com.revature.stocks.util.QueryConstants;
 
 
@@ -21,6 +38,11 @@ import com.revature.stocks.util.QueryConstants;
 public class DailyPriceDAO {
     
     private static final Logger logger = Logger.getLogger(DailyPriceDAO.class.getName());
+    
+    // Connector/J streams rows one at a time only for this fetch size on a forward-only,
+    // read-only statement; any other value buffers the whole result client-side
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    
     private DatabaseConfig dbConfig;
     
     public DailyPriceDAO() {
@@ -72,6 +94,12 @@ public class DailyPriceDAO {
             statement.setBigDecimal(15, dailyPrice.getDeliverablePercentage());
             
             int rowsAffected = statement.executeUpdate();
+            if (rowsAffected > 0) {
+                PricePyramidCache.getInstance().onDailyPrice(dailyPrice);
+                LatestPriceBoard.getInstance().offer(dailyPrice);
+                PriceHistoryCache.getInstance().invalidate(dailyPrice.getSymbol());
+                DataVersion.DAILY_PRICES.bump();
+            }
             logger.info("Daily price inserted/updated: " + dailyPrice.getSymbol() + 
                        " for " + dailyPrice.getTradeDate() + ", Rows affected: " + rowsAffected);
             
@@ -147,6 +175,45 @@ public class DailyPriceDAO {
     }
     
 
+     // Find one page of a symbol's daily prices, newest first: up to limit rows strictly
+     // before the given trade date (null for the first page). The (symbol, trade_date)
+     // index serves each page directly, however deep it is.
+
+    public List<DailyPrice> findPageBySymbol(String symbol, Date beforeDate, int limit) {
+        List<DailyPrice> dailyPrices = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = dbConfig.getConnection();
+            if (beforeDate == null) {
+                statement = connection.prepareStatement(QueryConstants.SELECT_DAILY_PRICES_FIRST_PAGE);
+                statement.setString(1, symbol);
+                statement.setInt(2, limit);
+            } else {
+                statement = connection.prepareStatement(QueryConstants.SELECT_DAILY_PRICES_PAGE_BEFORE);
+                statement.setString(1, symbol);
+                statement.setDate(2, beforeDate);
+                statement.setInt(3, limit);
+            }
+            
+            resultSet = statement.executeQuery();
+            
+            while (resultSet.next()) {
+                dailyPrices.add(mapResultSetToDailyPrice(resultSet));
+            }
+            
+        } catch (SQLException e) {
+            logger.severe("Error retrieving daily price page for " + symbol + " before " + beforeDate + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        return dailyPrices;
+    }
+    
+
       //Find daily prices within date range
 
     public List<DailyPrice> findBySymbolAndDateRange(String symbol, Date startDate, Date endDate) {
@@ -182,6 +249,174 @@ public class DailyPriceDAO {
     }
     
 
+     // Find daily prices for several symbols within a date range in a single query,
+     // keyed by symbol with each list newest first; symbols without prices in the
+     // range are absent
+
+    public Map<String, List<DailyPrice>> findBySymbolsAndDateRange(Collection<String> symbols,
+                                                                    Date startDate, Date endDate) {
+        Map<String, List<DailyPrice>> pricesBySymbol = new LinkedHashMap<>();
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(symbols));
+        if (distinct.isEmpty()) {
+            return pricesBySymbol;
+        }
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.inList(
+                QueryConstants.SELECT_DAILY_PRICES_FOR_SYMBOLS_BY_DATE_RANGE, distinct.size()));
+            int index = bindSymbols(statement, distinct);
+            statement.setDate(index++, startDate);
+            statement.setDate(index, endDate);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                DailyPrice dailyPrice = mapResultSetToDailyPrice(resultSet);
+                pricesBySymbol.computeIfAbsent(dailyPrice.getSymbol(), key -> new ArrayList<>()).add(dailyPrice);
+            }
+
+            logger.info("Retrieved daily prices for " + pricesBySymbol.size() + " of " + distinct.size() +
+                       " symbols between " + startDate + " and " + endDate);
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving daily prices for " + distinct.size() + " symbols in date range: " +
+                         e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return pricesBySymbol;
+    }
+
+
+     // Load a symbol's history as a primitive column series, oldest first, with only the projected
+     // columns filled in; the close and OHLC projections are answered from idx_daily_prices_ohlc
+     // without reading table rows
+
+    public PriceSeries findSeriesBySymbol(String symbol, Projection projection) {
+        PriceSeries series = new PriceSeries(symbol);
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(seriesBySymbolQuery(projection));
+            statement.setString(1, symbol);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                appendSeriesRow(series, resultSet, projection);
+            }
+
+            logger.info("Loaded price series of " + series.size() + " days for " + symbol);
+
+        } catch (SQLException e) {
+            logger.severe("Error loading price series for " + symbol + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return series;
+    }
+
+
+     // Load every symbol's prices in a date range as column series, keyed by symbol, with only
+     // the projected columns filled in
+
+    public Map<String, PriceSeries> findAllSeriesInRange(Date startDate, Date endDate, Projection projection) {
+        Map<String, PriceSeries> seriesBySymbol = new LinkedHashMap<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(seriesInRangeQuery(projection));
+            statement.setDate(1, startDate);
+            statement.setDate(2, endDate);
+
+            resultSet = statement.executeQuery();
+            readSeriesBySymbol(resultSet, projection, seriesBySymbol);
+
+            logger.info("Loaded price series for " + seriesBySymbol.size() + " symbols between " +
+                       startDate + " and " + endDate);
+
+        } catch (SQLException e) {
+            logger.severe("Error loading price series between " + startDate + " and " + endDate + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return seriesBySymbol;
+    }
+
+
+     // Load several symbols' prices in a date range as projected column series in a single
+     // query, keyed by symbol; symbols without prices in the range are absent
+
+    public Map<String, PriceSeries> findSeriesForSymbols(Collection<String> symbols, Date startDate,
+                                                         Date endDate, Projection projection) {
+        Map<String, PriceSeries> seriesBySymbol = new LinkedHashMap<>();
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(symbols));
+        if (distinct.isEmpty()) {
+            return seriesBySymbol;
+        }
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.inList(seriesForSymbolsQuery(projection),
+                                                                          distinct.size()));
+            int index = bindSymbols(statement, distinct);
+            statement.setDate(index++, startDate);
+            statement.setDate(index, endDate);
+
+            resultSet = statement.executeQuery();
+            readSeriesBySymbol(resultSet, projection, seriesBySymbol);
+
+            logger.info("Loaded price series for " + seriesBySymbol.size() + " of " + distinct.size() +
+                       " symbols between " + startDate + " and " + endDate);
+
+        } catch (SQLException e) {
+            logger.severe("Error loading price series for " + distinct.size() + " symbols between " +
+                         startDate + " and " + endDate + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return seriesBySymbol;
+    }
+
+
+     // Asynchronous variants, run on the DaoExecutor
+
+    public CompletableFuture<DailyPrice> getLatestPriceAsync(String symbol) {
+        return DaoExecutor.getInstance().submit(() -> getLatestPrice(symbol));
+    }
+
+    public CompletableFuture<Date[]> getDateRangeForSymbolAsync(String symbol) {
+        return DaoExecutor.getInstance().submit(() -> getDateRangeForSymbol(symbol));
+    }
+
+    public CompletableFuture<List<DailyPrice>> findBySymbolAndDateRangeAsync(String symbol, Date startDate, Date endDate) {
+        return DaoExecutor.getInstance().submit(() -> findBySymbolAndDateRange(symbol, startDate, endDate));
+    }
+
+    public CompletableFuture<PriceSeries> findSeriesBySymbolAsync(String symbol, Projection projection) {
+        return DaoExecutor.getInstance().submit(() -> findSeriesBySymbol(symbol, projection));
+    }
+
+
      // Get latest price for a symbol
 
     public DailyPrice getLatestPrice(String symbol) {
@@ -210,6 +445,38 @@ public class DailyPriceDAO {
     }
     
 
+     // Get every symbol's latest price in one query, keyed by symbol; null on error
+
+    public Map<String, DailyPrice> findLatestPrices() {
+        Map<String, DailyPrice> latestPrices = new HashMap<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_LATEST_PRICES_FOR_ALL_SYMBOLS);
+            
+            resultSet = statement.executeQuery();
+            
+            while (resultSet.next()) {
+                DailyPrice price = mapResultSetToDailyPrice(resultSet);
+                latestPrices.put(price.getSymbol(), price);
+            }
+            
+            logger.info("Retrieved latest prices for " + latestPrices.size() + " symbols");
+            
+        } catch (SQLException e) {
+            logger.severe("Error retrieving latest prices: " + e.getMessage());
+            return null;
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        return latestPrices;
+    }
+    
+
      // Get all daily prices
 
     public List<DailyPrice> findAllDailyPrices() {
@@ -239,6 +506,38 @@ public class DailyPriceDAO {
     }
     
 
+     // Stream every daily price (newest first) through a server-side cursor. The stream
+     // holds a connection until closed, so use it in try-with-resources; a read error
+     // mid-stream is thrown as IllegalStateException. Returns an empty stream if the
+     // query cannot be opened.
+
+    public Stream<DailyPrice> streamAllDailyPrices() {
+        return streamDailyPrices(QueryConstants.SELECT_ALL_DAILY_PRICES, "all symbols");
+    }
+    
+
+     // Stream all daily prices for a symbol (newest first); see streamAllDailyPrices
+
+    public Stream<DailyPrice> streamBySymbol(String symbol) {
+        return streamDailyPrices(QueryConstants.SELECT_DAILY_PRICES_BY_SYMBOL, symbol, symbol);
+    }
+    
+
+     // Pass every daily price (newest first) to the action in constant memory;
+     // returns the number of rows visited, or -1 on error
+
+    public long forEachDailyPrice(Consumer<? super DailyPrice> action) {
+        return forEach(streamAllDailyPrices(), action, "all symbols");
+    }
+    
+
+     // Pass all daily prices for a symbol (newest first) to the action; see forEachDailyPrice
+
+    public long forEachBySymbol(String symbol, Consumer<? super DailyPrice> action) {
+        return forEach(streamBySymbol(symbol), action, symbol);
+    }
+    
+
      // Get date range for a symbol
 
     public Date[] getDateRangeForSymbol(String symbol) {
@@ -269,6 +568,95 @@ public class DailyPriceDAO {
     }
     
 
+     // Get the first and last trade dates across all symbols
+
+    public Date[] getTradeDateRange() {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.GET_TRADE_DATE_RANGE);
+            
+            resultSet = statement.executeQuery();
+            
+            if (resultSet.next() && resultSet.getDate("start_date") != null) {
+                return new Date[]{resultSet.getDate("start_date"), resultSet.getDate("end_date")};
+            }
+            
+        } catch (SQLException e) {
+            logger.severe("Error getting trade date range: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        return null;
+    }
+    
+
+     // Open a streaming query and expose its rows as a lazy stream that closes the
+     // result set, statement and connection when the stream is closed
+
+    private Stream<DailyPrice> streamDailyPrices(String sql, String description, String... parameters) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAMING_FETCH_SIZE);
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setString(i + 1, parameters[i]);
+            }
+            resultSet = statement.executeQuery();
+            
+        } catch (SQLException e) {
+            logger.severe("Error opening daily price stream for " + description + ": " + e.getMessage());
+            closeResources(connection, statement, resultSet);
+            return Stream.empty();
+        }
+        
+        Connection openConnection = connection;
+        PreparedStatement openStatement = statement;
+        ResultSet rows = resultSet;
+        Spliterator<DailyPrice> spliterator = new Spliterators.AbstractSpliterator<DailyPrice>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super DailyPrice> action) {
+                try {
+                    if (!rows.next()) {
+                        return false;
+                    }
+                    action.accept(mapResultSetToDailyPrice(rows));
+                    return true;
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Error streaming daily prices for " + description + ": " +
+                                                    e.getMessage(), e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false)
+                            .onClose(() -> closeResources(openConnection, openStatement, rows));
+    }
+    
+    private long forEach(Stream<DailyPrice> prices, Consumer<? super DailyPrice> action, String description) {
+        long[] count = new long[1];
+        try (Stream<DailyPrice> stream = prices) {
+            stream.forEach(price -> {
+                action.accept(price);
+                count[0]++;
+            });
+            logger.info("Streamed " + count[0] + " daily prices for " + description);
+            return count[0];
+        } catch (IllegalStateException e) {
+            logger.severe(e.getMessage());
+            return -1;
+        }
+    }
+
+
      // Map ResultSet to DailyPrice object
 
     private DailyPrice mapResultSetToDailyPrice(ResultSet resultSet) throws SQLException {
@@ -307,7 +695,88 @@ public class DailyPriceDAO {
         
         return dailyPrice;
     }
-    
+
+
+     // Append one projected row to a series; columns outside the projection are NaN
+
+    private void appendSeriesRow(PriceSeries series, ResultSet resultSet, Projection projection) throws SQLException {
+        boolean ohlc = projection != Projection.CLOSE;
+        boolean all = projection == Projection.ALL;
+        series.append(resultSet.getDate("trade_date"),
+                      ohlc ? resultSet.getDouble("open_price") : Double.NaN,
+                      ohlc ? resultSet.getDouble("high_price") : Double.NaN,
+                      ohlc ? resultSet.getDouble("low_price") : Double.NaN,
+                      resultSet.getDouble("close_price"),
+                      all ? getNullableDouble(resultSet, "prev_close") : Double.NaN,
+                      all ? getNullableDouble(resultSet, "volume") : Double.NaN,
+                      all ? getNullableDouble(resultSet, "turnover") : Double.NaN);
+    }
+
+
+     // Split rows ordered by symbol, trade_date into one series per symbol
+
+    private void readSeriesBySymbol(ResultSet resultSet, Projection projection,
+                                    Map<String, PriceSeries> seriesBySymbol) throws SQLException {
+        PriceSeries current = null;
+        while (resultSet.next()) {
+            String symbol = resultSet.getString("symbol");
+            if (current == null || !current.getSymbol().equals(symbol)) {
+                current = new PriceSeries(symbol);
+                seriesBySymbol.put(symbol, current);
+            }
+            appendSeriesRow(current, resultSet, projection);
+        }
+    }
+
+
+     // Bind the symbols of an IN list from the first parameter; returns the next parameter index
+
+    private int bindSymbols(PreparedStatement statement, List<String> symbols) throws SQLException {
+        int index = 1;
+        for (String symbol : symbols) {
+            statement.setString(index++, symbol);
+        }
+        return index;
+    }
+
+    private static String seriesBySymbolQuery(Projection projection) {
+        switch (projection) {
+            case CLOSE:
+                return QueryConstants.SELECT_CLOSE_SERIES_BY_SYMBOL;
+            case OHLC:
+                return QueryConstants.SELECT_OHLC_SERIES_BY_SYMBOL;
+            default:
+                return QueryConstants.SELECT_PRICE_SERIES_BY_SYMBOL;
+        }
+    }
+
+    private static String seriesForSymbolsQuery(Projection projection) {
+        switch (projection) {
+            case CLOSE:
+                return QueryConstants.SELECT_CLOSE_SERIES_FOR_SYMBOLS;
+            case OHLC:
+                return QueryConstants.SELECT_OHLC_SERIES_FOR_SYMBOLS;
+            default:
+                return QueryConstants.SELECT_PRICE_SERIES_FOR_SYMBOLS;
+        }
+    }
+
+    private static String seriesInRangeQuery(Projection projection) {
+        switch (projection) {
+            case CLOSE:
+                return QueryConstants.SELECT_ALL_CLOSE_SERIES_BY_DATE_RANGE;
+            case OHLC:
+                return QueryConstants.SELECT_ALL_OHLC_SERIES_BY_DATE_RANGE;
+            default:
+                return QueryConstants.SELECT_ALL_PRICE_SERIES_BY_DATE_RANGE;
+        }
+    }
+
+    private double getNullableDouble(ResultSet resultSet, String column) throws SQLException {
+        double value = resultSet.getDouble(column);
+        return resultSet.wasNull() ? Double.NaN : value;
+    }
+
 
     private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
         try {
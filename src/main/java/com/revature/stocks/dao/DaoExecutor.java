@@ -0,0 +1,67 @@
+package com.revature.stocks.dao;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.revature.stocks.config.DatabaseConfig;
+
+/**
+ * DaoExecutor Class
+ * Runs DAO calls asynchronously, one virtual thread per call. Each DAO call opens its own
+ * connection, so at most db.connection.pool.size calls run at once and the rest wait for a
+ * permit. A submitted call must not itself wait on another submitted call, or it can hold a
+ * permit the other one needs.
+ */
+public final class DaoExecutor {
+
+    public static final String POOL_SIZE_PROPERTY = "db.connection.pool.size";
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private static final Logger logger = Logger.getLogger(DaoExecutor.class.getName());
+    private static final DaoExecutor instance = new DaoExecutor(loadPoolSize());
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    private DaoExecutor(int poolSize) {
+        this.permits = new Semaphore(poolSize, true);
+    }
+
+    public static DaoExecutor getInstance() {
+        return instance;
+    }
+
+    /**
+     * Run a DAO call on its own virtual thread once a connection permit is free
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return call.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    private static int loadPoolSize() {
+        String value = DatabaseConfig.getInstance().getProperty(POOL_SIZE_PROPERTY, String.valueOf(DEFAULT_POOL_SIZE));
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            logger.warning("Invalid " + POOL_SIZE_PROPERTY + " '" + value + "', using " + DEFAULT_POOL_SIZE);
+            return DEFAULT_POOL_SIZE;
+        }
+    }
+}
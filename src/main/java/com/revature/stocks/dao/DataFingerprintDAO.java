@@ -0,0 +1,74 @@
+package com.revature.stocks.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.logging.Logger;
+
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.util.QueryConstants;
+
+/**
+ * DataFingerprint Data Access Object
+ * Reads a cheap fingerprint of the tables behind the process-wide caches from indexed
+ * high-water marks: the highest id, trade date or update timestamp of the large tables, and
+ * row counts only of the small stocks and alias tables. New and revised prices and analytics,
+ * analytics cleanup (the earliest analysis date moves) and any change to stocks or aliases
+ * (deleting a stock cascades to its prices) change it.
+ */
+public class DataFingerprintDAO {
+
+    private static final Logger logger = Logger.getLogger(DataFingerprintDAO.class.getName());
+    private DatabaseConfig dbConfig;
+
+    public DataFingerprintDAO() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+
+    /**
+     * Current fingerprint as "column=value;..." text, or null if it could not be read
+     */
+    public String getFingerprint() {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_DATA_FINGERPRINT);
+            resultSet = statement.executeQuery();
+
+            if (resultSet.next()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                StringBuilder fingerprint = new StringBuilder();
+                for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                    fingerprint.append(metaData.getColumnLabel(column)).append('=')
+                               .append(resultSet.getString(column)).append(';');
+                }
+                return fingerprint.toString();
+            }
+
+        } catch (SQLException e) {
+            logger.severe("Error reading data fingerprint: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return null;
+    }
+
+    /**
+     * Close database resources
+     */
+    private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) resultSet.close();
+            if (statement != null) statement.close();
+            if (connection != null) connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database resources: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.revature.stocks.dao;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.model.CrossSection;
+import com.revature.stocks.model.PercentileRank;
+import com.revature.stocks.util.QueryConstants;
+
+/**
+ * PercentileRank Data Access Object
+ * Loads per-date cross-sections from daily_prices and stock_analytics and maintains the
+ * daily_percentile_ranks table
+ */
+public class PercentileRankDAO {
+
+    private static final Logger logger = Logger.getLogger(PercentileRankDAO.class.getName());
+    private static final int BATCH_SIZE = 500;
+    private DatabaseConfig dbConfig;
+
+    public PercentileRankDAO() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+
+    /**
+     * Load one cross-section per trade date in a range, oldest first
+     */
+    public List<CrossSection> loadCrossSections(Date startDate, Date endDate) {
+        List<CrossSection> sections = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_CROSS_SECTIONS_BY_DATE_RANGE);
+            statement.setDate(1, startDate);
+            statement.setDate(2, endDate);
+
+            resultSet = statement.executeQuery();
+
+            CrossSection current = null;
+            int rows = 0;
+            while (resultSet.next()) {
+                Date tradeDate = resultSet.getDate("trade_date");
+                if (current == null || !current.getTradeDate().equals(tradeDate)) {
+                    current = new CrossSection(tradeDate);
+                    sections.add(current);
+                }
+
+                double close = toDouble(resultSet.getBigDecimal("close_price"));
+                double prevClose = toDouble(resultSet.getBigDecimal("prev_close"));
+                long volume = resultSet.getLong("volume");
+                double volumeValue = resultSet.wasNull() ? Double.NaN : volume;
+                double dailyReturn = prevClose > 0 ? (close - prevClose) / prevClose * 100 : Double.NaN;
+
+                current.add(resultSet.getString("symbol"), dailyReturn, volumeValue,
+                            toDouble(resultSet.getBigDecimal("daily_volatility")));
+                rows++;
+            }
+
+            logger.info("Loaded " + sections.size() + " cross-sections (" + rows + " rows) between " +
+                       startDate + " and " + endDate);
+
+        } catch (SQLException e) {
+            logger.severe("Error loading cross-sections between " + startDate + " and " + endDate + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return sections;
+    }
+
+    /**
+     * Insert or update percentile ranks in batches, committing once per batch
+     */
+    public int insertOrUpdateBatch(List<PercentileRank> ranks) {
+        if (ranks.isEmpty()) {
+            return 0;
+        }
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        int rowsWritten = 0;
+
+        try {
+            connection = dbConfig.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(QueryConstants.INSERT_PERCENTILE_RANK);
+
+            int pending = 0;
+            for (PercentileRank rank : ranks) {
+                statement.setString(1, rank.getSymbol());
+                statement.setDate(2, rank.getTradeDate());
+                setDecimal(statement, 3, rank.getReturnPercentile());
+                setDecimal(statement, 4, rank.getVolumePercentile());
+                setDecimal(statement, 5, rank.getVolatilityPercentile());
+                statement.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    connection.commit();
+                    rowsWritten += pending;
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                rowsWritten += pending;
+            }
+
+            logger.info("Percentile ranks inserted/updated: " + rowsWritten + " rows");
+
+        } catch (SQLException e) {
+            logger.severe("Error writing percentile rank batch after " + rowsWritten + " rows: " + e.getMessage());
+            rollback(connection);
+        } finally {
+            closeResources(connection, statement, null);
+        }
+
+        return rowsWritten;
+    }
+
+    /**
+     * Find every symbol's ranks on one trade date, best return first
+     */
+    public List<PercentileRank> findByDate(Date tradeDate) {
+        return query(QueryConstants.SELECT_PERCENTILE_RANKS_BY_DATE, null, tradeDate, null);
+    }
+
+    /**
+     * Find one symbol's ranks within a date range, newest first
+     */
+    public List<PercentileRank> findBySymbolAndDateRange(String symbol, Date startDate, Date endDate) {
+        return query(QueryConstants.SELECT_PERCENTILE_RANKS_BY_SYMBOL_AND_DATE_RANGE, symbol, startDate, endDate);
+    }
+
+    /**
+     * Latest trade date that has been ranked, or null when nothing has
+     */
+    public Date getLatestRankedDate() {
+        return queryDate(QueryConstants.GET_LATEST_PERCENTILE_RANK_DATE, "latest_date");
+    }
+
+    /**
+     * Earliest ranked date that was ranked before its volatility was calculated, or null
+     */
+    public Date getEarliestStaleDate() {
+        return queryDate(QueryConstants.GET_EARLIEST_STALE_PERCENTILE_RANK_DATE, "stale_date");
+    }
+
+    private Date queryDate(String sql, String column) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(sql);
+
+            resultSet = statement.executeQuery();
+
+            if (resultSet.next()) {
+                return resultSet.getDate(column);
+            }
+
+        } catch (SQLException e) {
+            logger.severe("Error getting percentile rank " + column + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return null;
+    }
+
+    private List<PercentileRank> query(String sql, String symbol, Date startDate, Date endDate) {
+        List<PercentileRank> ranks = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(sql);
+            int index = 1;
+            if (symbol != null) {
+                statement.setString(index++, symbol);
+            }
+            statement.setDate(index++, startDate);
+            if (endDate != null) {
+                statement.setDate(index, endDate);
+            }
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                ranks.add(mapResultSetToPercentileRank(resultSet));
+            }
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving percentile ranks: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return ranks;
+    }
+
+    /**
+     * Map ResultSet to PercentileRank object
+     */
+    private PercentileRank mapResultSetToPercentileRank(ResultSet resultSet) throws SQLException {
+        PercentileRank rank = new PercentileRank();
+        rank.setId(resultSet.getLong("id"));
+        rank.setSymbol(resultSet.getString("symbol"));
+        rank.setTradeDate(resultSet.getDate("trade_date"));
+        rank.setReturnPercentile(resultSet.getBigDecimal("return_percentile"));
+        rank.setVolumePercentile(resultSet.getBigDecimal("volume_percentile"));
+        rank.setVolatilityPercentile(resultSet.getBigDecimal("volatility_percentile"));
+        rank.setUpdatedDate(resultSet.getTimestamp("updated_date"));
+        return rank;
+    }
+
+    private void setDecimal(PreparedStatement statement, int index, BigDecimal value) throws SQLException {
+        if (value != null) {
+            statement.setBigDecimal(index, value);
+        } else {
+            statement.setNull(index, Types.DECIMAL);
+        }
+    }
+
+    private double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private void rollback(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                logger.warning("Error rolling back percentile rank batch: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Close database resources
+     */
+    private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) resultSet.close();
+            if (statement != null) statement.close();
+            if (connection != null) connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database resources: " + e.getMessage());
+        }
+    }
+}
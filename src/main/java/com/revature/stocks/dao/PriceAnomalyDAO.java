@@ -0,0 +1,215 @@
+package com.revature.stocks.dao;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.model.PriceAnomaly;
+import com.revature.stocks.util.QueryConstants;
+
+/**
+ * PriceAnomaly Data Access Object
+ * Handles all database operations for PriceAnomaly entity
+ */
+public class PriceAnomalyDAO {
+
+    private static final Logger logger = Logger.getLogger(PriceAnomalyDAO.class.getName());
+    private static final int BATCH_SIZE = 500;
+    private DatabaseConfig dbConfig;
+
+    public PriceAnomalyDAO() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+
+    /**
+     * Insert or update anomalies in batches, committing once per batch
+     */
+    public int insertOrUpdateBatch(List<PriceAnomaly> anomalies) {
+        if (anomalies.isEmpty()) {
+            return 0;
+        }
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        int rowsWritten = 0;
+
+        try {
+            connection = dbConfig.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(QueryConstants.INSERT_PRICE_ANOMALY);
+
+            int pending = 0;
+            for (PriceAnomaly anomaly : anomalies) {
+                statement.setString(1, anomaly.getSymbol());
+                statement.setDate(2, anomaly.getTradeDate());
+                statement.setString(3, anomaly.getAnomalyType());
+                statement.setBigDecimal(4, toDecimal(anomaly.getObservedValue(), 6));
+                statement.setBigDecimal(5, toDecimal(anomaly.getBaselineValue(), 6));
+                statement.setBigDecimal(6, toDecimal(anomaly.getZScore(), 4));
+                statement.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    connection.commit();
+                    rowsWritten += pending;
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                rowsWritten += pending;
+            }
+
+            logger.info("Price anomalies inserted/updated: " + rowsWritten + " rows");
+
+        } catch (SQLException e) {
+            logger.severe("Error writing price anomaly batch after " + rowsWritten + " rows: " + e.getMessage());
+            rollback(connection);
+        } finally {
+            closeResources(connection, statement, null);
+        }
+
+        return rowsWritten;
+    }
+
+    /**
+     * Delete all anomalies of a symbol (before a full backfill)
+     */
+    public int deleteBySymbol(String symbol) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.DELETE_PRICE_ANOMALIES_BY_SYMBOL);
+            statement.setString(1, symbol);
+
+            int rowsAffected = statement.executeUpdate();
+            logger.info("Price anomalies deleted for " + symbol + ", Rows affected: " + rowsAffected);
+            return rowsAffected;
+
+        } catch (SQLException e) {
+            logger.severe("Error deleting price anomalies for " + symbol + ": " + e.getMessage());
+            return -1;
+        } finally {
+            closeResources(connection, statement, null);
+        }
+    }
+
+    /**
+     * Find anomalies of all symbols within a date range, newest and strongest first
+     */
+    public List<PriceAnomaly> findByDateRange(Date startDate, Date endDate) {
+        List<PriceAnomaly> anomalies = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_PRICE_ANOMALIES_BY_DATE_RANGE);
+            statement.setDate(1, startDate);
+            statement.setDate(2, endDate);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                anomalies.add(mapResultSetToPriceAnomaly(resultSet));
+            }
+
+            logger.info("Retrieved " + anomalies.size() + " price anomalies between " + startDate + " and " + endDate);
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving price anomalies between " + startDate + " and " + endDate +
+                         ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return anomalies;
+    }
+
+    /**
+     * Find anomalies of one symbol, newest first
+     */
+    public List<PriceAnomaly> findBySymbol(String symbol) {
+        List<PriceAnomaly> anomalies = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_PRICE_ANOMALIES_BY_SYMBOL);
+            statement.setString(1, symbol);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                anomalies.add(mapResultSetToPriceAnomaly(resultSet));
+            }
+
+            logger.info("Retrieved " + anomalies.size() + " price anomalies for " + symbol);
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving price anomalies for " + symbol + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return anomalies;
+    }
+
+    /**
+     * Map ResultSet to PriceAnomaly object
+     */
+    private PriceAnomaly mapResultSetToPriceAnomaly(ResultSet resultSet) throws SQLException {
+        PriceAnomaly anomaly = new PriceAnomaly();
+        anomaly.setId(resultSet.getLong("id"));
+        anomaly.setSymbol(resultSet.getString("symbol"));
+        anomaly.setTradeDate(resultSet.getDate("trade_date"));
+        anomaly.setAnomalyType(resultSet.getString("anomaly_type"));
+        anomaly.setObservedValue(resultSet.getDouble("observed_value"));
+        anomaly.setBaselineValue(resultSet.getDouble("baseline_value"));
+        anomaly.setZScore(resultSet.getDouble("z_score"));
+        anomaly.setCreatedDate(resultSet.getTimestamp("created_date"));
+        return anomaly;
+    }
+
+    private BigDecimal toDecimal(double value, int scale) {
+        return Double.isFinite(value) ? BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP) : null;
+    }
+
+    private void rollback(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                logger.warning("Error rolling back price anomaly batch: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Close database resources
+     */
+    private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) resultSet.close();
+            if (statement != null) statement.close();
+            if (connection != null) connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database resources: " + e.getMessage());
+        }
+    }
+}
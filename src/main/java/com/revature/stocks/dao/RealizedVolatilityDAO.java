@@ -0,0 +1,188 @@
+package com.revature.stocks.dao;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.revature.stocks.cache.DataVersion;
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.model.RealizedVolatility;
+import com.revature.stocks.model.VolatilityRankRow;
+import com.revature.stocks.util.QueryConstants;
+
+/**
+ * RealizedVolatility Data Access Object
+ * Handles all database operations for RealizedVolatility entity
+ */
+public class RealizedVolatilityDAO {
+
+    private static final Logger logger = Logger.getLogger(RealizedVolatilityDAO.class.getName());
+    private static final int BATCH_SIZE = 500;
+    private DatabaseConfig dbConfig;
+
+    public RealizedVolatilityDAO() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+
+    /**
+     * Insert or update realized volatility rows in batches, committing once per batch
+     */
+    public int insertOrUpdateBatch(List<RealizedVolatility> volatilities) {
+        if (volatilities.isEmpty()) {
+            return 0;
+        }
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        int rowsWritten = 0;
+
+        try {
+            connection = dbConfig.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(QueryConstants.INSERT_REALIZED_VOLATILITY);
+
+            int pending = 0;
+            for (RealizedVolatility volatility : volatilities) {
+                statement.setString(1, volatility.getSymbol());
+                statement.setDate(2, volatility.getAnalysisDate());
+                statement.setInt(3, volatility.getWindowDays());
+                statement.setBigDecimal(4, volatility.getRealizedVolatility());
+                statement.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    connection.commit();
+                    rowsWritten += pending;
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                rowsWritten += pending;
+            }
+            DataVersion.REALIZED_VOLATILITY.bump();
+
+            logger.info("Realized volatility inserted/updated: " + rowsWritten + " rows for " +
+                       volatilities.get(0).getSymbol());
+
+        } catch (SQLException e) {
+            logger.severe("Error writing realized volatility batch after " + rowsWritten + " rows: " + e.getMessage());
+            rollback(connection);
+            if (rowsWritten > 0) {
+                DataVersion.REALIZED_VOLATILITY.bump();
+            }
+        } finally {
+            closeResources(connection, statement, null);
+        }
+
+        return rowsWritten;
+    }
+
+    /**
+     * Find realized volatility by symbol for one window length
+     */
+    public List<RealizedVolatility> findBySymbol(String symbol, int windowDays) {
+        List<RealizedVolatility> volatilities = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_REALIZED_VOLATILITY_BY_SYMBOL);
+            statement.setString(1, symbol);
+            statement.setInt(2, windowDays);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                volatilities.add(mapResultSetToRealizedVolatility(resultSet));
+            }
+
+            logger.info("Retrieved " + volatilities.size() + " realized volatility records for " + symbol);
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving realized volatility for " + symbol + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return volatilities;
+    }
+
+    /**
+     * Rank stocks by average realized volatility since a date
+     */
+    public List<VolatilityRankRow> rankStocksByRealizedVolatility(Date fromDate, int windowDays) {
+        List<VolatilityRankRow> results = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.RANK_STOCKS_BY_REALIZED_VOLATILITY);
+            statement.setInt(1, windowDays);
+            statement.setDate(2, fromDate);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                results.add(new VolatilityRankRow(resultSet.getString("symbol"),
+                                                  resultSet.getBigDecimal("avg_volatility"),
+                                                  resultSet.getBigDecimal("max_volatility")));
+            }
+
+        } catch (SQLException e) {
+            logger.severe("Error ranking stocks by realized volatility: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return results;
+    }
+
+    /**
+     * Map ResultSet to RealizedVolatility object
+     */
+    private RealizedVolatility mapResultSetToRealizedVolatility(ResultSet resultSet) throws SQLException {
+        RealizedVolatility volatility = new RealizedVolatility();
+        volatility.setId(resultSet.getLong("id"));
+        volatility.setSymbol(resultSet.getString("symbol"));
+        volatility.setAnalysisDate(resultSet.getDate("analysis_date"));
+        volatility.setWindowDays(resultSet.getInt("window_days"));
+        volatility.setRealizedVolatility(resultSet.getBigDecimal("realized_volatility"));
+        volatility.setCreatedDate(resultSet.getTimestamp("created_date"));
+        return volatility;
+    }
+
+    private void rollback(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                logger.warning("Error rolling back realized volatility batch: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Close database resources
+     */
+    private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) resultSet.close();
+            if (statement != null) statement.close();
+            if (connection != null) connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database resources: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.revature.stocks.dao;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.model.ReturnPoint;
+import com.revature.stocks.util.QueryConstants;
+
+/**
+ * ReturnSeries Data Access Object
+ * Handles all database operations for the return_series table
+ */
+public class ReturnSeriesDAO {
+
+    private static final Logger logger = Logger.getLogger(ReturnSeriesDAO.class.getName());
+    private static final int BATCH_SIZE = 500;
+    private DatabaseConfig dbConfig;
+
+    public ReturnSeriesDAO() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+
+    /**
+     * Insert or update return points in batches, committing once per batch
+     */
+    public int insertOrUpdateBatch(List<ReturnPoint> points) {
+        if (points.isEmpty()) {
+            return 0;
+        }
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        int rowsWritten = 0;
+
+        try {
+            connection = dbConfig.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(QueryConstants.INSERT_RETURN_POINT);
+
+            int pending = 0;
+            for (ReturnPoint point : points) {
+                statement.setString(1, point.getSymbol());
+                statement.setDate(2, point.getTradeDate());
+                setDecimal(statement, 3, point.getClosePrice());
+                setDecimal(statement, 4, point.getRunningMax());
+                setDecimal(statement, 5, point.getDrawdown());
+                setDecimal(statement, 6, point.getCumulativeReturn());
+                setDecimal(statement, 7, point.getReturn1y());
+                setDecimal(statement, 8, point.getReturn3y());
+                setDecimal(statement, 9, point.getReturn5y());
+                statement.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    connection.commit();
+                    rowsWritten += pending;
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                rowsWritten += pending;
+            }
+
+            logger.info("Return series inserted/updated: " + rowsWritten + " rows for " + points.get(0).getSymbol());
+
+        } catch (SQLException e) {
+            logger.severe("Error writing return series batch after " + rowsWritten + " rows: " + e.getMessage());
+            rollback(connection);
+        } finally {
+            closeResources(connection, statement, null);
+        }
+
+        return rowsWritten;
+    }
+
+    /**
+     * Find a symbol's stored return series, oldest first
+     */
+    public List<ReturnPoint> findBySymbol(String symbol) {
+        List<ReturnPoint> points = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_RETURN_SERIES_BY_SYMBOL);
+            statement.setString(1, symbol);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                points.add(mapResultSetToReturnPoint(resultSet));
+            }
+
+            logger.info("Retrieved " + points.size() + " return series rows for " + symbol);
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving return series for " + symbol + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return points;
+    }
+
+    /**
+     * Find a symbol's most recent stored return point, or null when none is stored
+     */
+    public ReturnPoint findLatestBySymbol(String symbol) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_LATEST_RETURN_POINT_BY_SYMBOL);
+            statement.setString(1, symbol);
+
+            resultSet = statement.executeQuery();
+
+            if (resultSet.next()) {
+                return mapResultSetToReturnPoint(resultSet);
+            }
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving latest return point for " + symbol + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return null;
+    }
+
+    /**
+     * Delete a symbol's stored return series
+     */
+    public boolean deleteBySymbol(String symbol) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.DELETE_RETURN_SERIES_BY_SYMBOL);
+            statement.setString(1, symbol);
+
+            int rowsAffected = statement.executeUpdate();
+            logger.info("Return series deleted for " + symbol + ", Rows affected: " + rowsAffected);
+            return true;
+
+        } catch (SQLException e) {
+            logger.severe("Error deleting return series for " + symbol + ": " + e.getMessage());
+            return false;
+        } finally {
+            closeResources(connection, statement, null);
+        }
+    }
+
+    /**
+     * Map ResultSet to ReturnPoint object
+     */
+    private ReturnPoint mapResultSetToReturnPoint(ResultSet resultSet) throws SQLException {
+        ReturnPoint point = new ReturnPoint();
+        point.setSymbol(resultSet.getString("symbol"));
+        point.setTradeDate(resultSet.getDate("trade_date"));
+        point.setClosePrice(resultSet.getBigDecimal("close_price"));
+        point.setRunningMax(resultSet.getBigDecimal("running_max"));
+        point.setDrawdown(resultSet.getBigDecimal("drawdown"));
+        point.setCumulativeReturn(resultSet.getBigDecimal("cumulative_return"));
+        point.setReturn1y(resultSet.getBigDecimal("return_1y"));
+        point.setReturn3y(resultSet.getBigDecimal("return_3y"));
+        point.setReturn5y(resultSet.getBigDecimal("return_5y"));
+        return point;
+    }
+
+    private void setDecimal(PreparedStatement statement, int index, BigDecimal value) throws SQLException {
+        if (value != null) {
+            statement.setBigDecimal(index, value);
+        } else {
+            statement.setNull(index, Types.DECIMAL);
+        }
+    }
+
+    private void rollback(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                logger.warning("Error rolling back return series batch: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Close database resources
+     */
+    private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) resultSet.close();
+            if (statement != null) statement.close();
+            if (connection != null) connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database resources: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.revature.stocks.dao;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.model.SectorRollup;
+import com.revature.stocks.util.QueryConstants;
+
+/**
+ * SectorRollup Data Access Object
+ * Maintains and reads the materialized sector_daily_rollups table
+ */
+public class SectorRollupDAO {
+
+    private static final Logger logger = Logger.getLogger(SectorRollupDAO.class.getName());
+    private DatabaseConfig dbConfig;
+
+    public SectorRollupDAO() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+
+    /**
+     * Recompute the rollups of every sector for the trade dates in a range
+     */
+    public int refreshRollups(Date startDate, Date endDate) {
+        return refresh(QueryConstants.REFRESH_SECTOR_ROLLUPS, startDate, endDate, null);
+    }
+
+    /**
+     * Recompute the rollups of one sector for the trade dates in a range
+     */
+    public int refreshRollups(String sector, Date startDate, Date endDate) {
+        return refresh(QueryConstants.REFRESH_SECTOR_ROLLUPS_FOR_SECTOR, startDate, endDate, sector);
+    }
+
+    /**
+     * Find all rollups, ordered by sector and trade date
+     */
+    public List<SectorRollup> findAll() {
+        return query(QueryConstants.SELECT_ALL_SECTOR_ROLLUPS, null, null);
+    }
+
+    /**
+     * Find rollups of all sectors within a date range
+     */
+    public List<SectorRollup> findByDateRange(Date startDate, Date endDate) {
+        return query(QueryConstants.SELECT_SECTOR_ROLLUPS_BY_DATE_RANGE, startDate, endDate);
+    }
+
+    private int refresh(String sql, Date startDate, Date endDate, String sector) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(sql);
+            statement.setDate(1, startDate);
+            statement.setDate(2, endDate);
+            if (sector != null) {
+                statement.setString(3, sector);
+            }
+
+            int rowsAffected = statement.executeUpdate();
+            logger.info("Sector rollups refreshed" + (sector != null ? " for " + sector : "") +
+                       " between " + startDate + " and " + endDate + ", Rows affected: " + rowsAffected);
+            return rowsAffected;
+
+        } catch (SQLException e) {
+            logger.severe("Error refreshing sector rollups between " + startDate + " and " + endDate +
+                         ": " + e.getMessage());
+            return -1;
+        } finally {
+            closeResources(connection, statement, null);
+        }
+    }
+
+    private List<SectorRollup> query(String sql, Date startDate, Date endDate) {
+        List<SectorRollup> rollups = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(sql);
+            if (startDate != null) {
+                statement.setDate(1, startDate);
+                statement.setDate(2, endDate);
+            }
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                rollups.add(mapResultSetToSectorRollup(resultSet));
+            }
+
+            logger.info("Retrieved " + rollups.size() + " sector rollup records");
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving sector rollups: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return rollups;
+    }
+
+    /**
+     * Map ResultSet to SectorRollup object
+     */
+    private SectorRollup mapResultSetToSectorRollup(ResultSet resultSet) throws SQLException {
+        SectorRollup rollup = new SectorRollup();
+        rollup.setId(resultSet.getLong("id"));
+        rollup.setSector(resultSet.getString("sector"));
+        rollup.setTradeDate(resultSet.getDate("trade_date"));
+        rollup.setSymbolCount(resultSet.getInt("symbol_count"));
+        rollup.setEqualWeightedReturn(resultSet.getBigDecimal("equal_weighted_return"));
+        rollup.setCapWeightedReturn(resultSet.getBigDecimal("cap_weighted_return"));
+        rollup.setAvgVolatility(resultSet.getBigDecimal("avg_volatility"));
+        long totalVolume = resultSet.getLong("total_volume");
+        rollup.setTotalVolume(resultSet.wasNull() ? null : totalVolume);
+        rollup.setTotalTurnover(resultSet.getBigDecimal("total_turnover"));
+        rollup.setCreatedDate(resultSet.getTimestamp("created_date"));
+        rollup.setUpdatedDate(resultSet.getTimestamp("updated_date"));
+        return rollup;
+    }
+
+    /**
+     * Close database resources
+     */
+    private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) resultSet.close();
+            if (statement != null) statement.close();
+            if (connection != null) connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database resources: " + e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package com.revature.stocks.dao;
 
+import com.revature.stocks.analytics.RankingIndex;
+import com.revature.stocks.cache.DataVersion;
 import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.model.AnalyticsTotals;
+import com.revature.stocks.model.MovingAveragePoint;
+import com.revature.stocks.model.PerformanceRow;
+import com.revature.stocks.model.PriceChangePoint;
+import com.revature.stocks.model.PriceGapPoint;
 import com.revature.stocks.model.StockAnalytics;
+import com.revature.stocks.model.VolatilityPoint;
+import com.revature.stocks.model.VolatilityRankRow;
 import com.revature.stocks.util.QueryConstants;
 
 import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 /**
@@ -19,6 +32,7 @@ import java.util.logging.Logger;
 public class StockAnalyticsDAO {
     
     private static final Logger logger = Logger.getLogger(StockAnalyticsDAO.class.getName());
+    private static final int BATCH_SIZE = 500;
     private DatabaseConfig dbConfig;
     
     public StockAnalyticsDAO() {
@@ -35,19 +49,12 @@ public class StockAnalyticsDAO {
         try {
             connection = dbConfig.getConnection();
             statement = connection.prepareStatement(QueryConstants.INSERT_STOCK_ANALYTICS);
-            
-            statement.setString(1, analytics.getSymbol());
-            statement.setDate(2, analytics.getAnalysisDate());
-            statement.setBigDecimal(3, analytics.getDailyVolatility());
-            statement.setBigDecimal(4, analytics.getDailyPriceChange());
-            statement.setBigDecimal(5, analytics.getPriceGap());
-            statement.setBigDecimal(6, analytics.getMovingAvg7());
-            statement.setBigDecimal(7, analytics.getMovingAvg30());
-            statement.setBigDecimal(8, analytics.getMovingAvg90());
-            statement.setBigDecimal(9, analytics.getVolumeTrend());
-            statement.setBigDecimal(10, analytics.getTurnoverRatio());
+            bindAnalytics(statement, analytics);
             
             int rowsAffected = statement.executeUpdate();
+            if (rowsAffected > 0) {
+                DataVersion.STOCK_ANALYTICS.bump();
+            }
             logger.info("Analytics inserted/updated: " + analytics.getSymbol() + 
                        " for " + analytics.getAnalysisDate() + ", Rows affected: " + rowsAffected);
             
@@ -62,6 +69,72 @@ public class StockAnalyticsDAO {
         }
     }
     
+    /**
+     * Insert or update analytics rows in batches, committing once per batch; returns one
+     * outcome per row in iteration order. A failed batch is rolled back and retried row by
+     * row, so only rows that fail on their own are marked FAILED.
+     */
+    public List<WriteOutcome> insertOrUpdateAnalyticsBatch(Collection<StockAnalytics> analyticsRows) {
+        List<StockAnalytics> rows = new ArrayList<>(analyticsRows);
+        List<WriteOutcome> outcomes = new ArrayList<>(Collections.nCopies(rows.size(), WriteOutcome.FAILED));
+        if (rows.isEmpty()) {
+            return outcomes;
+        }
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        
+        try {
+            connection = dbConfig.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(QueryConstants.INSERT_STOCK_ANALYTICS);
+            
+            for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+                int to = Math.min(from + BATCH_SIZE, rows.size());
+                try {
+                    for (int i = from; i < to; i++) {
+                        bindAnalytics(statement, rows.get(i));
+                        statement.addBatch();
+                    }
+                    int[] updateCounts = statement.executeBatch();
+                    connection.commit();
+                    for (int i = from; i < to; i++) {
+                        outcomes.set(i, updateCounts.length == to - from
+                            ? WriteOutcome.fromUpdateCount(updateCounts[i - from]) : WriteOutcome.WRITTEN);
+                    }
+                    
+                } catch (BatchUpdateException e) {
+                    logger.warning("Analytics batch of " + (to - from) + " rows failed, retrying row by row: " +
+                                  e.getMessage());
+                    rollback(connection);
+                    statement.clearBatch();
+                    for (int i = from; i < to; i++) {
+                        outcomes.set(i, retryRow(connection, statement, rows.get(i)));
+                    }
+                }
+            }
+            
+        } catch (SQLException e) {
+            logger.severe("Error writing analytics batch: " + e.getMessage());
+            rollback(connection);
+        } finally {
+            closeResources(connection, statement, null);
+        }
+        
+        int written = 0;
+        for (WriteOutcome outcome : outcomes) {
+            if (outcome.isSuccess()) {
+                written++;
+            }
+        }
+        if (written > 0) {
+            DataVersion.STOCK_ANALYTICS.bump();
+        }
+        logger.info("Analytics inserted/updated: " + written + " of " + rows.size() + " rows");
+        
+        return outcomes;
+    }
+    
     /**
      * Find analytics by symbol
      */
@@ -93,6 +166,44 @@ public class StockAnalyticsDAO {
         return analyticsList;
     }
     
+    /**
+     * Find one page of a symbol's analytics, newest first: up to limit rows strictly before the
+     * given analysis date (null for the first page), served from the (symbol, analysis_date) index
+     */
+    public List<StockAnalytics> findPageBySymbol(String symbol, Date beforeDate, int limit) {
+        List<StockAnalytics> analyticsList = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = dbConfig.getConnection();
+            if (beforeDate == null) {
+                statement = connection.prepareStatement(QueryConstants.SELECT_ANALYTICS_FIRST_PAGE);
+                statement.setString(1, symbol);
+                statement.setInt(2, limit);
+            } else {
+                statement = connection.prepareStatement(QueryConstants.SELECT_ANALYTICS_PAGE_BEFORE);
+                statement.setString(1, symbol);
+                statement.setDate(2, beforeDate);
+                statement.setInt(3, limit);
+            }
+            
+            resultSet = statement.executeQuery();
+            
+            while (resultSet.next()) {
+                analyticsList.add(mapResultSetToAnalytics(resultSet));
+            }
+            
+        } catch (SQLException e) {
+            logger.severe("Error retrieving analytics page for " + symbol + " before " + beforeDate + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        return analyticsList;
+    }
+    
     /**
      * Find analytics by symbol and date range
      */
@@ -128,11 +239,114 @@ public class StockAnalyticsDAO {
         return analyticsList;
     }
     
+    /**
+     * Count and sum a symbol's analytics within a date range without reading the rows;
+     * null on error
+     */
+    public AnalyticsTotals sumBySymbolAndDateRange(String symbol, Date startDate, Date endDate) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SUM_ANALYTICS_BY_DATE_RANGE);
+            statement.setString(1, symbol);
+            statement.setDate(2, startDate);
+            statement.setDate(3, endDate);
+            
+            resultSet = statement.executeQuery();
+            
+            if (resultSet.next()) {
+                return new AnalyticsTotals(symbol,
+                                           resultSet.getInt("analysis_days"),
+                                           resultSet.getBigDecimal("total_volatility"),
+                                           resultSet.getBigDecimal("total_price_change"));
+            }
+            
+        } catch (SQLException e) {
+            logger.severe("Error summing analytics for " + symbol + " in date range: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Asynchronous findBySymbolAndDateRange, run on the DaoExecutor
+     */
+    public CompletableFuture<List<StockAnalytics>> findBySymbolAndDateRangeAsync(String symbol, Date startDate,
+                                                                                 Date endDate) {
+        return DaoExecutor.getInstance().submit(() -> findBySymbolAndDateRange(symbol, startDate, endDate));
+    }
+    
+    /**
+     * Asynchronous findPageBySymbol, run on the DaoExecutor
+     */
+    public CompletableFuture<List<StockAnalytics>> findPageBySymbolAsync(String symbol, Date beforeDate, int limit) {
+        return DaoExecutor.getInstance().submit(() -> findPageBySymbol(symbol, beforeDate, limit));
+    }
+    
+    /**
+     * Asynchronous sumBySymbolAndDateRange, run on the DaoExecutor
+     */
+    public CompletableFuture<AnalyticsTotals> sumBySymbolAndDateRangeAsync(String symbol, Date startDate, Date endDate) {
+        return DaoExecutor.getInstance().submit(() -> sumBySymbolAndDateRange(symbol, startDate, endDate));
+    }
+    
+    /**
+     * Find analytics for several symbols within a date range in a single query, keyed by
+     * symbol with each list newest first; symbols without analytics in the range are absent
+     */
+    public Map<String, List<StockAnalytics>> findBySymbolsAndDateRange(Collection<String> symbols,
+                                                                        Date startDate, Date endDate) {
+        Map<String, List<StockAnalytics>> analyticsBySymbol = new LinkedHashMap<>();
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(symbols));
+        if (distinct.isEmpty()) {
+            return analyticsBySymbol;
+        }
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.inList(
+                QueryConstants.SELECT_ANALYTICS_FOR_SYMBOLS_BY_DATE_RANGE, distinct.size()));
+            int index = 1;
+            for (String symbol : distinct) {
+                statement.setString(index++, symbol);
+            }
+            statement.setDate(index++, startDate);
+            statement.setDate(index, endDate);
+            
+            resultSet = statement.executeQuery();
+            
+            while (resultSet.next()) {
+                StockAnalytics analytics = mapResultSetToAnalytics(resultSet);
+                analyticsBySymbol.computeIfAbsent(analytics.getSymbol(), key -> new ArrayList<>()).add(analytics);
+            }
+            
+            logger.info("Retrieved analytics for " + analyticsBySymbol.size() + " of " + distinct.size() +
+                       " symbols between " + startDate + " and " + endDate);
+            
+        } catch (SQLException e) {
+            logger.severe("Error retrieving analytics for " + distinct.size() + " symbols in date range: " +
+                         e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        return analyticsBySymbol;
+    }
+    
     /**
      * Calculate daily volatility for a symbol
      */
-    public List<Map<String, Object>> calculateDailyVolatility(String symbol) {
-        List<Map<String, Object>> results = new ArrayList<>();
+    public List<VolatilityPoint> calculateDailyVolatility(String symbol) {
+        List<VolatilityPoint> results = new ArrayList<>();
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -145,11 +359,9 @@ public class StockAnalyticsDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> result = new HashMap<>();
-                result.put("symbol", resultSet.getString("symbol"));
-                result.put("trade_date", resultSet.getDate("trade_date"));
-                result.put("daily_volatility", resultSet.getBigDecimal("daily_volatility"));
-                results.add(result);
+                results.add(new VolatilityPoint(resultSet.getString("symbol"),
+                                                resultSet.getDate("trade_date"),
+                                                resultSet.getDouble("daily_volatility")));
             }
             
         } catch (SQLException e) {
@@ -164,8 +376,8 @@ public class StockAnalyticsDAO {
     /**
      * Calculate daily price change for a symbol
      */
-    public List<Map<String, Object>> calculateDailyPriceChange(String symbol) {
-        List<Map<String, Object>> results = new ArrayList<>();
+    public List<PriceChangePoint> calculateDailyPriceChange(String symbol) {
+        List<PriceChangePoint> results = new ArrayList<>();
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -178,11 +390,9 @@ public class StockAnalyticsDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> result = new HashMap<>();
-                result.put("symbol", resultSet.getString("symbol"));
-                result.put("trade_date", resultSet.getDate("trade_date"));
-                result.put("price_change", resultSet.getBigDecimal("price_change"));
-                results.add(result);
+                results.add(new PriceChangePoint(resultSet.getString("symbol"),
+                                                 resultSet.getDate("trade_date"),
+                                                 resultSet.getDouble("price_change")));
             }
             
         } catch (SQLException e) {
@@ -197,8 +407,8 @@ public class StockAnalyticsDAO {
     /**
      * Calculate moving averages for a symbol
      */
-    public List<Map<String, Object>> calculateMovingAverages(String symbol) {
-        List<Map<String, Object>> results = new ArrayList<>();
+    public List<MovingAveragePoint> calculateMovingAverages(String symbol) {
+        List<MovingAveragePoint> results = new ArrayList<>();
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -211,14 +421,12 @@ public class StockAnalyticsDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> result = new HashMap<>();
-                result.put("symbol", resultSet.getString("symbol"));
-                result.put("trade_date", resultSet.getDate("trade_date"));
-                result.put("close_price", resultSet.getBigDecimal("close_price"));
-                result.put("moving_avg_7", resultSet.getBigDecimal("moving_avg_7"));
-                result.put("moving_avg_30", resultSet.getBigDecimal("moving_avg_30"));
-                result.put("moving_avg_90", resultSet.getBigDecimal("moving_avg_90"));
-                results.add(result);
+                results.add(new MovingAveragePoint(resultSet.getString("symbol"),
+                                                   resultSet.getDate("trade_date"),
+                                                   resultSet.getDouble("close_price"),
+                                                   resultSet.getDouble("moving_avg_7"),
+                                                   resultSet.getDouble("moving_avg_30"),
+                                                   resultSet.getDouble("moving_avg_90")));
             }
             
         } catch (SQLException e) {
@@ -233,8 +441,8 @@ public class StockAnalyticsDAO {
     /**
      * Calculate price gap for a symbol
      */
-    public List<Map<String, Object>> calculatePriceGap(String symbol) {
-        List<Map<String, Object>> results = new ArrayList<>();
+    public List<PriceGapPoint> calculatePriceGap(String symbol) {
+        List<PriceGapPoint> results = new ArrayList<>();
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -247,11 +455,10 @@ public class StockAnalyticsDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> result = new HashMap<>();
-                result.put("symbol", resultSet.getString("symbol"));
-                result.put("trade_date", resultSet.getDate("trade_date"));
-                result.put("price_gap", resultSet.getBigDecimal("price_gap"));
-                results.add(result);
+                double priceGap = resultSet.getDouble("price_gap");
+                results.add(new PriceGapPoint(resultSet.getString("symbol"),
+                                              resultSet.getDate("trade_date"),
+                                              resultSet.wasNull() ? null : priceGap));
             }
             
         } catch (SQLException e) {
@@ -266,8 +473,8 @@ public class StockAnalyticsDAO {
     /**
      * Compare stock performance
      */
-    public List<Map<String, Object>> compareStockPerformance(Date fromDate) {
-        List<Map<String, Object>> results = new ArrayList<>();
+    public List<PerformanceRow> compareStockPerformance(Date fromDate) {
+        List<PerformanceRow> results = new ArrayList<>();
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -280,12 +487,7 @@ public class StockAnalyticsDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> result = new HashMap<>();
-                result.put("symbol", resultSet.getString("symbol"));
-                result.put("avg_volatility", resultSet.getBigDecimal("avg_volatility"));
-                result.put("avg_price_change", resultSet.getBigDecimal("avg_price_change"));
-                result.put("avg_volume_trend", resultSet.getBigDecimal("avg_volume_trend"));
-                results.add(result);
+                results.add(mapResultSetToPerformanceRow(resultSet));
             }
             
         } catch (SQLException e) {
@@ -300,8 +502,8 @@ public class StockAnalyticsDAO {
     /**
      * Get top performers
      */
-    public List<Map<String, Object>> getTopPerformers(Date fromDate, int limit) {
-        List<Map<String, Object>> results = new ArrayList<>();
+    public List<PerformanceRow> getTopPerformers(Date fromDate, int limit) {
+        List<PerformanceRow> results = new ArrayList<>();
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -315,10 +517,7 @@ public class StockAnalyticsDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> result = new HashMap<>();
-                result.put("symbol", resultSet.getString("symbol"));
-                result.put("avg_performance", resultSet.getBigDecimal("avg_performance"));
-                results.add(result);
+                results.add(mapResultSetToPerformanceRow(resultSet));
             }
             
         } catch (SQLException e) {
@@ -333,8 +532,8 @@ public class StockAnalyticsDAO {
     /**
      * Rank stocks by volatility
      */
-    public List<Map<String, Object>> rankStocksByVolatility(Date fromDate) {
-        List<Map<String, Object>> results = new ArrayList<>();
+    public List<VolatilityRankRow> rankStocksByVolatility(Date fromDate) {
+        List<VolatilityRankRow> results = new ArrayList<>();
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -347,10 +546,8 @@ public class StockAnalyticsDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> result = new HashMap<>();
-                result.put("symbol", resultSet.getString("symbol"));
-                result.put("avg_volatility", resultSet.getBigDecimal("avg_volatility"));
-                results.add(result);
+                results.add(new VolatilityRankRow(resultSet.getString("symbol"),
+                                                  resultSet.getBigDecimal("avg_volatility"), null));
             }
             
         } catch (SQLException e) {
@@ -362,6 +559,40 @@ public class StockAnalyticsDAO {
         return results;
     }
     
+    /**
+     * Load the averaged metrics of every symbol into a ranking index in one ordered scan;
+     * returns null if the scan fails
+     */
+    public RankingIndex loadRankingIndex() {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_ANALYTICS_FOR_RANKING);
+            
+            resultSet = statement.executeQuery();
+            
+            RankingIndex.Builder builder = new RankingIndex.Builder();
+            while (resultSet.next()) {
+                builder.add(resultSet.getString("symbol"),
+                            resultSet.getDate("analysis_date"),
+                            resultSet.getBigDecimal("daily_volatility"),
+                            resultSet.getBigDecimal("daily_price_change"),
+                            resultSet.getBigDecimal("volume_trend"));
+            }
+            
+            return builder.build();
+            
+        } catch (SQLException | IllegalArgumentException e) {
+            logger.severe("Error loading ranking index: " + e.getMessage());
+            return null;
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+    }
+    
     /**
      * Delete old analytics records
      */
@@ -375,6 +606,9 @@ public class StockAnalyticsDAO {
             statement.setDate(1, beforeDate);
             
             int rowsDeleted = statement.executeUpdate();
+            if (rowsDeleted > 0) {
+                DataVersion.STOCK_ANALYTICS.bump();
+            }
             logger.info("Deleted " + rowsDeleted + " old analytics records before " + beforeDate);
             
             return rowsDeleted;
@@ -387,6 +621,16 @@ public class StockAnalyticsDAO {
         }
     }
     
+    /**
+     * Map a ResultSet row of symbol averages to a PerformanceRow
+     */
+    private PerformanceRow mapResultSetToPerformanceRow(ResultSet resultSet) throws SQLException {
+        return new PerformanceRow(resultSet.getString("symbol"),
+                                  resultSet.getBigDecimal("avg_volatility"),
+                                  resultSet.getBigDecimal("avg_price_change"),
+                                  resultSet.getBigDecimal("avg_volume_trend"));
+    }
+    
     /**
      * Map ResultSet to StockAnalytics object
      */
@@ -408,6 +652,50 @@ public class StockAnalyticsDAO {
         return analytics;
     }
     
+    /**
+     * Helper method to write one row of a failed batch on its own
+     */
+    private WriteOutcome retryRow(Connection connection, PreparedStatement statement, StockAnalytics analytics) {
+        try {
+            bindAnalytics(statement, analytics);
+            int rowsAffected = statement.executeUpdate();
+            connection.commit();
+            return WriteOutcome.fromUpdateCount(rowsAffected);
+            
+        } catch (SQLException e) {
+            logger.severe("Error inserting/updating analytics for " + analytics.getSymbol() + 
+                         " on " + analytics.getAnalysisDate() + ": " + e.getMessage());
+            rollback(connection);
+            return WriteOutcome.FAILED;
+        }
+    }
+    
+    /**
+     * Helper method to bind the INSERT_STOCK_ANALYTICS parameters
+     */
+    private void bindAnalytics(PreparedStatement statement, StockAnalytics analytics) throws SQLException {
+        statement.setString(1, analytics.getSymbol());
+        statement.setDate(2, analytics.getAnalysisDate());
+        statement.setBigDecimal(3, analytics.getDailyVolatility());
+        statement.setBigDecimal(4, analytics.getDailyPriceChange());
+        statement.setBigDecimal(5, analytics.getPriceGap());
+        statement.setBigDecimal(6, analytics.getMovingAvg7());
+        statement.setBigDecimal(7, analytics.getMovingAvg30());
+        statement.setBigDecimal(8, analytics.getMovingAvg90());
+        statement.setBigDecimal(9, analytics.getVolumeTrend());
+        statement.setBigDecimal(10, analytics.getTurnoverRatio());
+    }
+    
+    private void rollback(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                logger.warning("Error rolling back analytics batch: " + e.getMessage());
+            }
+        }
+    }
+    
     /**
      * Close database resources
      */
@@ -6,8 +6,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import com.revature.stocks.analytics.PricePyramidCache;
+import com.revature.stocks.cache.CacheStats;
+import com.revature.stocks.cache.DataVersion;
+import com.revature.stocks.cache.LatestPriceBoard;
+import com.revature.stocks.cache.PriceHistoryCache;
+import com.revature.stocks.cache.ReadThroughCache;
 import com.revature.stocks.config.DatabaseConfig;
 import com.revature.stocks.model.Stock;
 import com.revature.stocks.util.QueryConstants;
@@ -19,6 +26,10 @@ import com.revature.stocks.util.QueryConstants;
 public class StockDAO {
     
     private static final Logger logger = Logger.getLogger(StockDAO.class.getName());
+    
+    // Shared by all DAO instances: upper-cased symbol -> stock (null for unknown symbols)
+    private static final ReadThroughCache<String, Stock> stockCache = createStockCache();
+    
     private DatabaseConfig dbConfig;
     
     public StockDAO() {
@@ -42,6 +53,7 @@ public class StockDAO {
             statement.setBigDecimal(4, stock.getMarketCap());
             
             int rowsAffected = statement.executeUpdate();
+            invalidate(stock.getSymbol());
             logger.info("Stock inserted/updated: " + stock.getSymbol() + ", Rows affected: " + rowsAffected);
             
             return rowsAffected > 0;
@@ -55,9 +67,57 @@ public class StockDAO {
     }
     
     /**
-     * Find stock by symbol
+     * Find stock by symbol, served from the stock cache; returns a copy the caller may modify
      */
     public Stock findBySymbol(String symbol) {
+        if (symbol == null) {
+            return null;
+        }
+        try {
+            return copyOf(stockCache.get(symbol.toUpperCase(), this::loadBySymbol));
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Asynchronous findBySymbol, run on the DaoExecutor
+     */
+    public CompletableFuture<Stock> findBySymbolAsync(String symbol) {
+        return DaoExecutor.getInstance().submit(() -> findBySymbol(symbol));
+    }
+    
+    /**
+     * Hit, miss and eviction counters of the stock cache
+     */
+    public CacheStats getCacheStats() {
+        return stockCache.getStats();
+    }
+    
+    /**
+     * Copies of the stocks currently held in the stock cache, least recently used first
+     */
+    public List<Stock> getCachedStocks() {
+        List<Stock> stocks = new ArrayList<>();
+        for (Stock stock : stockCache.snapshot().values()) {
+            stocks.add(copyOf(stock));
+        }
+        return stocks;
+    }
+    
+    /**
+     * Seed the stock cache, e.g. from a validated snapshot
+     */
+    public void primeCache(List<Stock> stocks) {
+        for (Stock stock : stocks) {
+            stockCache.prime(stock.getSymbol().toUpperCase(), copyOf(stock));
+        }
+    }
+    
+    /**
+     * Load a stock from the database, bypassing the cache
+     */
+    private Stock loadBySymbol(String symbol) {
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -75,6 +135,8 @@ public class StockDAO {
             
         } catch (SQLException e) {
             logger.severe("Error finding stock by symbol " + symbol + ": " + e.getMessage());
+            // Thrown so the failure is not cached as an unknown symbol
+            throw new IllegalStateException(e);
         } finally {
             closeResources(connection, statement, resultSet);
         }
@@ -128,6 +190,7 @@ public class StockDAO {
             statement.setString(4, stock.getSymbol());
             
             int rowsAffected = statement.executeUpdate();
+            invalidate(stock.getSymbol());
             logger.info("Stock updated: " + stock.getSymbol() + ", Rows affected: " + rowsAffected);
             
             return rowsAffected > 0;
@@ -153,6 +216,16 @@ public class StockDAO {
             statement.setString(1, symbol);
             
             int rowsAffected = statement.executeUpdate();
+            invalidate(symbol);
+            LatestPriceBoard.getInstance().remove(symbol);
+            PriceHistoryCache.getInstance().invalidate(symbol);
+            if (rowsAffected > 0) {
+                // Prices, analytics and realized volatility went with the stock (ON DELETE CASCADE)
+                PricePyramidCache.getInstance().invalidate(symbol);
+                DataVersion.DAILY_PRICES.bump();
+                DataVersion.STOCK_ANALYTICS.bump();
+                DataVersion.REALIZED_VOLATILITY.bump();
+            }
             logger.info("Stock deleted: " + symbol + ", Rows affected: " + rowsAffected);
             
             return rowsAffected > 0;
@@ -199,6 +272,28 @@ public class StockDAO {
         return symbols;
     }
     
+    private static ReadThroughCache<String, Stock> createStockCache() {
+        DatabaseConfig config = DatabaseConfig.getInstance();
+        int maxEntries = Integer.parseInt(config.getProperty("cache.stocks.max.entries", "1000"));
+        long ttlSeconds = Long.parseLong(config.getProperty("cache.stocks.ttl.seconds", "600"));
+        long negativeTtlSeconds = Long.parseLong(config.getProperty("cache.stocks.negative.ttl.seconds", "60"));
+        return new ReadThroughCache<>("stocks", maxEntries, ttlSeconds * 1000, negativeTtlSeconds * 1000);
+    }
+    
+    private void invalidate(String symbol) {
+        if (symbol != null) {
+            stockCache.invalidate(symbol.toUpperCase());
+        }
+    }
+    
+    private Stock copyOf(Stock stock) {
+        if (stock == null) {
+            return null;
+        }
+        return new Stock(stock.getId(), stock.getSymbol(), stock.getCompanyName(), stock.getSector(),
+                         stock.getMarketCap(), stock.getCreatedDate(), stock.getUpdatedDate());
+    }
+    
     /**
      * Map ResultSet to Stock object
      */
@@ -0,0 +1,201 @@
+package com.revature.stocks.dao;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.model.TechnicalIndicators;
+import com.revature.stocks.util.QueryConstants;
+
+/**
+ * TechnicalIndicator Data Access Object
+ * Handles all database operations for TechnicalIndicators entity
+ */
+public class TechnicalIndicatorDAO {
+
+    private static final Logger logger = Logger.getLogger(TechnicalIndicatorDAO.class.getName());
+    private static final int BATCH_SIZE = 500;
+    private DatabaseConfig dbConfig;
+
+    public TechnicalIndicatorDAO() {
+        this.dbConfig = DatabaseConfig.getInstance();
+    }
+
+    /**
+     * Insert or update indicator rows in batches, committing once per batch
+     */
+    public int insertOrUpdateIndicatorsBatch(List<TechnicalIndicators> indicatorsList) {
+        if (indicatorsList.isEmpty()) {
+            return 0;
+        }
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        int rowsWritten = 0;
+
+        try {
+            connection = dbConfig.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(QueryConstants.INSERT_TECHNICAL_INDICATORS);
+
+            int pending = 0;
+            for (TechnicalIndicators indicators : indicatorsList) {
+                statement.setString(1, indicators.getSymbol());
+                statement.setDate(2, indicators.getAnalysisDate());
+                statement.setBigDecimal(3, indicators.getEma12());
+                statement.setBigDecimal(4, indicators.getEma26());
+                statement.setBigDecimal(5, indicators.getRsi14());
+                statement.setBigDecimal(6, indicators.getMacd());
+                statement.setBigDecimal(7, indicators.getMacdSignal());
+                statement.setBigDecimal(8, indicators.getMacdHistogram());
+                statement.setBigDecimal(9, indicators.getBollingerUpper());
+                statement.setBigDecimal(10, indicators.getBollingerMiddle());
+                statement.setBigDecimal(11, indicators.getBollingerLower());
+                statement.setBigDecimal(12, indicators.getAtr14());
+                statement.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    connection.commit();
+                    rowsWritten += pending;
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                rowsWritten += pending;
+            }
+
+            logger.info("Technical indicators inserted/updated: " + rowsWritten + " rows for " +
+                       indicatorsList.get(0).getSymbol());
+
+        } catch (SQLException e) {
+            logger.severe("Error writing technical indicators batch after " + rowsWritten + " rows: " + e.getMessage());
+            rollback(connection);
+        } finally {
+            closeResources(connection, statement, null);
+        }
+
+        return rowsWritten;
+    }
+
+    /**
+     * Find indicators by symbol
+     */
+    public List<TechnicalIndicators> findBySymbol(String symbol) {
+        List<TechnicalIndicators> indicatorsList = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_TECHNICAL_INDICATORS_BY_SYMBOL);
+            statement.setString(1, symbol);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                indicatorsList.add(mapResultSetToIndicators(resultSet));
+            }
+
+            logger.info("Retrieved " + indicatorsList.size() + " indicator records for " + symbol);
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving technical indicators for " + symbol + ": " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return indicatorsList;
+    }
+
+    /**
+     * Find indicators by symbol and date range
+     */
+    public List<TechnicalIndicators> findBySymbolAndDateRange(String symbol, Date startDate, Date endDate) {
+        List<TechnicalIndicators> indicatorsList = new ArrayList<>();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = dbConfig.getConnection();
+            statement = connection.prepareStatement(QueryConstants.SELECT_TECHNICAL_INDICATORS_BY_DATE_RANGE);
+            statement.setString(1, symbol);
+            statement.setDate(2, startDate);
+            statement.setDate(3, endDate);
+
+            resultSet = statement.executeQuery();
+
+            while (resultSet.next()) {
+                indicatorsList.add(mapResultSetToIndicators(resultSet));
+            }
+
+            logger.info("Retrieved " + indicatorsList.size() + " indicator records for " + symbol +
+                       " between " + startDate + " and " + endDate);
+
+        } catch (SQLException e) {
+            logger.severe("Error retrieving technical indicators for " + symbol +
+                         " in date range: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return indicatorsList;
+    }
+
+    /**
+     * Map ResultSet to TechnicalIndicators object
+     */
+    private TechnicalIndicators mapResultSetToIndicators(ResultSet resultSet) throws SQLException {
+        TechnicalIndicators indicators = new TechnicalIndicators();
+        indicators.setId(resultSet.getLong("id"));
+        indicators.setSymbol(resultSet.getString("symbol"));
+        indicators.setAnalysisDate(resultSet.getDate("analysis_date"));
+        indicators.setEma12(resultSet.getBigDecimal("ema_12"));
+        indicators.setEma26(resultSet.getBigDecimal("ema_26"));
+        indicators.setRsi14(resultSet.getBigDecimal("rsi_14"));
+        indicators.setMacd(resultSet.getBigDecimal("macd"));
+        indicators.setMacdSignal(resultSet.getBigDecimal("macd_signal"));
+        indicators.setMacdHistogram(resultSet.getBigDecimal("macd_histogram"));
+        indicators.setBollingerUpper(resultSet.getBigDecimal("bollinger_upper"));
+        indicators.setBollingerMiddle(resultSet.getBigDecimal("bollinger_middle"));
+        indicators.setBollingerLower(resultSet.getBigDecimal("bollinger_lower"));
+        indicators.setAtr14(resultSet.getBigDecimal("atr_14"));
+        indicators.setCreatedDate(resultSet.getTimestamp("created_date"));
+        indicators.setUpdatedDate(resultSet.getTimestamp("updated_date"));
+        return indicators;
+    }
+
+    private void rollback(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                logger.warning("Error rolling back technical indicators batch: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Close database resources
+     */
+    private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) resultSet.close();
+            if (statement != null) statement.close();
+            if (connection != null) connection.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database resources: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.revature.stocks.dao;
+
+import java.sql.Statement;
+
+/**
+ * WriteOutcome Enum
+ * What an upsert did to one row, from its JDBC update count. MySQL reports 2 when an existing
+ * row was changed. Connector/J reports found rather than changed rows, so 1 covers both a new
+ * row and an existing row left as it was; those, and rows of a batch the driver rewrote into
+ * a multi-row statement, only report that they were written.
+ */
+public enum WriteOutcome {
+    UPDATED,
+    WRITTEN,
+    FAILED;
+
+    public static WriteOutcome fromUpdateCount(int updateCount) {
+        switch (updateCount) {
+            case 2:
+                return UPDATED;
+            case Statement.EXECUTE_FAILED:
+                return FAILED;
+            default:
+                return WRITTEN;
+        }
+    }
+
+    public boolean isSuccess() {
+        return this != FAILED;
+    }
+}
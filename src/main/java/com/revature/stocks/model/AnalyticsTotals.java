@@ -0,0 +1,12 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+
+/**
+ * AnalyticsTotals Record
+ * Row count and column sums of one symbol's stock_analytics over a date range; a null value
+ * counts as zero in the sums but still counts as a day.
+ */
+public record AnalyticsTotals(String symbol, int analysisDays, BigDecimal totalVolatility,
+                              BigDecimal totalPriceChange) {
+}
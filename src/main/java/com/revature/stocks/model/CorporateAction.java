@@ -0,0 +1,107 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * CorporateAction Model Class
+ * Represents a split, bonus or other event that rescales a stock's price history.
+ * Prices before the ex-date are multiplied by the price factor (0.5 for a 1:2 split)
+ * and volumes divided by it.
+ */
+public class CorporateAction {
+
+    public static final String TYPE_SPLIT = "SPLIT";
+    public static final String TYPE_BONUS = "BONUS";
+    public static final String TYPE_OTHER = "OTHER";
+
+    private long id;
+    private String symbol;
+    private Date exDate;
+    private String actionType;
+    private BigDecimal priceFactor;
+    private String description;
+    private Timestamp createdDate;
+
+    // Default constructor
+    public CorporateAction() {
+    }
+
+    // Constructor with essential fields
+    public CorporateAction(String symbol, Date exDate, String actionType, BigDecimal priceFactor) {
+        this.symbol = symbol;
+        this.exDate = exDate;
+        this.actionType = actionType;
+        this.priceFactor = priceFactor;
+    }
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public Date getExDate() {
+        return exDate;
+    }
+
+    public void setExDate(Date exDate) {
+        this.exDate = exDate;
+    }
+
+    public String getActionType() {
+        return actionType;
+    }
+
+    public void setActionType(String actionType) {
+        this.actionType = actionType;
+    }
+
+    public BigDecimal getPriceFactor() {
+        return priceFactor;
+    }
+
+    public void setPriceFactor(BigDecimal priceFactor) {
+        this.priceFactor = priceFactor;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Timestamp getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Timestamp createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public String toString() {
+        return "CorporateAction{" +
+                "id=" + id +
+                ", symbol='" + symbol + '\'' +
+                ", exDate=" + exDate +
+                ", actionType='" + actionType + '\'' +
+                ", priceFactor=" + priceFactor +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,84 @@
+package com.revature.stocks.model;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * CorrelationMatrix Model Class
+ * Represents pairwise daily-return correlations between symbols over a date window
+ */
+public class CorrelationMatrix {
+
+    private List<String> symbols;
+    private double[][] values;
+    private Date fromDate;
+    private Date toDate;
+
+    // Default constructor
+    public CorrelationMatrix() {
+    }
+
+    // Constructor with all fields
+    public CorrelationMatrix(List<String> symbols, double[][] values, Date fromDate, Date toDate) {
+        this.symbols = symbols;
+        this.values = values;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    // Getters and Setters
+    public List<String> getSymbols() {
+        return symbols;
+    }
+
+    public void setSymbols(List<String> symbols) {
+        this.symbols = symbols;
+    }
+
+    public double[][] getValues() {
+        return values;
+    }
+
+    public void setValues(double[][] values) {
+        this.values = values;
+    }
+
+    public Date getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(Date fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public Date getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(Date toDate) {
+        this.toDate = toDate;
+    }
+
+    // Utility methods for analysis
+    public int size() {
+        return symbols != null ? symbols.size() : 0;
+    }
+
+    public double getCorrelation(String symbolA, String symbolB) {
+        int i = symbols.indexOf(symbolA);
+        int j = symbols.indexOf(symbolB);
+        if (i < 0 || j < 0) {
+            return Double.NaN;
+        }
+        return values[i][j];
+    }
+
+    @Override
+    public String toString() {
+        return "CorrelationMatrix{" +
+                "symbols=" + size() +
+                ", fromDate=" + fromDate +
+                ", toDate=" + toDate +
+                '}';
+    }
+}
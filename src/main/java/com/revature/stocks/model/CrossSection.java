@@ -0,0 +1,78 @@
+package com.revature.stocks.model;
+
+import java.sql.Date;
+import java.util.Arrays;
+
+/**
+ * CrossSection Model Class
+ * Columnar view of every symbol's figures on one trade date: daily return (percent, from
+ * the previous close), volume and daily volatility. Missing values are NaN.
+ */
+public class CrossSection {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final Date tradeDate;
+    private int size;
+    private String[] symbols;
+    private double[] returns;
+    private double[] volumes;
+    private double[] volatilities;
+
+    public CrossSection(Date tradeDate) {
+        this.tradeDate = tradeDate;
+        this.symbols = new String[DEFAULT_CAPACITY];
+        this.returns = new double[DEFAULT_CAPACITY];
+        this.volumes = new double[DEFAULT_CAPACITY];
+        this.volatilities = new double[DEFAULT_CAPACITY];
+    }
+
+    public void add(String symbol, double dailyReturn, double volume, double volatility) {
+        if (size == symbols.length) {
+            int capacity = size * 2;
+            symbols = Arrays.copyOf(symbols, capacity);
+            returns = Arrays.copyOf(returns, capacity);
+            volumes = Arrays.copyOf(volumes, capacity);
+            volatilities = Arrays.copyOf(volatilities, capacity);
+        }
+        symbols[size] = symbol;
+        returns[size] = dailyReturn;
+        volumes[size] = volume;
+        volatilities[size] = volatility;
+        size++;
+    }
+
+    public Date getTradeDate() {
+        return tradeDate;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getSymbol(int index) {
+        return symbols[index];
+    }
+
+    // Column accessors return trimmed copies
+
+    public double[] returns() {
+        return Arrays.copyOf(returns, size);
+    }
+
+    public double[] volumes() {
+        return Arrays.copyOf(volumes, size);
+    }
+
+    public double[] volatilities() {
+        return Arrays.copyOf(volatilities, size);
+    }
+
+    @Override
+    public String toString() {
+        return "CrossSection{" +
+                "tradeDate=" + tradeDate +
+                ", symbols=" + size +
+                '}';
+    }
+}
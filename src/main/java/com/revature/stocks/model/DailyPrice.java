@@ -66,6 +66,27 @@ public class DailyPrice {
         this.deliverablePercentage = deliverablePercentage;
     }
     
+    // Copy constructor
+    public DailyPrice(DailyPrice other) {
+        this.id = other.id;
+        this.symbol = other.symbol;
+        this.tradeDate = other.tradeDate != null ? new Date(other.tradeDate.getTime()) : null;
+        this.series = other.series;
+        this.prevClose = other.prevClose;
+        this.openPrice = other.openPrice;
+        this.highPrice = other.highPrice;
+        this.lowPrice = other.lowPrice;
+        this.lastPrice = other.lastPrice;
+        this.closePrice = other.closePrice;
+        this.vwap = other.vwap;
+        this.volume = other.volume;
+        this.turnover = other.turnover;
+        this.trades = other.trades;
+        this.deliverableVolume = other.deliverableVolume;
+        this.deliverablePercentage = other.deliverablePercentage;
+        this.createdDate = other.createdDate != null ? new Timestamp(other.createdDate.getTime()) : null;
+    }
+    
     // Getters and Setters
     public long getId() {
         return id;
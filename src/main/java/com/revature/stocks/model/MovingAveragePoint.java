@@ -0,0 +1,12 @@
+package com.revature.stocks.model;
+
+import java.sql.Date;
+
+/**
+ * MovingAveragePoint Record
+ * Close of one trading day with its trailing 7, 30 and 90 day simple moving averages
+ * (over fewer days at the start of the history)
+ */
+public record MovingAveragePoint(String symbol, Date tradeDate, double closePrice,
+                                 double movingAvg7, double movingAvg30, double movingAvg90) {
+}
@@ -0,0 +1,99 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * PercentileRank Model Class
+ * Represents a symbol's percentile rank (0 = lowest, 1 = highest) among all symbols on
+ * one trade date, for daily return, volume and daily volatility
+ */
+public class PercentileRank {
+
+    private long id;
+    private String symbol;
+    private Date tradeDate;
+    private BigDecimal returnPercentile;
+    private BigDecimal volumePercentile;
+    private BigDecimal volatilityPercentile;
+    private Timestamp updatedDate;
+
+    // Default constructor
+    public PercentileRank() {
+    }
+
+    // Constructor with essential fields
+    public PercentileRank(String symbol, Date tradeDate) {
+        this.symbol = symbol;
+        this.tradeDate = tradeDate;
+    }
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public Date getTradeDate() {
+        return tradeDate;
+    }
+
+    public void setTradeDate(Date tradeDate) {
+        this.tradeDate = tradeDate;
+    }
+
+    public BigDecimal getReturnPercentile() {
+        return returnPercentile;
+    }
+
+    public void setReturnPercentile(BigDecimal returnPercentile) {
+        this.returnPercentile = returnPercentile;
+    }
+
+    public BigDecimal getVolumePercentile() {
+        return volumePercentile;
+    }
+
+    public void setVolumePercentile(BigDecimal volumePercentile) {
+        this.volumePercentile = volumePercentile;
+    }
+
+    public BigDecimal getVolatilityPercentile() {
+        return volatilityPercentile;
+    }
+
+    public void setVolatilityPercentile(BigDecimal volatilityPercentile) {
+        this.volatilityPercentile = volatilityPercentile;
+    }
+
+    public Timestamp getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public void setUpdatedDate(Timestamp updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+
+    @Override
+    public String toString() {
+        return "PercentileRank{" +
+                "symbol='" + symbol + '\'' +
+                ", tradeDate=" + tradeDate +
+                ", returnPercentile=" + returnPercentile +
+                ", volumePercentile=" + volumePercentile +
+                ", volatilityPercentile=" + volatilityPercentile +
+                '}';
+    }
+}
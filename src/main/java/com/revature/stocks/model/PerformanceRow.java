@@ -0,0 +1,20 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+
+/**
+ * PerformanceRow Record
+ * One symbol's stock_analytics averages over a date range, as ranked by the performance
+ * comparison and top performer queries. An average is null when every value in the range is.
+ */
+public record PerformanceRow(String symbol, BigDecimal avgVolatility, BigDecimal avgPriceChange,
+                             BigDecimal avgVolumeTrend) {
+
+    public String performanceCategory() {
+        return StockAnalytics.performanceCategoryOf(avgPriceChange);
+    }
+
+    public String volatilityCategory() {
+        return StockAnalytics.volatilityCategoryOf(avgVolatility);
+    }
+}
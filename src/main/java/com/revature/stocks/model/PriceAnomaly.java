@@ -0,0 +1,117 @@
+package com.revature.stocks.model;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * PriceAnomaly Model Class
+ * Represents one flagged trading day: a volume spike, an abnormal opening gap or an
+ * extreme intraday range, scored against the symbol's rolling baseline
+ */
+public class PriceAnomaly {
+
+    public static final String TYPE_VOLUME_SPIKE = "VOLUME_SPIKE";
+    public static final String TYPE_PRICE_GAP = "PRICE_GAP";
+    public static final String TYPE_EXTREME_RANGE = "EXTREME_RANGE";
+
+    private long id;
+    private String symbol;
+    private Date tradeDate;
+    private String anomalyType;
+    private double observedValue;
+    private double baselineValue;
+    private double zScore;
+    private Timestamp createdDate;
+
+    // Default constructor
+    public PriceAnomaly() {
+    }
+
+    // Constructor with essential fields
+    public PriceAnomaly(String symbol, Date tradeDate, String anomalyType,
+                        double observedValue, double baselineValue, double zScore) {
+        this.symbol = symbol;
+        this.tradeDate = tradeDate;
+        this.anomalyType = anomalyType;
+        this.observedValue = observedValue;
+        this.baselineValue = baselineValue;
+        this.zScore = zScore;
+    }
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public Date getTradeDate() {
+        return tradeDate;
+    }
+
+    public void setTradeDate(Date tradeDate) {
+        this.tradeDate = tradeDate;
+    }
+
+    public String getAnomalyType() {
+        return anomalyType;
+    }
+
+    public void setAnomalyType(String anomalyType) {
+        this.anomalyType = anomalyType;
+    }
+
+    public double getObservedValue() {
+        return observedValue;
+    }
+
+    public void setObservedValue(double observedValue) {
+        this.observedValue = observedValue;
+    }
+
+    public double getBaselineValue() {
+        return baselineValue;
+    }
+
+    public void setBaselineValue(double baselineValue) {
+        this.baselineValue = baselineValue;
+    }
+
+    public double getZScore() {
+        return zScore;
+    }
+
+    public void setZScore(double zScore) {
+        this.zScore = zScore;
+    }
+
+    public Timestamp getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Timestamp createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceAnomaly{" +
+                "symbol='" + symbol + '\'' +
+                ", tradeDate=" + tradeDate +
+                ", anomalyType='" + anomalyType + '\'' +
+                ", observedValue=" + observedValue +
+                ", baselineValue=" + baselineValue +
+                ", zScore=" + zScore +
+                '}';
+    }
+}
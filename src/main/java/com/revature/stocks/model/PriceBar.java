@@ -0,0 +1,158 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+/**
+ * PriceBar Model Class
+ * Represents one OHLCV bar of a stock at a given resolution
+ */
+public class PriceBar {
+
+    private String symbol;
+    private Resolution resolution;
+    private Date periodStart;
+    private Date firstTradeDate;
+    private Date lastTradeDate;
+    private int tradingDays;
+    private BigDecimal openPrice;
+    private BigDecimal highPrice;
+    private BigDecimal lowPrice;
+    private BigDecimal closePrice;
+    private BigDecimal vwap;
+    private Long volume;
+    private BigDecimal turnover;
+
+    // Default constructor
+    public PriceBar() {
+    }
+
+    // Constructor with essential fields
+    public PriceBar(String symbol, Resolution resolution, Date periodStart) {
+        this.symbol = symbol;
+        this.resolution = resolution;
+        this.periodStart = periodStart;
+    }
+
+    // Getters and Setters
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public Resolution getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(Resolution resolution) {
+        this.resolution = resolution;
+    }
+
+    public Date getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(Date periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public Date getFirstTradeDate() {
+        return firstTradeDate;
+    }
+
+    public void setFirstTradeDate(Date firstTradeDate) {
+        this.firstTradeDate = firstTradeDate;
+    }
+
+    public Date getLastTradeDate() {
+        return lastTradeDate;
+    }
+
+    public void setLastTradeDate(Date lastTradeDate) {
+        this.lastTradeDate = lastTradeDate;
+    }
+
+    public int getTradingDays() {
+        return tradingDays;
+    }
+
+    public void setTradingDays(int tradingDays) {
+        this.tradingDays = tradingDays;
+    }
+
+    public BigDecimal getOpenPrice() {
+        return openPrice;
+    }
+
+    public void setOpenPrice(BigDecimal openPrice) {
+        this.openPrice = openPrice;
+    }
+
+    public BigDecimal getHighPrice() {
+        return highPrice;
+    }
+
+    public void setHighPrice(BigDecimal highPrice) {
+        this.highPrice = highPrice;
+    }
+
+    public BigDecimal getLowPrice() {
+        return lowPrice;
+    }
+
+    public void setLowPrice(BigDecimal lowPrice) {
+        this.lowPrice = lowPrice;
+    }
+
+    public BigDecimal getClosePrice() {
+        return closePrice;
+    }
+
+    public void setClosePrice(BigDecimal closePrice) {
+        this.closePrice = closePrice;
+    }
+
+    public BigDecimal getVwap() {
+        return vwap;
+    }
+
+    public void setVwap(BigDecimal vwap) {
+        this.vwap = vwap;
+    }
+
+    public Long getVolume() {
+        return volume;
+    }
+
+    public void setVolume(Long volume) {
+        this.volume = volume;
+    }
+
+    public BigDecimal getTurnover() {
+        return turnover;
+    }
+
+    public void setTurnover(BigDecimal turnover) {
+        this.turnover = turnover;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceBar{" +
+                "symbol='" + symbol + '\'' +
+                ", resolution=" + resolution +
+                ", periodStart=" + periodStart +
+                ", tradingDays=" + tradingDays +
+                ", openPrice=" + openPrice +
+                ", highPrice=" + highPrice +
+                ", lowPrice=" + lowPrice +
+                ", closePrice=" + closePrice +
+                ", vwap=" + vwap +
+                ", volume=" + volume +
+                ", turnover=" + turnover +
+                '}';
+    }
+}
@@ -0,0 +1,10 @@
+package com.revature.stocks.model;
+
+import java.sql.Date;
+
+/**
+ * PriceChangePoint Record
+ * Open-to-close change of one trading day in percent
+ */
+public record PriceChangePoint(String symbol, Date tradeDate, double priceChange) {
+}
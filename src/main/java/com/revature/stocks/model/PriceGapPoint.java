@@ -0,0 +1,11 @@
+package com.revature.stocks.model;
+
+import java.sql.Date;
+
+/**
+ * PriceGapPoint Record
+ * Open of one trading day minus the previous day's close; priceGap is null on a symbol's
+ * first trading day
+ */
+public record PriceGapPoint(String symbol, Date tradeDate, Double priceGap) {
+}
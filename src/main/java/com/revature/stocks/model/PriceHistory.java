@@ -0,0 +1,218 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * PriceHistory Model Class
+ * Compact, immutable copy of one symbol's daily_prices rows, ascending by trade date. Unlike
+ * PriceSeries it keeps every column exactly: decimals are stored as unscaled longs at a fixed
+ * scale per column, so rows can be turned back into DailyPrice objects that equal the ones
+ * read from the database. A symbol whose values do not fit that encoding (more than 18
+ * significant digits) cannot be built and is read from the database instead.
+ */
+public final class PriceHistory {
+
+    // Marks SQL NULL in the long and int columns
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    // Decimal columns, in storage order
+    private static final int PREV_CLOSE = 0;
+    private static final int OPEN = 1;
+    private static final int HIGH = 2;
+    private static final int LOW = 3;
+    private static final int LAST = 4;
+    private static final int CLOSE = 5;
+    private static final int VWAP = 6;
+    private static final int TURNOVER = 7;
+    private static final int DELIVERABLE_PERCENTAGE = 8;
+    private static final int DECIMAL_COLUMNS = 9;
+
+    // Approximate heap bytes per row: id, volume, deliverable volume and created date longs,
+    // the decimal columns, trade day, trades and a (shared, interned) series reference
+    private static final int BYTES_PER_ROW = 8 * 4 + 8 * DECIMAL_COLUMNS + 4 + 4 + 4;
+    private static final int FIXED_BYTES = 256;
+
+    private final String symbol;
+    private final int size;
+    private final long[] ids;
+    private final int[] tradeDays;
+    private final String[] series;
+    private final long[][] decimals;
+    private final int[] scales;
+    private final long[] volumes;
+    private final int[] trades;
+    private final long[] deliverableVolumes;
+    private final long[] createdMillis;
+
+    private PriceHistory(String symbol, int size) {
+        this.symbol = symbol;
+        this.size = size;
+        this.ids = new long[size];
+        this.tradeDays = new int[size];
+        this.series = new String[size];
+        this.decimals = new long[DECIMAL_COLUMNS][size];
+        this.scales = new int[DECIMAL_COLUMNS];
+        this.volumes = new long[size];
+        this.trades = new int[size];
+        this.deliverableVolumes = new long[size];
+        this.createdMillis = new long[size];
+    }
+
+    /**
+     * Build a history from DailyPrice rows in any order
+     * @throws ArithmeticException if a decimal does not fit in a long at its column's scale
+     */
+    public static PriceHistory fromDailyPrices(String symbol, List<DailyPrice> prices) {
+        List<DailyPrice> sorted = new ArrayList<>(prices);
+        sorted.sort(Comparator.comparing(DailyPrice::getTradeDate));
+
+        PriceHistory history = new PriceHistory(symbol, sorted.size());
+        BigDecimal[][] columns = new BigDecimal[DECIMAL_COLUMNS][];
+        for (int c = 0; c < DECIMAL_COLUMNS; c++) {
+            columns[c] = new BigDecimal[sorted.size()];
+        }
+
+        for (int i = 0; i < sorted.size(); i++) {
+            DailyPrice price = sorted.get(i);
+            history.ids[i] = price.getId();
+            history.tradeDays[i] = (int) price.getTradeDate().toLocalDate().toEpochDay();
+            history.series[i] = price.getSeries() != null ? price.getSeries().intern() : null;
+            history.volumes[i] = price.getVolume() != null ? price.getVolume() : NULL_LONG;
+            history.trades[i] = price.getTrades() != null ? price.getTrades() : NULL_INT;
+            history.deliverableVolumes[i] = price.getDeliverableVolume() != null ? price.getDeliverableVolume() : NULL_LONG;
+            history.createdMillis[i] = price.getCreatedDate() != null ? price.getCreatedDate().getTime() : NULL_LONG;
+
+            columns[PREV_CLOSE][i] = price.getPrevClose();
+            columns[OPEN][i] = price.getOpenPrice();
+            columns[HIGH][i] = price.getHighPrice();
+            columns[LOW][i] = price.getLowPrice();
+            columns[LAST][i] = price.getLastPrice();
+            columns[CLOSE][i] = price.getClosePrice();
+            columns[VWAP][i] = price.getVwap();
+            columns[TURNOVER][i] = price.getTurnover();
+            columns[DELIVERABLE_PERCENTAGE][i] = price.getDeliverablePercentage();
+        }
+
+        for (int c = 0; c < DECIMAL_COLUMNS; c++) {
+            history.encode(c, columns[c]);
+        }
+        return history;
+    }
+
+    /**
+     * Store a decimal column at the largest scale it uses (the column scale for JDBC reads)
+     */
+    private void encode(int column, BigDecimal[] values) {
+        int scale = 0;
+        for (BigDecimal value : values) {
+            if (value != null) {
+                scale = Math.max(scale, value.scale());
+            }
+        }
+        scales[column] = scale;
+
+        long[] target = decimals[column];
+        for (int i = 0; i < values.length; i++) {
+            BigDecimal value = values[i];
+            target[i] = value != null ? value.setScale(scale).unscaledValue().longValueExact() : NULL_LONG;
+            if (target[i] == NULL_LONG && value != null) {
+                throw new ArithmeticException("Decimal out of range for " + symbol + ": " + value);
+            }
+        }
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Approximate heap footprint, used to weigh the history against a cache budget
+     */
+    public long estimatedBytes() {
+        return FIXED_BYTES + (long) size * BYTES_PER_ROW;
+    }
+
+    /**
+     * All rows as new DailyPrice objects, newest first
+     */
+    public List<DailyPrice> toDailyPrices() {
+        return slice(0, size);
+    }
+
+    /**
+     * Rows with startDate <= trade date <= endDate as new DailyPrice objects, newest first
+     */
+    public List<DailyPrice> toDailyPrices(Date startDate, Date endDate) {
+        int from = lowerBound((int) startDate.toLocalDate().toEpochDay());
+        int to = lowerBound((int) endDate.toLocalDate().toEpochDay() + 1);
+        return slice(from, Math.max(from, to));
+    }
+
+    private List<DailyPrice> slice(int from, int to) {
+        List<DailyPrice> prices = new ArrayList<>(to - from);
+        for (int i = to - 1; i >= from; i--) {
+            prices.add(toDailyPrice(i));
+        }
+        return prices;
+    }
+
+    private DailyPrice toDailyPrice(int i) {
+        DailyPrice price = new DailyPrice();
+        price.setId(ids[i]);
+        price.setSymbol(symbol);
+        price.setTradeDate(Date.valueOf(LocalDate.ofEpochDay(tradeDays[i])));
+        price.setSeries(series[i]);
+        price.setPrevClose(decimal(PREV_CLOSE, i));
+        price.setOpenPrice(decimal(OPEN, i));
+        price.setHighPrice(decimal(HIGH, i));
+        price.setLowPrice(decimal(LOW, i));
+        price.setLastPrice(decimal(LAST, i));
+        price.setClosePrice(decimal(CLOSE, i));
+        price.setVwap(decimal(VWAP, i));
+        price.setVolume(volumes[i] != NULL_LONG ? volumes[i] : null);
+        price.setTurnover(decimal(TURNOVER, i));
+        price.setTrades(trades[i] != NULL_INT ? trades[i] : null);
+        price.setDeliverableVolume(deliverableVolumes[i] != NULL_LONG ? deliverableVolumes[i] : null);
+        price.setDeliverablePercentage(decimal(DELIVERABLE_PERCENTAGE, i));
+        price.setCreatedDate(createdMillis[i] != NULL_LONG ? new Timestamp(createdMillis[i]) : null);
+        return price;
+    }
+
+    private BigDecimal decimal(int column, int i) {
+        long unscaled = decimals[column][i];
+        return unscaled != NULL_LONG ? BigDecimal.valueOf(unscaled, scales[column]) : null;
+    }
+
+    /**
+     * First index whose trade day is >= epochDay
+     */
+    private int lowerBound(int epochDay) {
+        int index = Arrays.binarySearch(tradeDays, epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceHistory{" +
+                "symbol='" + symbol + '\'' +
+                ", size=" + size +
+                ", estimatedBytes=" + estimatedBytes() +
+                '}';
+    }
+}
@@ -0,0 +1,219 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * PriceSeries Model Class
+ * Columnar view of one symbol's daily prices, ascending by trade date.
+ * Values are held in primitive arrays so analytics engines can make a
+ * single pass without touching DailyPrice objects. Missing values are NaN.
+ */
+public class PriceSeries {
+
+    /**
+     * Columns a DAO loads into a series; columns outside the projection are left NaN
+     */
+    public enum Projection {
+        // Close only: returns, realized volatility and correlations
+        CLOSE,
+        // Open, high, low and close: indicators and backtests
+        OHLC,
+        // Every column, including previous close, volume and turnover
+        ALL
+    }
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private final String symbol;
+    private int size;
+    private int[] tradeDays;
+    private double[] openPrices;
+    private double[] highPrices;
+    private double[] lowPrices;
+    private double[] closePrices;
+    private double[] prevCloses;
+    private double[] volumes;
+    private double[] turnovers;
+
+    public PriceSeries(String symbol) {
+        this(symbol, DEFAULT_CAPACITY);
+    }
+
+    public PriceSeries(String symbol, int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.symbol = symbol;
+        this.tradeDays = new int[capacity];
+        this.openPrices = new double[capacity];
+        this.highPrices = new double[capacity];
+        this.lowPrices = new double[capacity];
+        this.closePrices = new double[capacity];
+        this.prevCloses = new double[capacity];
+        this.volumes = new double[capacity];
+        this.turnovers = new double[capacity];
+    }
+
+    /**
+     * Build a series from DailyPrice rows in any order
+     */
+    public static PriceSeries fromDailyPrices(String symbol, List<DailyPrice> prices) {
+        List<DailyPrice> sorted = new ArrayList<>(prices);
+        sorted.sort(Comparator.comparing(DailyPrice::getTradeDate));
+
+        PriceSeries series = new PriceSeries(symbol, sorted.size());
+        for (DailyPrice price : sorted) {
+            series.append(price.getTradeDate(),
+                          toDouble(price.getOpenPrice()),
+                          toDouble(price.getHighPrice()),
+                          toDouble(price.getLowPrice()),
+                          toDouble(price.getClosePrice()),
+                          toDouble(price.getPrevClose()),
+                          price.getVolume() != null ? price.getVolume() : Double.NaN,
+                          toDouble(price.getTurnover()));
+        }
+        return series;
+    }
+
+    /**
+     * Append the next trading day; dates must be appended in ascending order
+     */
+    public void append(Date tradeDate, double open, double high, double low, double close,
+                       double prevClose, double volume, double turnover) {
+        int epochDay = (int) tradeDate.toLocalDate().toEpochDay();
+        if (size > 0 && epochDay <= tradeDays[size - 1]) {
+            throw new IllegalArgumentException("Trade dates must be strictly ascending for " + symbol +
+                                               ": " + tradeDate);
+        }
+        ensureCapacity(size + 1);
+        tradeDays[size] = epochDay;
+        openPrices[size] = open;
+        highPrices[size] = high;
+        lowPrices[size] = low;
+        closePrices[size] = close;
+        prevCloses[size] = prevClose;
+        volumes[size] = volume;
+        turnovers[size] = turnover;
+        size++;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= tradeDays.length) {
+            return;
+        }
+        int capacity = Math.max(required, tradeDays.length * 2);
+        tradeDays = Arrays.copyOf(tradeDays, capacity);
+        openPrices = Arrays.copyOf(openPrices, capacity);
+        highPrices = Arrays.copyOf(highPrices, capacity);
+        lowPrices = Arrays.copyOf(lowPrices, capacity);
+        closePrices = Arrays.copyOf(closePrices, capacity);
+        prevCloses = Arrays.copyOf(prevCloses, capacity);
+        volumes = Arrays.copyOf(volumes, capacity);
+        turnovers = Arrays.copyOf(turnovers, capacity);
+    }
+
+    /**
+     * Index of the given trade date, or -(insertion point) - 1 when absent
+     */
+    public int indexOf(Date tradeDate) {
+        return Arrays.binarySearch(tradeDays, 0, size, (int) tradeDate.toLocalDate().toEpochDay());
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Date getTradeDate(int index) {
+        return Date.valueOf(LocalDate.ofEpochDay(tradeDays[index]));
+    }
+
+    public int getTradeDay(int index) {
+        return tradeDays[index];
+    }
+
+    public double getOpen(int index) {
+        return openPrices[index];
+    }
+
+    public double getHigh(int index) {
+        return highPrices[index];
+    }
+
+    public double getLow(int index) {
+        return lowPrices[index];
+    }
+
+    public double getClose(int index) {
+        return closePrices[index];
+    }
+
+    public double getPrevClose(int index) {
+        return prevCloses[index];
+    }
+
+    public double getVolume(int index) {
+        return volumes[index];
+    }
+
+    public double getTurnover(int index) {
+        return turnovers[index];
+    }
+
+    // Raw column access for tight loops; arrays may be longer than size()
+    public int[] tradeDays() {
+        return tradeDays;
+    }
+
+    public double[] openPrices() {
+        return openPrices;
+    }
+
+    public double[] highPrices() {
+        return highPrices;
+    }
+
+    public double[] lowPrices() {
+        return lowPrices;
+    }
+
+    public double[] closePrices() {
+        return closePrices;
+    }
+
+    public double[] prevCloses() {
+        return prevCloses;
+    }
+
+    public double[] volumes() {
+        return volumes;
+    }
+
+    public double[] turnovers() {
+        return turnovers;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceSeries{" +
+                "symbol='" + symbol + '\'' +
+                ", size=" + size +
+                (size > 0 ? ", from=" + getTradeDate(0) + ", to=" + getTradeDate(size - 1) : "") +
+                '}';
+    }
+}
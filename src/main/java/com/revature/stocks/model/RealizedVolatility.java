@@ -0,0 +1,112 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * RealizedVolatility Model Class
+ * Represents the annualized N-day realized volatility of a stock on one trade date
+ */
+public class RealizedVolatility {
+
+    private long id;
+    private String symbol;
+    private Date analysisDate;
+    private int windowDays;
+    private BigDecimal realizedVolatility;
+    private Timestamp createdDate;
+
+    // Default constructor
+    public RealizedVolatility() {
+    }
+
+    // Constructor with calculated metric
+    public RealizedVolatility(String symbol, Date analysisDate, int windowDays, BigDecimal realizedVolatility) {
+        this.symbol = symbol;
+        this.analysisDate = analysisDate;
+        this.windowDays = windowDays;
+        this.realizedVolatility = realizedVolatility;
+    }
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public Date getAnalysisDate() {
+        return analysisDate;
+    }
+
+    public void setAnalysisDate(Date analysisDate) {
+        this.analysisDate = analysisDate;
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    public void setWindowDays(int windowDays) {
+        this.windowDays = windowDays;
+    }
+
+    public BigDecimal getRealizedVolatility() {
+        return realizedVolatility;
+    }
+
+    public void setRealizedVolatility(BigDecimal realizedVolatility) {
+        this.realizedVolatility = realizedVolatility;
+    }
+
+    public Timestamp getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Timestamp createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public String toString() {
+        return "RealizedVolatility{" +
+                "id=" + id +
+                ", symbol='" + symbol + '\'' +
+                ", analysisDate=" + analysisDate +
+                ", windowDays=" + windowDays +
+                ", realizedVolatility=" + realizedVolatility +
+                ", createdDate=" + createdDate +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        RealizedVolatility that = (RealizedVolatility) o;
+
+        if (windowDays != that.windowDays) return false;
+        if (!symbol.equals(that.symbol)) return false;
+        return analysisDate.equals(that.analysisDate);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = symbol.hashCode();
+        result = 31 * result + analysisDate.hashCode();
+        result = 31 * result + windowDays;
+        return result;
+    }
+}
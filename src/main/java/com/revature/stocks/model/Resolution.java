@@ -0,0 +1,46 @@
+package com.revature.stocks.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Resolution Enum
+ * Bar sizes for resampled price history
+ */
+public enum Resolution {
+
+    DAILY,
+    WEEKLY,
+    MONTHLY,
+    YEARLY;
+
+    /**
+     * First calendar day of the period that contains the given date (weeks start on Monday)
+     */
+    public LocalDate periodStart(LocalDate date) {
+        switch (this) {
+            case WEEKLY:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY:
+                return date.withDayOfMonth(1);
+            case YEARLY:
+                return date.withDayOfYear(1);
+            default:
+                return date;
+        }
+    }
+
+    /**
+     * Parse a resolution name or its first letter (D, W, M, Y), case-insensitively
+     */
+    public static Resolution fromString(String value) {
+        String normalized = value.trim().toUpperCase();
+        for (Resolution resolution : values()) {
+            if (resolution.name().equals(normalized) || resolution.name().substring(0, 1).equals(normalized)) {
+                return resolution;
+            }
+        }
+        throw new IllegalArgumentException("Unknown resolution: " + value);
+    }
+}
@@ -0,0 +1,120 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+/**
+ * ReturnPoint Model Class
+ * Represents a symbol's drawdown and return figures on one trade date, all in percent:
+ * drawdown from the running maximum close, cumulative return since the first close, and
+ * trailing 1, 3 and 5 year (252, 756 and 1260 trading day) returns
+ */
+public class ReturnPoint {
+
+    private String symbol;
+    private Date tradeDate;
+    private BigDecimal closePrice;
+    private BigDecimal runningMax;
+    private BigDecimal drawdown;
+    private BigDecimal cumulativeReturn;
+    private BigDecimal return1y;
+    private BigDecimal return3y;
+    private BigDecimal return5y;
+
+    // Default constructor
+    public ReturnPoint() {
+    }
+
+    // Constructor with essential fields
+    public ReturnPoint(String symbol, Date tradeDate) {
+        this.symbol = symbol;
+        this.tradeDate = tradeDate;
+    }
+
+    // Getters and Setters
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public Date getTradeDate() {
+        return tradeDate;
+    }
+
+    public void setTradeDate(Date tradeDate) {
+        this.tradeDate = tradeDate;
+    }
+
+    public BigDecimal getClosePrice() {
+        return closePrice;
+    }
+
+    public void setClosePrice(BigDecimal closePrice) {
+        this.closePrice = closePrice;
+    }
+
+    public BigDecimal getRunningMax() {
+        return runningMax;
+    }
+
+    public void setRunningMax(BigDecimal runningMax) {
+        this.runningMax = runningMax;
+    }
+
+    public BigDecimal getDrawdown() {
+        return drawdown;
+    }
+
+    public void setDrawdown(BigDecimal drawdown) {
+        this.drawdown = drawdown;
+    }
+
+    public BigDecimal getCumulativeReturn() {
+        return cumulativeReturn;
+    }
+
+    public void setCumulativeReturn(BigDecimal cumulativeReturn) {
+        this.cumulativeReturn = cumulativeReturn;
+    }
+
+    public BigDecimal getReturn1y() {
+        return return1y;
+    }
+
+    public void setReturn1y(BigDecimal return1y) {
+        this.return1y = return1y;
+    }
+
+    public BigDecimal getReturn3y() {
+        return return3y;
+    }
+
+    public void setReturn3y(BigDecimal return3y) {
+        this.return3y = return3y;
+    }
+
+    public BigDecimal getReturn5y() {
+        return return5y;
+    }
+
+    public void setReturn5y(BigDecimal return5y) {
+        this.return5y = return5y;
+    }
+
+    @Override
+    public String toString() {
+        return "ReturnPoint{" +
+                "symbol='" + symbol + '\'' +
+                ", tradeDate=" + tradeDate +
+                ", closePrice=" + closePrice +
+                ", drawdown=" + drawdown +
+                ", cumulativeReturn=" + cumulativeReturn +
+                ", return1y=" + return1y +
+                ", return3y=" + return3y +
+                ", return5y=" + return5y +
+                '}';
+    }
+}
@@ -0,0 +1,132 @@
+package com.revature.stocks.model;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.revature.stocks.analytics.risk.RiskMeasures;
+
+/**
+ * RiskReport Model Class
+ * Represents portfolio Value at Risk and expected shortfall over one day and a
+ * multi-day horizon, by historical simulation and by Monte Carlo
+ */
+public class RiskReport {
+
+    private Map<String, Double> positionValues;
+    private List<String> unpricedSymbols;
+    private double portfolioValue;
+    private double confidence;
+    private int horizonDays;
+    private Date fromDate;
+    private Date toDate;
+    private RiskMeasures historicalOneDay;
+    private RiskMeasures historicalHorizon;
+    private RiskMeasures monteCarloOneDay;
+    private RiskMeasures monteCarloHorizon;
+
+    // Default constructor
+    public RiskReport() {
+    }
+
+    // Getters and Setters
+    public Map<String, Double> getPositionValues() {
+        return positionValues;
+    }
+
+    public void setPositionValues(Map<String, Double> positionValues) {
+        this.positionValues = positionValues;
+    }
+
+    public List<String> getUnpricedSymbols() {
+        return unpricedSymbols;
+    }
+
+    public void setUnpricedSymbols(List<String> unpricedSymbols) {
+        this.unpricedSymbols = unpricedSymbols;
+    }
+
+    public double getPortfolioValue() {
+        return portfolioValue;
+    }
+
+    public void setPortfolioValue(double portfolioValue) {
+        this.portfolioValue = portfolioValue;
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(double confidence) {
+        this.confidence = confidence;
+    }
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    public void setHorizonDays(int horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
+    public Date getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(Date fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public Date getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(Date toDate) {
+        this.toDate = toDate;
+    }
+
+    public RiskMeasures getHistoricalOneDay() {
+        return historicalOneDay;
+    }
+
+    public void setHistoricalOneDay(RiskMeasures historicalOneDay) {
+        this.historicalOneDay = historicalOneDay;
+    }
+
+    public RiskMeasures getHistoricalHorizon() {
+        return historicalHorizon;
+    }
+
+    public void setHistoricalHorizon(RiskMeasures historicalHorizon) {
+        this.historicalHorizon = historicalHorizon;
+    }
+
+    public RiskMeasures getMonteCarloOneDay() {
+        return monteCarloOneDay;
+    }
+
+    public void setMonteCarloOneDay(RiskMeasures monteCarloOneDay) {
+        this.monteCarloOneDay = monteCarloOneDay;
+    }
+
+    public RiskMeasures getMonteCarloHorizon() {
+        return monteCarloHorizon;
+    }
+
+    public void setMonteCarloHorizon(RiskMeasures monteCarloHorizon) {
+        this.monteCarloHorizon = monteCarloHorizon;
+    }
+
+    @Override
+    public String toString() {
+        return "RiskReport{" +
+                "positions=" + (positionValues != null ? positionValues.size() : 0) +
+                ", portfolioValue=" + portfolioValue +
+                ", confidence=" + confidence +
+                ", horizonDays=" + horizonDays +
+                ", fromDate=" + fromDate +
+                ", toDate=" + toDate +
+                '}';
+    }
+}
@@ -0,0 +1,156 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * SectorRollup Model Class
+ * Represents the aggregated daily figures of one sector
+ */
+public class SectorRollup {
+
+    private long id;
+    private String sector;
+    private Date tradeDate;
+    private int symbolCount;
+    private BigDecimal equalWeightedReturn;
+    private BigDecimal capWeightedReturn;
+    private BigDecimal avgVolatility;
+    private Long totalVolume;
+    private BigDecimal totalTurnover;
+    private Timestamp createdDate;
+    private Timestamp updatedDate;
+
+    // Default constructor
+    public SectorRollup() {
+    }
+
+    // Constructor with essential fields
+    public SectorRollup(String sector, Date tradeDate) {
+        this.sector = sector;
+        this.tradeDate = tradeDate;
+    }
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getSector() {
+        return sector;
+    }
+
+    public void setSector(String sector) {
+        this.sector = sector;
+    }
+
+    public Date getTradeDate() {
+        return tradeDate;
+    }
+
+    public void setTradeDate(Date tradeDate) {
+        this.tradeDate = tradeDate;
+    }
+
+    public int getSymbolCount() {
+        return symbolCount;
+    }
+
+    public void setSymbolCount(int symbolCount) {
+        this.symbolCount = symbolCount;
+    }
+
+    public BigDecimal getEqualWeightedReturn() {
+        return equalWeightedReturn;
+    }
+
+    public void setEqualWeightedReturn(BigDecimal equalWeightedReturn) {
+        this.equalWeightedReturn = equalWeightedReturn;
+    }
+
+    public BigDecimal getCapWeightedReturn() {
+        return capWeightedReturn;
+    }
+
+    public void setCapWeightedReturn(BigDecimal capWeightedReturn) {
+        this.capWeightedReturn = capWeightedReturn;
+    }
+
+    public BigDecimal getAvgVolatility() {
+        return avgVolatility;
+    }
+
+    public void setAvgVolatility(BigDecimal avgVolatility) {
+        this.avgVolatility = avgVolatility;
+    }
+
+    public Long getTotalVolume() {
+        return totalVolume;
+    }
+
+    public void setTotalVolume(Long totalVolume) {
+        this.totalVolume = totalVolume;
+    }
+
+    public BigDecimal getTotalTurnover() {
+        return totalTurnover;
+    }
+
+    public void setTotalTurnover(BigDecimal totalTurnover) {
+        this.totalTurnover = totalTurnover;
+    }
+
+    public Timestamp getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Timestamp createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Timestamp getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public void setUpdatedDate(Timestamp updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+
+    @Override
+    public String toString() {
+        return "SectorRollup{" +
+                "id=" + id +
+                ", sector='" + sector + '\'' +
+                ", tradeDate=" + tradeDate +
+                ", symbolCount=" + symbolCount +
+                ", equalWeightedReturn=" + equalWeightedReturn +
+                ", capWeightedReturn=" + capWeightedReturn +
+                ", avgVolatility=" + avgVolatility +
+                ", totalVolume=" + totalVolume +
+                ", totalTurnover=" + totalTurnover +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SectorRollup that = (SectorRollup) o;
+
+        if (!sector.equals(that.sector)) return false;
+        return tradeDate.equals(that.tradeDate);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = sector.hashCode();
+        result = 31 * result + tradeDate.hashCode();
+        return result;
+    }
+}
@@ -183,23 +183,37 @@ public class StockAnalytics {
     }
     
     public String getVolatilityCategory() {
-        if (dailyVolatility == null) return "Unknown";
+        return volatilityCategoryOf(dailyVolatility);
+    }
+    
+    public String getPerformanceCategory() {
+        return performanceCategoryOf(dailyPriceChange);
+    }
+    
+    /**
+     * Volatility band of a (daily or average) volatility in percent
+     */
+    public static String volatilityCategoryOf(BigDecimal volatility) {
+        if (volatility == null) return "Unknown";
         
-        if (dailyVolatility.compareTo(new BigDecimal("2.0")) <= 0) {
+        if (volatility.compareTo(new BigDecimal("2.0")) <= 0) {
             return "Low";
-        } else if (dailyVolatility.compareTo(new BigDecimal("5.0")) <= 0) {
+        } else if (volatility.compareTo(new BigDecimal("5.0")) <= 0) {
             return "Medium";
         } else {
             return "High";
         }
     }
     
-    public String getPerformanceCategory() {
-        if (dailyPriceChange == null) return "Unknown";
+    /**
+     * Performance band of a (daily or average) price change in percent
+     */
+    public static String performanceCategoryOf(BigDecimal priceChange) {
+        if (priceChange == null) return "Unknown";
         
-        if (dailyPriceChange.compareTo(new BigDecimal("-2.0")) < 0) {
+        if (priceChange.compareTo(new BigDecimal("-2.0")) < 0) {
             return "Poor";
-        } else if (dailyPriceChange.compareTo(new BigDecimal("2.0")) <= 0) {
+        } else if (priceChange.compareTo(new BigDecimal("2.0")) <= 0) {
             return "Stable";
         } else {
             return "Good";
@@ -0,0 +1,67 @@
+package com.revature.stocks.model;
+
+import java.sql.Timestamp;
+
+/**
+ * SymbolAlias Model Class
+ * Maps an old or alternate trading symbol onto the canonical symbol of the same company
+ */
+public class SymbolAlias {
+
+    private String aliasSymbol;
+    private String canonicalSymbol;
+    private String description;
+    private Timestamp createdDate;
+
+    // Default constructor
+    public SymbolAlias() {
+    }
+
+    // Constructor with essential fields
+    public SymbolAlias(String aliasSymbol, String canonicalSymbol) {
+        this.aliasSymbol = aliasSymbol;
+        this.canonicalSymbol = canonicalSymbol;
+    }
+
+    // Getters and Setters
+    public String getAliasSymbol() {
+        return aliasSymbol;
+    }
+
+    public void setAliasSymbol(String aliasSymbol) {
+        this.aliasSymbol = aliasSymbol;
+    }
+
+    public String getCanonicalSymbol() {
+        return canonicalSymbol;
+    }
+
+    public void setCanonicalSymbol(String canonicalSymbol) {
+        this.canonicalSymbol = canonicalSymbol;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Timestamp getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Timestamp createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public String toString() {
+        return "SymbolAlias{" +
+                "aliasSymbol='" + aliasSymbol + '\'' +
+                ", canonicalSymbol='" + canonicalSymbol + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,220 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+/**
+ * TechnicalIndicators Model Class
+ * Represents the standard technical indicators for a stock on one trade date
+ */
+public class TechnicalIndicators {
+
+    private long id;
+    private String symbol;
+    private Date analysisDate;
+    private BigDecimal ema12;
+    private BigDecimal ema26;
+    private BigDecimal rsi14;
+    private BigDecimal macd;
+    private BigDecimal macdSignal;
+    private BigDecimal macdHistogram;
+    private BigDecimal bollingerUpper;
+    private BigDecimal bollingerMiddle;
+    private BigDecimal bollingerLower;
+    private BigDecimal atr14;
+    private Timestamp createdDate;
+    private Timestamp updatedDate;
+
+    // Default constructor
+    public TechnicalIndicators() {
+    }
+
+    // Constructor with essential fields
+    public TechnicalIndicators(String symbol, Date analysisDate) {
+        this.symbol = symbol;
+        this.analysisDate = analysisDate;
+    }
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public Date getAnalysisDate() {
+        return analysisDate;
+    }
+
+    public void setAnalysisDate(Date analysisDate) {
+        this.analysisDate = analysisDate;
+    }
+
+    public BigDecimal getEma12() {
+        return ema12;
+    }
+
+    public void setEma12(BigDecimal ema12) {
+        this.ema12 = ema12;
+    }
+
+    public BigDecimal getEma26() {
+        return ema26;
+    }
+
+    public void setEma26(BigDecimal ema26) {
+        this.ema26 = ema26;
+    }
+
+    public BigDecimal getRsi14() {
+        return rsi14;
+    }
+
+    public void setRsi14(BigDecimal rsi14) {
+        this.rsi14 = rsi14;
+    }
+
+    public BigDecimal getMacd() {
+        return macd;
+    }
+
+    public void setMacd(BigDecimal macd) {
+        this.macd = macd;
+    }
+
+    public BigDecimal getMacdSignal() {
+        return macdSignal;
+    }
+
+    public void setMacdSignal(BigDecimal macdSignal) {
+        this.macdSignal = macdSignal;
+    }
+
+    public BigDecimal getMacdHistogram() {
+        return macdHistogram;
+    }
+
+    public void setMacdHistogram(BigDecimal macdHistogram) {
+        this.macdHistogram = macdHistogram;
+    }
+
+    public BigDecimal getBollingerUpper() {
+        return bollingerUpper;
+    }
+
+    public void setBollingerUpper(BigDecimal bollingerUpper) {
+        this.bollingerUpper = bollingerUpper;
+    }
+
+    public BigDecimal getBollingerMiddle() {
+        return bollingerMiddle;
+    }
+
+    public void setBollingerMiddle(BigDecimal bollingerMiddle) {
+        this.bollingerMiddle = bollingerMiddle;
+    }
+
+    public BigDecimal getBollingerLower() {
+        return bollingerLower;
+    }
+
+    public void setBollingerLower(BigDecimal bollingerLower) {
+        this.bollingerLower = bollingerLower;
+    }
+
+    public BigDecimal getAtr14() {
+        return atr14;
+    }
+
+    public void setAtr14(BigDecimal atr14) {
+        this.atr14 = atr14;
+    }
+
+    public Timestamp getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Timestamp createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Timestamp getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public void setUpdatedDate(Timestamp updatedDate) {
+        this.updatedDate = updatedDate;
+    }
+
+    // Utility methods for analysis
+    public boolean isOverbought() {
+        return rsi14 != null && rsi14.compareTo(new BigDecimal("70")) > 0;
+    }
+
+    public boolean isOversold() {
+        return rsi14 != null && rsi14.compareTo(new BigDecimal("30")) < 0;
+    }
+
+    public String getMomentumSignal() {
+        if (macdHistogram == null) return "Unknown";
+
+        int sign = macdHistogram.signum();
+        if (sign > 0) {
+            return "Bullish";
+        } else if (sign < 0) {
+            return "Bearish";
+        } else {
+            return "Neutral";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TechnicalIndicators{" +
+                "id=" + id +
+                ", symbol='" + symbol + '\'' +
+                ", analysisDate=" + analysisDate +
+                ", ema12=" + ema12 +
+                ", ema26=" + ema26 +
+                ", rsi14=" + rsi14 +
+                ", macd=" + macd +
+                ", macdSignal=" + macdSignal +
+                ", macdHistogram=" + macdHistogram +
+                ", bollingerUpper=" + bollingerUpper +
+                ", bollingerMiddle=" + bollingerMiddle +
+                ", bollingerLower=" + bollingerLower +
+                ", atr14=" + atr14 +
+                ", createdDate=" + createdDate +
+                ", updatedDate=" + updatedDate +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TechnicalIndicators that = (TechnicalIndicators) o;
+
+        if (!symbol.equals(that.symbol)) return false;
+        return analysisDate.equals(that.analysisDate);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = symbol.hashCode();
+        result = 31 * result + analysisDate.hashCode();
+        return result;
+    }
+}
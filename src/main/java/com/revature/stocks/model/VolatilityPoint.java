@@ -0,0 +1,10 @@
+package com.revature.stocks.model;
+
+import java.sql.Date;
+
+/**
+ * VolatilityPoint Record
+ * Intraday range of one trading day, (high - low) / open in percent
+ */
+public record VolatilityPoint(String symbol, Date tradeDate, double dailyVolatility) {
+}
@@ -0,0 +1,15 @@
+package com.revature.stocks.model;
+
+import java.math.BigDecimal;
+
+/**
+ * VolatilityRankRow Record
+ * One symbol's average volatility over a date range, from either the intraday range or stored
+ * realized volatility. maxVolatility is only known for realized volatility and null otherwise.
+ */
+public record VolatilityRankRow(String symbol, BigDecimal avgVolatility, BigDecimal maxVolatility) {
+
+    public String volatilityCategory() {
+        return StockAnalytics.volatilityCategoryOf(avgVolatility);
+    }
+}
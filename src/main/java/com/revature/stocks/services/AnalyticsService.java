@@ -1,15 +1,56 @@
 package com.revature.stocks.services;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
+import com.revature.stocks.analytics.AnalyticsKernels;
+import com.revature.stocks.analytics.CorrelationEngine;
+import com.revature.stocks.analytics.IndicatorEngine;
+import com.revature.stocks.analytics.IndicatorResult;
+import com.revature.stocks.analytics.RankingEngine;
+import com.revature.stocks.analytics.RankingIndex;
+import com.revature.stocks.analytics.RankingIndex.Metric;
+import com.revature.stocks.analytics.RankingIndex.SymbolAverages;
+import com.revature.stocks.analytics.ReturnMatrix;
+import com.revature.stocks.analytics.ReturnSeries;
+import com.revature.stocks.analytics.RollingCorrelation;
+import com.revature.stocks.analytics.RollingVolatilityEngine;
+import com.revature.stocks.cache.CacheStats;
+import com.revature.stocks.cache.DataVersion;
+import com.revature.stocks.cache.VersionedResultCache;
+import com.revature.stocks.config.DatabaseConfig;
 import com.revature.stocks.dao.DailyPriceDAO;
+import com.revature.stocks.dao.RealizedVolatilityDAO;
+import com.revature.stocks.dao.ReturnSeriesDAO;
 import com.revature.stocks.dao.StockAnalyticsDAO;
+import com.revature.stocks.dao.TechnicalIndicatorDAO;
+import com.revature.stocks.dao.WriteOutcome;
+import com.revature.stocks.model.AnalyticsTotals;
+import com.revature.stocks.model.CorrelationMatrix;
 import com.revature.stocks.model.DailyPrice;
+import com.revature.stocks.model.MovingAveragePoint;
+import com.revature.stocks.model.PerformanceRow;
+import com.revature.stocks.model.PriceChangePoint;
+import com.revature.stocks.model.PriceGapPoint;
+import com.revature.stocks.model.PriceSeries;
+import com.revature.stocks.model.PriceSeries.Projection;
+import com.revature.stocks.model.RealizedVolatility;
+import com.revature.stocks.model.ReturnPoint;
 import com.revature.stocks.model.StockAnalytics;
+import com.revature.stocks.model.TechnicalIndicators;
+import com.revature.stocks.model.VolatilityPoint;
+import com.revature.stocks.model.VolatilityRankRow;
 
 /**
  * AnalyticsService Class
@@ -18,24 +59,115 @@ import com.revature.stocks.model.StockAnalytics;
 public class AnalyticsService {
     
     private static final Logger logger = Logger.getLogger(AnalyticsService.class.getName());
+    public static final int[] DEFAULT_REALIZED_VOLATILITY_WINDOWS = {20, 60, 252};
+    public static final String ADJUSTED_PRICES_PROPERTY = "analytics.adjusted.prices";
+    
+    // Shared by all service instances: symbol -> stored return series, loaded on first lookup
+    // and reloaded once daily_prices has changed since
+    private static final Map<String, CachedReturnSeries> returnSeriesCache = new ConcurrentHashMap<>();
+    
+    // Shared ranking results keyed by (query, fromDate[, limit]); valid while the source table is unchanged
+    private static final VersionedResultCache<List<Object>, List<PerformanceRow>> performanceResultCache =
+        createResultCache("performance-results", DataVersion.STOCK_ANALYTICS);
+    private static final VersionedResultCache<List<Object>, List<VolatilityRankRow>> volatilityResultCache =
+        createResultCache("volatility-results", DataVersion.STOCK_ANALYTICS);
+    private static final VersionedResultCache<List<Object>, List<VolatilityRankRow>> realizedVolatilityResultCache =
+        createResultCache("realized-volatility-results", DataVersion.REALIZED_VOLATILITY);
+    
     private StockAnalyticsDAO analyticsDAO;
     private DailyPriceDAO dailyPriceDAO;
+    private TechnicalIndicatorDAO indicatorDAO;
+    private RealizedVolatilityDAO realizedVolatilityDAO;
+    private ReturnSeriesDAO returnSeriesDAO;
+    private SectorService sectorService;
+    private PercentileRankService percentileRankService;
+    private PriceAdjustmentService priceAdjustmentService;
+    private boolean useAdjustedPrices;
     
     public AnalyticsService() {
         this.analyticsDAO = new StockAnalyticsDAO();
         this.dailyPriceDAO = new DailyPriceDAO();
+        this.indicatorDAO = new TechnicalIndicatorDAO();
+        this.realizedVolatilityDAO = new RealizedVolatilityDAO();
+        this.returnSeriesDAO = new ReturnSeriesDAO();
+        this.sectorService = new SectorService();
+        this.percentileRankService = new PercentileRankService();
+        this.priceAdjustmentService = new PriceAdjustmentService();
+        this.useAdjustedPrices = Boolean.parseBoolean(
+            DatabaseConfig.getInstance().getProperty(ADJUSTED_PRICES_PROPERTY, "false"));
+    }
+    
+    /**
+     * Whether series-based analytics (indicators, realized volatility, analytics history and
+     * correlations) run on split/alias adjusted prices instead of raw daily_prices
+     */
+    public boolean isUseAdjustedPrices() {
+        return useAdjustedPrices;
+    }
+    
+    public void setUseAdjustedPrices(boolean useAdjustedPrices) {
+        this.useAdjustedPrices = useAdjustedPrices;
     }
     
     /**
      * Calculate and store analytics for a stock
      */
     public boolean calculateAndStoreAnalytics(String symbol, Date analysisDate) {
+        return calculateAndStoreAnalytics(Collections.singletonList(symbol), analysisDate) > 0;
+    }
+    
+    /**
+     * Calculate and store analytics for several stocks on one date, written in one batch.
+     * Sector rollups and percentile ranks for the date are refreshed once afterwards.
+     * @return number of stocks stored
+     */
+    public int calculateAndStoreAnalytics(Collection<String> symbols, Date analysisDate) {
+        List<StockAnalytics> rows = new ArrayList<>();
+        for (String symbol : symbols) {
+            StockAnalytics analytics = calculateAnalytics(symbol, analysisDate);
+            if (analytics != null) {
+                rows.add(analytics);
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        
+        List<WriteOutcome> outcomes = analyticsDAO.insertOrUpdateAnalyticsBatch(rows);
+        int stored = 0;
+        String lastStored = null;
+        for (int i = 0; i < outcomes.size(); i++) {
+            String symbol = rows.get(i).getSymbol();
+            if (outcomes.get(i).isSuccess()) {
+                stored++;
+                lastStored = symbol;
+            } else {
+                logger.warning("Failed to store analytics for " + symbol + " on " + analysisDate);
+            }
+        }
+        logger.info("Calculated and stored analytics for " + stored + " of " + rows.size() + " stocks on " + analysisDate);
+        
+        if (stored == 1) {
+            sectorService.refreshSectorRollupsForSymbol(lastStored, analysisDate, analysisDate);
+        } else if (stored > 1) {
+            sectorService.refreshSectorRollups(analysisDate, analysisDate);
+        }
+        if (stored > 0) {
+            percentileRankService.refreshPercentileRanks(analysisDate, analysisDate);
+        }
+        return stored;
+    }
+    
+    /**
+     * Helper method to calculate one stock's analytics on a date, or null without price data for it
+     */
+    private StockAnalytics calculateAnalytics(String symbol, Date analysisDate) {
         try {
             // Get price data for calculations
             List<DailyPrice> priceData = dailyPriceDAO.findBySymbol(symbol);
             if (priceData.isEmpty()) {
                 logger.warning("No price data available for analytics calculation: " + symbol);
-                return false;
+                return null;
             }
             
             // Find the specific date's data
@@ -49,7 +181,7 @@ public class AnalyticsService {
             
             if (currentData == null) {
                 logger.warning("No price data found for " + symbol + " on " + analysisDate);
-                return false;
+                return null;
             }
             
             // Calculate analytics
@@ -82,24 +214,75 @@ public class AnalyticsService {
             if (currentData.getTurnover() != null && currentData.getVolume() != null && 
                 currentData.getVolume() > 0) {
                 BigDecimal turnoverRatio = currentData.getTurnover()
-                    .divide(new BigDecimal(currentData.getVolume()), 4, BigDecimal.ROUND_HALF_UP);
+                    .divide(new BigDecimal(currentData.getVolume()), 4, RoundingMode.HALF_UP);
                 analytics.setTurnoverRatio(turnoverRatio);
             }
             
-            // Store analytics
-            boolean result = analyticsDAO.insertOrUpdateAnalytics(analytics);
+            return analytics;
             
-            if (result) {
-                logger.info("Successfully calculated and stored analytics for " + symbol + " on " + analysisDate);
-            } else {
-                logger.warning("Failed to store analytics for " + symbol + " on " + analysisDate);
+        } catch (Exception e) {
+            logger.severe("Error calculating analytics for " + symbol + " on " + analysisDate + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Calculate and store analytics for every trade date of a stock in one pass.
+     * The per-day math runs through the bulk analytics kernels (SIMD when available).
+     */
+    public int calculateAndStoreAnalyticsHistory(String symbol) {
+        return calculateAndStoreAnalyticsHistory(symbol, null, null);
+    }
+    
+    /**
+     * Calculate and store analytics for the trade dates of a stock between two dates (either
+     * may be null for an open end). Moving averages still look back before the start date.
+     */
+    public int calculateAndStoreAnalyticsHistory(String symbol, Date fromDate, Date toDate) {
+        try {
+            PriceSeries series = loadSeries(symbol, Projection.ALL);
+            if (series.isEmpty()) {
+                logger.warning("No price data available for analytics calculation: " + symbol);
+                return 0;
+            }
+            
+            List<StockAnalytics> history = new ArrayList<>();
+            for (StockAnalytics analytics : calculateAnalyticsHistory(series)) {
+                Date date = analytics.getAnalysisDate();
+                if ((fromDate == null || !date.before(fromDate)) && (toDate == null || !date.after(toDate))) {
+                    history.add(analytics);
+                }
+            }
+            if (history.isEmpty()) {
+                logger.warning("No price data found for " + symbol + " between " + fromDate + " and " + toDate);
+                return 0;
             }
             
-            return result;
+            List<WriteOutcome> outcomes = analyticsDAO.insertOrUpdateAnalyticsBatch(history);
+            int stored = 0;
+            for (int i = 0; i < outcomes.size(); i++) {
+                if (outcomes.get(i).isSuccess()) {
+                    stored++;
+                } else {
+                    logger.warning("Failed to store analytics for " + symbol + " on " + history.get(i).getAnalysisDate());
+                }
+            }
+            
+            if (stored > 0) {
+                // History is newest first
+                sectorService.refreshSectorRollupsForSymbol(symbol, history.get(history.size() - 1).getAnalysisDate(),
+                                                            history.get(0).getAnalysisDate());
+                percentileRankService.updatePercentileRanks();
+                refreshReturnSeries(symbol);
+                calculateAndStoreRealizedVolatility(symbol);
+            }
+            
+            logger.info("Stored " + stored + " of " + history.size() + " analytics records for " + symbol);
+            return stored;
             
         } catch (Exception e) {
-            logger.severe("Error calculating analytics for " + symbol + " on " + analysisDate + ": " + e.getMessage());
-            return false;
+            logger.severe("Error calculating analytics history for " + symbol + ": " + e.getMessage());
+            return 0;
         }
     }
     
@@ -118,6 +301,24 @@ public class AnalyticsService {
         }
     }
     
+    /**
+     * Get one page of analytics, newest first: up to limit records before the given analysis
+     * date, or the most recent records when it is null. Pass the last record's analysis date to
+     * fetch the next page.
+     */
+    public List<StockAnalytics> getAnalyticsPage(String symbol, Date beforeDate, int limit) {
+        try {
+            List<StockAnalytics> page = analyticsDAO.findPageBySymbol(symbol, beforeDate, limit);
+            logger.info("Retrieved " + page.size() + " analytics records for: " + symbol +
+                       (beforeDate != null ? " before " + beforeDate : ""));
+            return page;
+            
+        } catch (Exception e) {
+            logger.severe("Error retrieving analytics page for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
     /**
      * Get analytics within date range
      */
@@ -134,12 +335,28 @@ public class AnalyticsService {
         }
     }
     
+    /**
+     * Get analytics of several symbols within a date range in one query, keyed by symbol with
+     * each list newest first
+     */
+    public Map<String, List<StockAnalytics>> getAnalyticsInRange(Collection<String> symbols, Date startDate, Date endDate) {
+        try {
+            Map<String, List<StockAnalytics>> analytics = analyticsDAO.findBySymbolsAndDateRange(symbols, startDate, endDate);
+            logger.info("Retrieved analytics for " + analytics.size() + " symbols between " + startDate + " and " + endDate);
+            return analytics;
+            
+        } catch (Exception e) {
+            logger.severe("Error retrieving analytics in range for " + symbols + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
     /**
      * Calculate daily volatility for all dates
      */
-    public List<Map<String, Object>> calculateDailyVolatility(String symbol) {
+    public List<VolatilityPoint> calculateDailyVolatility(String symbol) {
         try {
-            List<Map<String, Object>> volatilityData = analyticsDAO.calculateDailyVolatility(symbol);
+            List<VolatilityPoint> volatilityData = analyticsDAO.calculateDailyVolatility(symbol);
             logger.info("Calculated daily volatility for " + volatilityData.size() + " dates for: " + symbol);
             return volatilityData;
             
@@ -152,9 +369,9 @@ public class AnalyticsService {
     /**
      * Calculate daily price changes
      */
-    public List<Map<String, Object>> calculateDailyPriceChanges(String symbol) {
+    public List<PriceChangePoint> calculateDailyPriceChanges(String symbol) {
         try {
-            List<Map<String, Object>> priceChangeData = analyticsDAO.calculateDailyPriceChange(symbol);
+            List<PriceChangePoint> priceChangeData = analyticsDAO.calculateDailyPriceChange(symbol);
             logger.info("Calculated daily price changes for " + priceChangeData.size() + " dates for: " + symbol);
             return priceChangeData;
             
@@ -167,9 +384,9 @@ public class AnalyticsService {
     /**
      * Calculate moving averages
      */
-    public List<Map<String, Object>> calculateMovingAverages(String symbol) {
+    public List<MovingAveragePoint> calculateMovingAverages(String symbol) {
         try {
-            List<Map<String, Object>> movingAvgData = analyticsDAO.calculateMovingAverages(symbol);
+            List<MovingAveragePoint> movingAvgData = analyticsDAO.calculateMovingAverages(symbol);
             logger.info("Calculated moving averages for " + movingAvgData.size() + " dates for: " + symbol);
             return movingAvgData;
             
@@ -182,9 +399,9 @@ public class AnalyticsService {
     /**
      * Calculate price gaps
      */
-    public List<Map<String, Object>> calculatePriceGaps(String symbol) {
+    public List<PriceGapPoint> calculatePriceGaps(String symbol) {
         try {
-            List<Map<String, Object>> priceGapData = analyticsDAO.calculatePriceGap(symbol);
+            List<PriceGapPoint> priceGapData = analyticsDAO.calculatePriceGap(symbol);
             logger.info("Calculated price gaps for " + priceGapData.size() + " dates for: " + symbol);
             return priceGapData;
             
@@ -195,13 +412,13 @@ public class AnalyticsService {
     }
     
     /**
-     * Compare stock performance
+     * Compare stock performance; the returned list is shared and read-only
      */
-    public List<Map<String, Object>> compareStockPerformance(Date fromDate) {
+    public List<PerformanceRow> compareStockPerformance(Date fromDate) {
         try {
-            List<Map<String, Object>> performanceData = analyticsDAO.compareStockPerformance(fromDate);
-            logger.info("Compared performance for " + performanceData.size() + " stocks from: " + fromDate);
-            return performanceData;
+            return performanceResultCache.get(Arrays.asList("compareStockPerformance", fromDate),
+                                            () -> computeStockPerformance(fromDate),
+                                            AnalyticsService::isCacheable);
             
         } catch (Exception e) {
             logger.severe("Error comparing stock performance from " + fromDate + ": " + e.getMessage());
@@ -209,14 +426,26 @@ public class AnalyticsService {
         }
     }
     
+    private List<PerformanceRow> computeStockPerformance(Date fromDate) {
+        RankingIndex index = getRankingIndex();
+        List<PerformanceRow> performanceData;
+        if (index != null) {
+            performanceData = toPerformanceRows(index.rank(fromDate, Metric.DAILY_PRICE_CHANGE));
+        } else {
+            performanceData = analyticsDAO.compareStockPerformance(fromDate);
+        }
+        logger.info("Compared performance for " + performanceData.size() + " stocks from: " + fromDate);
+        return Collections.unmodifiableList(performanceData);
+    }
+    
     /**
-     * Get top performing stocks
+     * Get top performing stocks; the returned list is shared and read-only
      */
-    public List<Map<String, Object>> getTopPerformers(Date fromDate, int limit) {
+    public List<PerformanceRow> getTopPerformers(Date fromDate, int limit) {
         try {
-            List<Map<String, Object>> topPerformers = analyticsDAO.getTopPerformers(fromDate, limit);
-            logger.info("Retrieved top " + limit + " performers from: " + fromDate);
-            return topPerformers;
+            return performanceResultCache.get(Arrays.asList("getTopPerformers", fromDate, limit),
+                                            () -> computeTopPerformers(fromDate, limit),
+                                            AnalyticsService::isCacheable);
             
         } catch (Exception e) {
             logger.severe("Error getting top performers from " + fromDate + ": " + e.getMessage());
@@ -224,14 +453,26 @@ public class AnalyticsService {
         }
     }
     
+    private List<PerformanceRow> computeTopPerformers(Date fromDate, int limit) {
+        RankingIndex index = getRankingIndex();
+        List<PerformanceRow> topPerformers;
+        if (index != null) {
+            topPerformers = toPerformanceRows(index.top(fromDate, Metric.DAILY_PRICE_CHANGE, limit));
+        } else {
+            topPerformers = analyticsDAO.getTopPerformers(fromDate, limit);
+        }
+        logger.info("Retrieved top " + limit + " performers from: " + fromDate);
+        return Collections.unmodifiableList(topPerformers);
+    }
+    
     /**
-     * Rank stocks by volatility
+     * Rank stocks by volatility; the returned list is shared and read-only
      */
-    public List<Map<String, Object>> rankStocksByVolatility(Date fromDate) {
+    public List<VolatilityRankRow> rankStocksByVolatility(Date fromDate) {
         try {
-            List<Map<String, Object>> volatilityRanking = analyticsDAO.rankStocksByVolatility(fromDate);
-            logger.info("Retrieved volatility ranking for " + volatilityRanking.size() + " stocks from: " + fromDate);
-            return volatilityRanking;
+            return volatilityResultCache.get(Arrays.asList("rankStocksByVolatility", fromDate),
+                                            () -> computeVolatilityRanking(fromDate),
+                                            AnalyticsService::isCacheable);
             
         } catch (Exception e) {
             logger.severe("Error ranking stocks by volatility from " + fromDate + ": " + e.getMessage());
@@ -239,6 +480,222 @@ public class AnalyticsService {
         }
     }
     
+    private List<VolatilityRankRow> computeVolatilityRanking(Date fromDate) {
+        RankingIndex index = getRankingIndex();
+        List<VolatilityRankRow> volatilityRanking;
+        if (index != null) {
+            volatilityRanking = toVolatilityRankRows(index.rank(fromDate, Metric.DAILY_VOLATILITY));
+        } else {
+            volatilityRanking = analyticsDAO.rankStocksByVolatility(fromDate);
+        }
+        logger.info("Retrieved volatility ranking for " + volatilityRanking.size() + " stocks from: " + fromDate);
+        return Collections.unmodifiableList(volatilityRanking);
+    }
+    
+    /**
+     * Rank stocks by volatility; a positive window ranks by stored N-day realized volatility
+     * instead of the intraday high-low range
+     */
+    public List<VolatilityRankRow> rankStocksByVolatility(Date fromDate, int realizedWindowDays) {
+        if (realizedWindowDays <= 0) {
+            return rankStocksByVolatility(fromDate);
+        }
+        
+        try {
+            return realizedVolatilityResultCache.get(
+                Arrays.asList("rankStocksByRealizedVolatility", fromDate, realizedWindowDays), () -> {
+                    List<VolatilityRankRow> volatilityRanking =
+                        realizedVolatilityDAO.rankStocksByRealizedVolatility(fromDate, realizedWindowDays);
+                    logger.info("Retrieved " + realizedWindowDays + "-day realized volatility ranking for " +
+                               volatilityRanking.size() + " stocks from: " + fromDate);
+                    return Collections.unmodifiableList(volatilityRanking);
+                }, AnalyticsService::isCacheable);
+            
+        } catch (Exception e) {
+            logger.severe("Error ranking stocks by realized volatility from " + fromDate + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Calculate rolling realized volatility for each window (newest first), without storing it
+     */
+    public List<RealizedVolatility> calculateRealizedVolatility(String symbol, int... windows) {
+        try {
+            PriceSeries series = loadSeries(symbol, Projection.CLOSE);
+            RollingVolatilityEngine engine = new RollingVolatilityEngine(windows);
+            double[][] volatility = engine.compute(series);
+            
+            List<RealizedVolatility> results = new ArrayList<>();
+            for (int i = series.size() - 1; i >= 0; i--) {
+                for (int w = 0; w < windows.length; w++) {
+                    BigDecimal value = toDecimal(volatility[w][i]);
+                    if (value != null) {
+                        results.add(new RealizedVolatility(symbol, series.getTradeDate(i), windows[w], value));
+                    }
+                }
+            }
+            
+            logger.info("Calculated " + results.size() + " realized volatility values for: " + symbol);
+            return results;
+            
+        } catch (Exception e) {
+            logger.severe("Error calculating realized volatility for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Calculate rolling realized volatility for the default windows and store it
+     */
+    public int calculateAndStoreRealizedVolatility(String symbol) {
+        return calculateAndStoreRealizedVolatility(symbol, DEFAULT_REALIZED_VOLATILITY_WINDOWS);
+    }
+    
+    /**
+     * Calculate rolling realized volatility for each window and store it in one batch
+     */
+    public int calculateAndStoreRealizedVolatility(String symbol, int... windows) {
+        try {
+            List<RealizedVolatility> volatilities = calculateRealizedVolatility(symbol, windows);
+            if (volatilities == null || volatilities.isEmpty()) {
+                logger.warning("Not enough price data for realized volatility: " + symbol);
+                return 0;
+            }
+            
+            int stored = realizedVolatilityDAO.insertOrUpdateBatch(volatilities);
+            logger.info("Stored " + stored + " realized volatility records for " + symbol);
+            return stored;
+            
+        } catch (Exception e) {
+            logger.severe("Error storing realized volatility for " + symbol + ": " + e.getMessage());
+            return 0;
+        }
+    }
+    
+    /**
+     * Get stored realized volatility for a stock and window length
+     */
+    public List<RealizedVolatility> getRealizedVolatility(String symbol, int windowDays) {
+        try {
+            List<RealizedVolatility> volatilities = realizedVolatilityDAO.findBySymbol(symbol, windowDays);
+            logger.info("Retrieved " + volatilities.size() + " realized volatility records for: " + symbol);
+            return volatilities;
+            
+        } catch (Exception e) {
+            logger.severe("Error retrieving realized volatility for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Bring a stock's stored drawdown / cumulative / trailing return series up to date.
+     * Only trade dates after the last stored one are written, unless the stored close on that
+     * date no longer matches the price series (revised prices, a new corporate action or a
+     * change of the adjusted-prices flag), in which case the series is rewritten.
+     * @return rows written, or -1 on error
+     */
+    public int refreshReturnSeries(String symbol) {
+        try {
+            symbol = resolveSymbol(symbol);
+            long priceVersion = DataVersion.DAILY_PRICES.current();
+            PriceSeries series = loadSeries(symbol, Projection.CLOSE);
+            ReturnSeries returns = ReturnSeries.compute(series);
+            
+            int fromIndex = 0;
+            ReturnPoint latest = returnSeriesDAO.findLatestBySymbol(symbol);
+            if (latest != null) {
+                int index = series.indexOf(latest.getTradeDate());
+                if (index >= 0 && sameClose(latest.getClosePrice(), series.getClose(index))) {
+                    fromIndex = index + 1;
+                } else if (!returnSeriesDAO.deleteBySymbol(symbol)) {
+                    return -1;
+                }
+            }
+            
+            int written = returnSeriesDAO.insertOrUpdateBatch(returns.pointsFrom(fromIndex));
+            returnSeriesCache.put(symbol, new CachedReturnSeries(priceVersion, returns));
+            logger.info("Return series for " + symbol + ": " + written + " new rows, " + returns.size() + " total");
+            return written;
+            
+        } catch (Exception e) {
+            logger.severe("Error refreshing return series for " + symbol + ": " + e.getMessage());
+            return -1;
+        }
+    }
+    
+    /**
+     * Drawdown, cumulative and trailing returns of a stock as of a date (the last trade date
+     * on or before it). Constant time once the stock's stored series is cached.
+     */
+    public ReturnPoint getReturnPoint(String symbol, Date date) {
+        try {
+            String resolved = resolveSymbol(symbol);
+            long priceVersion = DataVersion.DAILY_PRICES.current();
+            CachedReturnSeries cached = returnSeriesCache.get(resolved);
+            if (cached == null || cached.priceVersion() != priceVersion) {
+                cached = new CachedReturnSeries(priceVersion,
+                    ReturnSeries.fromPoints(resolved, returnSeriesDAO.findBySymbol(resolved)));
+                if (cached.returns().size() == 0) {
+                    returnSeriesCache.remove(resolved);
+                    return null;
+                }
+                returnSeriesCache.put(resolved, cached);
+            }
+            return cached.returns().pointOnOrBefore(date);
+            
+        } catch (Exception e) {
+            logger.severe("Error retrieving return point for " + symbol + " on " + date + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Pairwise correlation of daily returns across all symbols between two dates
+     */
+    public CorrelationMatrix calculateCorrelationMatrix(Date fromDate, Date toDate) {
+        try {
+            ReturnMatrix returns = ReturnMatrix.align(loadSeriesInRange(fromDate, toDate).values());
+            double[][] values = new CorrelationEngine().compute(returns);
+            logger.info("Calculated " + returns.symbolCount() + "x" + returns.symbolCount() +
+                       " correlation matrix over " + returns.dayCount() + " days");
+            return new CorrelationMatrix(returns.getSymbols(), values, fromDate, toDate);
+            
+        } catch (Exception e) {
+            logger.severe("Error calculating correlation matrix from " + fromDate + " to " + toDate + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Rolling-window return correlation of two symbols, keyed by window end date
+     */
+    public Map<Date, Double> calculateRollingCorrelation(String symbolA, String symbolB,
+                                                         Date fromDate, Date toDate, int windowDays) {
+        Map<Date, Double> correlations = new LinkedHashMap<>();
+        try {
+            List<String> symbols = Arrays.asList(resolveSymbol(symbolA), resolveSymbol(symbolB));
+            ReturnMatrix returns = ReturnMatrix.align(loadSeriesForSymbols(symbols, fromDate, toDate).values())
+                                               .select(symbols);
+            if (returns.symbolCount() < 2) {
+                logger.warning("No overlapping price data for " + symbolA + " and " + symbolB);
+                return correlations;
+            }
+            
+            RollingCorrelation rolling = new RollingCorrelation(returns, windowDays);
+            while (rolling.hasNext()) {
+                rolling.advance();
+                correlations.put(rolling.currentEndDate(), rolling.correlation(0, 1));
+            }
+            
+            logger.info("Calculated " + correlations.size() + " rolling correlations for " + symbolA + "/" + symbolB);
+            
+        } catch (Exception e) {
+            logger.severe("Error calculating rolling correlation for " + symbolA + "/" + symbolB + ": " + e.getMessage());
+        }
+        return correlations;
+    }
+    
     /**
      * Generate analytics summary report
      */
@@ -248,41 +705,32 @@ public class AnalyticsService {
             summary.append("=== ANALYTICS SUMMARY FOR ").append(symbol).append(" ===\n");
             summary.append("Analysis Period: From ").append(fromDate).append("\n\n");
             
-            // Get basic analytics
-            List<StockAnalytics> analytics = getAnalyticsInRange(symbol, fromDate, new Date(System.currentTimeMillis()));
+            // The period totals and the latest row are independent queries, so run them in parallel
+            Date toDate = new Date(System.currentTimeMillis());
+            CompletableFuture<AnalyticsTotals> totalsQuery =
+                analyticsDAO.sumBySymbolAndDateRangeAsync(symbol, fromDate, toDate);
+            CompletableFuture<List<StockAnalytics>> latestQuery =
+                analyticsDAO.findPageBySymbolAsync(symbol, Date.valueOf(toDate.toLocalDate().plusDays(1)), 1);
+            AnalyticsTotals totals = totalsQuery.join();
+            List<StockAnalytics> latestPage = latestQuery.join();
             
-            if (analytics.isEmpty()) {
+            if (totals == null || totals.analysisDays() == 0) {
                 summary.append("No analytics data available for the specified period.\n");
                 return summary.toString();
             }
             
             // Calculate averages
-            BigDecimal avgVolatility = BigDecimal.ZERO;
-            BigDecimal avgPriceChange = BigDecimal.ZERO;
-            int count = 0;
-            
-            for (StockAnalytics analytic : analytics) {
-                if (analytic.getDailyVolatility() != null) {
-                    avgVolatility = avgVolatility.add(analytic.getDailyVolatility());
-                }
-                if (analytic.getDailyPriceChange() != null) {
-                    avgPriceChange = avgPriceChange.add(analytic.getDailyPriceChange());
-                }
-                count++;
-            }
-            
-            if (count > 0) {
-                avgVolatility = avgVolatility.divide(new BigDecimal(count), 4, BigDecimal.ROUND_HALF_UP);
-                avgPriceChange = avgPriceChange.divide(new BigDecimal(count), 4, BigDecimal.ROUND_HALF_UP);
-            }
+            int count = totals.analysisDays();
+            BigDecimal avgVolatility = totals.totalVolatility().divide(new BigDecimal(count), 4, RoundingMode.HALF_UP);
+            BigDecimal avgPriceChange = totals.totalPriceChange().divide(new BigDecimal(count), 4, RoundingMode.HALF_UP);
             
             summary.append("Number of Analysis Days: ").append(count).append("\n");
             summary.append("Average Daily Volatility: ").append(avgVolatility).append("%\n");
             summary.append("Average Daily Price Change: ").append(avgPriceChange).append("%\n");
             
-            // Latest analytics
-            if (!analytics.isEmpty()) {
-                StockAnalytics latest = analytics.get(0); // Assuming sorted by date desc
+            // Latest analytics: the newest row up to today, which lies in the period when it has any rows
+            if (!latestPage.isEmpty()) {
+                StockAnalytics latest = latestPage.get(0);
                 summary.append("\nLatest Analytics (").append(latest.getAnalysisDate()).append("):\n");
                 summary.append("- Daily Volatility: ").append(latest.getDailyVolatility()).append("%\n");
                 summary.append("- Daily Price Change: ").append(latest.getDailyPriceChange()).append("%\n");
@@ -300,6 +748,275 @@ public class AnalyticsService {
         }
     }
     
+    /**
+     * Calculate standard technical indicators for every trade date (newest first), without storing them
+     */
+    public List<TechnicalIndicators> calculateTechnicalIndicators(String symbol) {
+        try {
+            PriceSeries series = loadSeries(symbol, Projection.OHLC);
+            List<TechnicalIndicators> indicators = toTechnicalIndicators(IndicatorEngine.standard().run(series));
+            logger.info("Calculated technical indicators for " + indicators.size() + " dates for: " + symbol);
+            return indicators;
+            
+        } catch (Exception e) {
+            logger.severe("Error calculating technical indicators for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Calculate standard technical indicators for every trade date and store them in one batch
+     */
+    public int calculateAndStoreTechnicalIndicators(String symbol) {
+        try {
+            List<TechnicalIndicators> indicators = calculateTechnicalIndicators(symbol);
+            if (indicators == null || indicators.isEmpty()) {
+                logger.warning("No price data available for technical indicators: " + symbol);
+                return 0;
+            }
+            
+            return storeTechnicalIndicators(symbol, indicators);
+            
+        } catch (Exception e) {
+            logger.severe("Error storing technical indicators for " + symbol + ": " + e.getMessage());
+            return 0;
+        }
+    }
+    
+    /**
+     * Store technical indicators that have already been calculated for a stock
+     */
+    public int storeTechnicalIndicators(String symbol, List<TechnicalIndicators> indicators) {
+        try {
+            int stored = indicatorDAO.insertOrUpdateIndicatorsBatch(indicators);
+            logger.info("Stored " + stored + " technical indicator records for " + symbol);
+            return stored;
+            
+        } catch (Exception e) {
+            logger.severe("Error storing technical indicators for " + symbol + ": " + e.getMessage());
+            return 0;
+        }
+    }
+    
+    /**
+     * Get stored technical indicators for a stock
+     */
+    public List<TechnicalIndicators> getTechnicalIndicators(String symbol) {
+        try {
+            List<TechnicalIndicators> indicators = indicatorDAO.findBySymbol(symbol);
+            logger.info("Retrieved " + indicators.size() + " technical indicator records for: " + symbol);
+            return indicators;
+            
+        } catch (Exception e) {
+            logger.severe("Error retrieving technical indicators for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Helper method to compute the daily analytics of a whole series with the bulk kernels, newest first
+     */
+    private List<StockAnalytics> calculateAnalyticsHistory(PriceSeries series) {
+        AnalyticsKernels kernels = AnalyticsKernels.getInstance();
+        int n = series.size();
+        
+        double[] volatility = new double[n];
+        double[] priceChange = new double[n];
+        double[] turnoverRatio = new double[n];
+        kernels.dailyVolatility(series.highPrices(), series.lowPrices(), series.openPrices(), volatility, n);
+        kernels.dailyPriceChange(series.closePrices(), series.openPrices(), priceChange, n);
+        kernels.turnoverRatio(series.turnovers(), series.volumes(), turnoverRatio, n);
+        
+        // Missing closes/volumes are skipped, so sum present values and count them separately
+        double[] closes = new double[n];
+        double[] closePresent = new double[n];
+        double[] volumes = new double[n];
+        double[] volumePresent = new double[n];
+        for (int i = 0; i < n; i++) {
+            double close = series.getClose(i);
+            double volume = series.getVolume(i);
+            closes[i] = Double.isNaN(close) ? 0 : close;
+            closePresent[i] = Double.isNaN(close) ? 0 : 1;
+            volumes[i] = Double.isNaN(volume) ? 0 : volume;
+            volumePresent[i] = Double.isNaN(volume) ? 0 : 1;
+        }
+        
+        int[] maWindows = {7, 30, 90};
+        double[][] maSums = new double[maWindows.length][n];
+        double[][] maCounts = new double[maWindows.length][n];
+        for (int w = 0; w < maWindows.length; w++) {
+            kernels.rollingSum(closes, maWindows[w], maSums[w], n);
+            kernels.rollingSum(closePresent, maWindows[w], maCounts[w], n);
+        }
+        double[] volumeSums = new double[n];
+        double[] volumeCounts = new double[n];
+        kernels.rollingSum(volumes, 5, volumeSums, n);
+        kernels.rollingSum(volumePresent, 5, volumeCounts, n);
+        
+        List<StockAnalytics> history = new ArrayList<>(n);
+        for (int i = n - 1; i >= 0; i--) {
+            StockAnalytics analytics = new StockAnalytics(series.getSymbol(), series.getTradeDate(i));
+            analytics.setDailyVolatility(toDecimal(volatility[i]));
+            analytics.setDailyPriceChange(toDecimal(priceChange[i]));
+            analytics.setPriceGap(toDecimal(series.getOpen(i) - series.getPrevClose(i)));
+            analytics.setMovingAvg7(toDecimal(maSums[0][i] / maCounts[0][i]));
+            analytics.setMovingAvg30(toDecimal(maSums[1][i] / maCounts[1][i]));
+            analytics.setMovingAvg90(toDecimal(maSums[2][i] / maCounts[2][i]));
+            analytics.setTurnoverRatio(toDecimal(turnoverRatio[i]));
+            
+            // Current volume against the average of the previous five reported volumes
+            BigDecimal volumeTrend = BigDecimal.ZERO;
+            if (i > 0 && volumeCounts[i - 1] > 0 && volumePresent[i] > 0) {
+                double avgVolume = volumeSums[i - 1] / volumeCounts[i - 1];
+                if (avgVolume > 0) {
+                    volumeTrend = toDecimal((volumes[i] - avgVolume) / avgVolume * 100.0);
+                }
+            }
+            analytics.setVolumeTrend(volumeTrend);
+            
+            history.add(analytics);
+        }
+        
+        return history;
+    }
+    
+    /**
+     * Helper method to load the projected columns of one symbol's price series, adjusted if the flag is set
+     */
+    private PriceSeries loadSeries(String symbol, Projection projection) {
+        if (useAdjustedPrices) {
+            return priceAdjustmentService.getAdjustedSeries(symbol, projection);
+        }
+        return dailyPriceDAO.findSeriesBySymbol(symbol, projection);
+    }
+    
+    /**
+     * Helper method to load every symbol's close series in a range, adjusted if the flag is set
+     */
+    private Map<String, PriceSeries> loadSeriesInRange(Date fromDate, Date toDate) {
+        Map<String, PriceSeries> series = dailyPriceDAO.findAllSeriesInRange(fromDate, toDate, Projection.CLOSE);
+        return useAdjustedPrices ? priceAdjustmentService.adjustAll(series) : series;
+    }
+    
+    /**
+     * Helper method to load the close series of a few canonical symbols in a range with one
+     * query; when adjusting, their aliases are loaded too and folded in
+     */
+    private Map<String, PriceSeries> loadSeriesForSymbols(List<String> symbols, Date fromDate, Date toDate) {
+        if (!useAdjustedPrices) {
+            return dailyPriceDAO.findSeriesForSymbols(symbols, fromDate, toDate, Projection.CLOSE);
+        }
+        List<String> withAliases = new ArrayList<>();
+        for (String symbol : symbols) {
+            withAliases.add(symbol);
+            withAliases.addAll(priceAdjustmentService.getAliases(symbol));
+        }
+        return priceAdjustmentService.adjustAll(
+            dailyPriceDAO.findSeriesForSymbols(withAliases, fromDate, toDate, Projection.CLOSE));
+    }
+    
+    /**
+     * A cached return series and the daily_prices version it was loaded at
+     */
+    private record CachedReturnSeries(long priceVersion, ReturnSeries returns) {
+    }
+    
+    private boolean sameClose(BigDecimal stored, double current) {
+        return stored != null && Math.abs(stored.doubleValue() - current) <= 1e-4 * Math.max(1.0, Math.abs(current));
+    }
+    
+    private String resolveSymbol(String symbol) {
+        return useAdjustedPrices ? priceAdjustmentService.resolveSymbol(symbol) : symbol;
+    }
+    
+    /**
+     * Hit, miss and staleness counters of the ranking result caches
+     */
+    public List<CacheStats> getResultCacheStats() {
+        return Arrays.asList(performanceResultCache.getStats(), volatilityResultCache.getStats(),
+                             realizedVolatilityResultCache.getStats());
+    }
+    
+    private static <V> VersionedResultCache<List<Object>, List<V>> createResultCache(
+            String name, DataVersion dataVersion) {
+        int maxEntries = Integer.parseInt(
+            DatabaseConfig.getInstance().getProperty("cache.analytics.results.max.entries", "256"));
+        return new VersionedResultCache<>(name, dataVersion, maxEntries);
+    }
+    
+    /**
+     * Empty rankings are not cached: the DAOs also return an empty list when a query fails
+     */
+    private static boolean isCacheable(List<?> results) {
+        return !results.isEmpty();
+    }
+    
+    /**
+     * Helper method to get the shared ranking index, building it from stock_analytics if needed;
+     * null means the caller should fall back to the SQL ranking queries
+     */
+    private RankingIndex getRankingIndex() {
+        return RankingEngine.getInstance().getIndex(analyticsDAO::loadRankingIndex);
+    }
+    
+    /**
+     * Helper method to convert ranked averages into performance rows, keeping the ranking order
+     */
+    private List<PerformanceRow> toPerformanceRows(List<SymbolAverages> ranked) {
+        List<PerformanceRow> rows = new ArrayList<>(ranked.size());
+        for (SymbolAverages averages : ranked) {
+            rows.add(new PerformanceRow(averages.getSymbol(),
+                                        averages.get(Metric.DAILY_VOLATILITY),
+                                        averages.get(Metric.DAILY_PRICE_CHANGE),
+                                        averages.get(Metric.VOLUME_TREND)));
+        }
+        return rows;
+    }
+    
+    /**
+     * Helper method to convert ranked averages into volatility rows; the index keeps only
+     * averages, so the maximum volatility is left null
+     */
+    private List<VolatilityRankRow> toVolatilityRankRows(List<SymbolAverages> ranked) {
+        List<VolatilityRankRow> rows = new ArrayList<>(ranked.size());
+        for (SymbolAverages averages : ranked) {
+            rows.add(new VolatilityRankRow(averages.getSymbol(), averages.get(Metric.DAILY_VOLATILITY), null));
+        }
+        return rows;
+    }
+    
+    /**
+     * Helper method to convert an indicator engine run into model rows, newest first
+     */
+    private List<TechnicalIndicators> toTechnicalIndicators(IndicatorResult result) {
+        PriceSeries series = result.getSeries();
+        List<TechnicalIndicators> rows = new ArrayList<>(result.size());
+        
+        for (int i = result.size() - 1; i >= 0; i--) {
+            TechnicalIndicators row = new TechnicalIndicators(series.getSymbol(), series.getTradeDate(i));
+            row.setEma12(toDecimal(result.value("ema_12", i)));
+            row.setEma26(toDecimal(result.value("ema_26", i)));
+            row.setRsi14(toDecimal(result.value("rsi_14", i)));
+            row.setMacd(toDecimal(result.value("macd", i)));
+            row.setMacdSignal(toDecimal(result.value("macd_signal", i)));
+            row.setMacdHistogram(toDecimal(result.value("macd_histogram", i)));
+            row.setBollingerUpper(toDecimal(result.value("bollinger_upper", i)));
+            row.setBollingerMiddle(toDecimal(result.value("bollinger_middle", i)));
+            row.setBollingerLower(toDecimal(result.value("bollinger_lower", i)));
+            row.setAtr14(toDecimal(result.value("atr_14", i)));
+            rows.add(row);
+        }
+        
+        return rows;
+    }
+    
+    private BigDecimal toDecimal(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return null;
+        }
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+    
     /**
      * Helper method to calculate simple moving average
      */
@@ -316,7 +1033,7 @@ public class AnalyticsService {
             }
             
             if (count > 0) {
-                return sum.divide(new BigDecimal(count), 4, BigDecimal.ROUND_HALF_UP);
+                return sum.divide(new BigDecimal(count), 4, RoundingMode.HALF_UP);
             }
             
             return BigDecimal.ZERO;
@@ -349,11 +1066,11 @@ public class AnalyticsService {
             }
             
             if (currentVolume != null && count > 0) {
-                avgVolume = avgVolume.divide(new BigDecimal(count), 4, BigDecimal.ROUND_HALF_UP);
+                avgVolume = avgVolume.divide(new BigDecimal(count), 4, RoundingMode.HALF_UP);
                 BigDecimal currentVol = new BigDecimal(currentVolume);
                 
                 if (avgVolume.compareTo(BigDecimal.ZERO) > 0) {
-                    return currentVol.subtract(avgVolume).divide(avgVolume, 4, BigDecimal.ROUND_HALF_UP)
+                    return currentVol.subtract(avgVolume).divide(avgVolume, 4, RoundingMode.HALF_UP)
                                     .multiply(new BigDecimal("100"));
                 }
             }
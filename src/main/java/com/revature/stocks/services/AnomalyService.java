@@ -0,0 +1,131 @@
+package com.revature.stocks.services;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.revature.stocks.analytics.AnomalyDetector;
+import com.revature.stocks.dao.DailyPriceDAO;
+import com.revature.stocks.dao.PriceAnomalyDAO;
+import com.revature.stocks.dao.StockDAO;
+import com.revature.stocks.model.PriceAnomaly;
+import com.revature.stocks.model.PriceSeries;
+import com.revature.stocks.model.PriceSeries.Projection;
+
+/**
+ * AnomalyService Class
+ * Business logic layer for volume-spike, gap and range anomalies. Detection is a single
+ * streaming pass per symbol, either over stored history (backfill) or over rows as they
+ * are imported.
+ */
+public class AnomalyService {
+
+    private static final Logger logger = Logger.getLogger(AnomalyService.class.getName());
+
+    // Calendar days of stored history used to warm a detector before new rows are imported
+    private static final int WARMUP_LOOKBACK_DAYS = 90;
+
+    private PriceAnomalyDAO priceAnomalyDAO;
+    private DailyPriceDAO dailyPriceDAO;
+    private StockDAO stockDAO;
+
+    public AnomalyService() {
+        this.priceAnomalyDAO = new PriceAnomalyDAO();
+        this.dailyPriceDAO = new DailyPriceDAO();
+        this.stockDAO = new StockDAO();
+    }
+
+    /**
+     * Re-detect every anomaly of a symbol from its full stored history
+     * @return anomalies written, or -1 on error
+     */
+    public int backfillAnomalies(String symbol) {
+        try {
+            PriceSeries series = dailyPriceDAO.findSeriesBySymbol(symbol, Projection.ALL);
+            List<PriceAnomaly> anomalies = AnomalyDetector.scan(series);
+
+            if (priceAnomalyDAO.deleteBySymbol(symbol) < 0) {
+                return -1;
+            }
+            int written = priceAnomalyDAO.insertOrUpdateBatch(anomalies);
+            logger.info("Backfilled " + written + " anomalies over " + series.size() + " days for " + symbol);
+            return written;
+
+        } catch (Exception e) {
+            logger.severe("Error backfilling anomalies for " + symbol + ": " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Backfill every symbol that has price data
+     * @return anomalies written across all symbols
+     */
+    public int backfillAllAnomalies() {
+        int total = 0;
+        for (String symbol : stockDAO.getAvailableSymbols()) {
+            int written = backfillAnomalies(symbol);
+            if (written > 0) {
+                total += written;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Detector for rows about to be imported, warmed with the stored days just before them
+     * so the first imported days are scored against a real baseline
+     */
+    public AnomalyDetector openDetector(String symbol, Date firstImportDate) {
+        AnomalyDetector detector = new AnomalyDetector(symbol);
+        try {
+            Date endDate = Date.valueOf(firstImportDate.toLocalDate().minusDays(1));
+            Date startDate = Date.valueOf(firstImportDate.toLocalDate().minusDays(WARMUP_LOOKBACK_DAYS));
+            PriceSeries history = dailyPriceDAO.findSeriesForSymbols(List.of(symbol), startDate, endDate, Projection.ALL)
+                                                .getOrDefault(symbol, new PriceSeries(symbol));
+            for (int i = 0; i < history.size(); i++) {
+                detector.update(history.getTradeDate(i), history.getOpen(i), history.getHigh(i), history.getLow(i),
+                                history.getClose(i), history.getPrevClose(i), history.getVolume(i));
+            }
+        } catch (Exception e) {
+            logger.warning("Error warming anomaly detector for " + symbol + ": " + e.getMessage());
+        }
+        return detector;
+    }
+
+    /**
+     * Persist anomalies flagged during an import
+     */
+    public int saveAnomalies(List<PriceAnomaly> anomalies) {
+        try {
+            return priceAnomalyDAO.insertOrUpdateBatch(anomalies);
+        } catch (Exception e) {
+            logger.severe("Error saving " + anomalies.size() + " anomalies: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Anomalies of all symbols between two dates, newest and strongest first
+     */
+    public List<PriceAnomaly> getAnomalies(Date fromDate, Date toDate) {
+        try {
+            return priceAnomalyDAO.findByDateRange(fromDate, toDate);
+        } catch (Exception e) {
+            logger.severe("Error retrieving anomalies from " + fromDate + " to " + toDate + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Anomalies of one symbol, newest first
+     */
+    public List<PriceAnomaly> getAnomaliesForSymbol(String symbol) {
+        try {
+            return priceAnomalyDAO.findBySymbol(symbol);
+        } catch (Exception e) {
+            logger.severe("Error retrieving anomalies for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.revature.stocks.services;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.revature.stocks.analytics.backtest.BacktestEngine;
+import com.revature.stocks.analytics.backtest.BacktestResult;
+import com.revature.stocks.analytics.backtest.StrategySpec;
+import com.revature.stocks.dao.DailyPriceDAO;
+import com.revature.stocks.model.PriceSeries;
+import com.revature.stocks.model.PriceSeries.Projection;
+
+/**
+ * BacktestService Class
+ * Business logic layer for strategy parameter sweeps over stored price history
+ */
+public class BacktestService {
+
+    private static final Logger logger = Logger.getLogger(BacktestService.class.getName());
+    private DailyPriceDAO dailyPriceDAO;
+    private PriceAdjustmentService priceAdjustmentService;
+
+    public BacktestService() {
+        this.dailyPriceDAO = new DailyPriceDAO();
+        this.priceAdjustmentService = new PriceAdjustmentService();
+    }
+
+    /**
+     * Run every strategy spec on every symbol between two dates, best Sharpe ratio first.
+     * Prices are loaded once in a single query; adjusted prices keep unadjusted splits from
+     * showing up as crashes.
+     */
+    public List<BacktestResult> runSweep(Date fromDate, Date toDate, List<StrategySpec> specs, boolean adjusted) {
+        try {
+            Map<String, PriceSeries> series = dailyPriceDAO.findAllSeriesInRange(fromDate, toDate, Projection.OHLC);
+            if (adjusted) {
+                series = priceAdjustmentService.adjustAll(series);
+            }
+
+            long start = System.nanoTime();
+            List<BacktestResult> results = new BacktestEngine().sweep(series.values(), specs);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            BacktestEngine.sortBySharpe(results);
+
+            logger.info(String.format("Ran %d simulations (%d symbols x %d specs) in %.3f s (%.0f simulations/s)",
+                                      results.size(), series.size(), specs.size(), seconds,
+                                      seconds > 0 ? results.size() / seconds : 0.0));
+            return results;
+
+        } catch (Exception e) {
+            logger.severe("Error running backtest sweep from " + fromDate + " to " + toDate + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
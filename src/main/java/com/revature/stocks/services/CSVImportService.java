@@ -6,14 +6,22 @@ import java.math.BigDecimal;
 import java.sql.Date;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
+import com.revature.stocks.analytics.AnomalyDetector;
 import com.revature.stocks.config.DatabaseConfig;
 import com.revature.stocks.dao.DailyPriceDAO;
 import com.revature.stocks.dao.StockDAO;
 import com.revature.stocks.model.DailyPrice;
+import com.revature.stocks.model.PriceAnomaly;
 import com.revature.stocks.model.Stock;
 
 /**
@@ -26,6 +34,19 @@ public class CSVImportService {
     private DailyPriceDAO dailyPriceDAO;
     private StockDAO stockDAO;
     private DatabaseConfig dbConfig;
+    private AnomalyService anomalyService;
+    private AnalyticsService analyticsService;
+
+    // Per-import anomaly detection state: one detector per symbol, flagged rows not yet
+    // written, and symbols whose rows arrived out of date order (re-scanned at the end)
+    private static final int ANOMALY_FLUSH_SIZE = 500;
+    private final Map<String, AnomalyDetector> anomalyDetectors = new HashMap<>();
+    private final List<PriceAnomaly> pendingAnomalies = new ArrayList<>();
+    private final Set<String> unorderedSymbols = new LinkedHashSet<>();
+
+    // Symbols with rows written by the current import; their stored return series are
+    // brought up to date once it finishes
+    private final Set<String> importedSymbols = new LinkedHashSet<>();
 
     // Date formats for parsing CSV dates
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd");
@@ -35,6 +56,8 @@ public class CSVImportService {
         this.dailyPriceDAO = new DailyPriceDAO();
         this.stockDAO = new StockDAO();
         this.dbConfig = DatabaseConfig.getInstance();
+        this.anomalyService = new AnomalyService();
+        this.analyticsService = new AnalyticsService();
     }
 
     /**
@@ -46,6 +69,8 @@ public class CSVImportService {
         int totalRecords = 0;
         int successfulRecords = 0;
         int failedRecords = 0;
+        beginAnomalyScan();
+        importedSymbols.clear();
 
         try (CSVReader reader = new CSVReader(new FileReader(csvFilePath))) {
             String[] fields;
@@ -77,6 +102,8 @@ public class CSVImportService {
                 }
             }
 
+            finishAnomalyScan();
+            refreshReturnSeries();
             logger.info("CSV import completed. Total: " + totalRecords +
                 ", Success: " + successfulRecords + ", Failed: " + failedRecords);
 
@@ -142,7 +169,12 @@ public class CSVImportService {
             ensureStockExists(symbol);
 
             // Insert daily price data
-            return dailyPriceDAO.insertOrUpdateDailyPrice(dailyPrice);
+            boolean inserted = dailyPriceDAO.insertOrUpdateDailyPrice(dailyPrice);
+            if (inserted) {
+                detectAnomalies(dailyPrice);
+                importedSymbols.add(symbol);
+            }
+            return inserted;
 
         } catch (Exception e) {
             logger.severe("Error processing CSV record: " + e.getMessage());
@@ -150,6 +182,67 @@ public class CSVImportService {
         }
     }
 
+    /**
+     * Reset anomaly detection state before an import
+     */
+    private void beginAnomalyScan() {
+        anomalyDetectors.clear();
+        pendingAnomalies.clear();
+        unorderedSymbols.clear();
+    }
+
+    /**
+     * Stream one imported row through its symbol's detector
+     */
+    private void detectAnomalies(DailyPrice dailyPrice) {
+        String symbol = dailyPrice.getSymbol();
+        if (unorderedSymbols.contains(symbol)) {
+            return;
+        }
+
+        AnomalyDetector detector = anomalyDetectors.get(symbol);
+        if (detector == null) {
+            detector = anomalyService.openDetector(symbol, dailyPrice.getTradeDate());
+            anomalyDetectors.put(symbol, detector);
+        } else if (!detector.accepts(dailyPrice.getTradeDate())) {
+            unorderedSymbols.add(symbol);
+            anomalyDetectors.remove(symbol);
+            return;
+        }
+
+        pendingAnomalies.addAll(detector.update(dailyPrice));
+        if (pendingAnomalies.size() >= ANOMALY_FLUSH_SIZE) {
+            anomalyService.saveAnomalies(pendingAnomalies);
+            pendingAnomalies.clear();
+        }
+    }
+
+    /**
+     * Write remaining anomalies and re-scan symbols whose rows were not in date order
+     */
+    private void finishAnomalyScan() {
+        if (!pendingAnomalies.isEmpty()) {
+            anomalyService.saveAnomalies(pendingAnomalies);
+            pendingAnomalies.clear();
+        }
+        for (String symbol : unorderedSymbols) {
+            anomalyService.backfillAnomalies(symbol);
+        }
+        anomalyDetectors.clear();
+        unorderedSymbols.clear();
+    }
+
+    /**
+     * Bring the stored return series of every imported symbol up to date, so new trade dates
+     * and revised closes show up in drawdown and trailing return lookups
+     */
+    private void refreshReturnSeries() {
+        for (String symbol : importedSymbols) {
+            analyticsService.refreshReturnSeries(symbol);
+        }
+        importedSymbols.clear();
+    }
+
     /**
      * Parse date from string
      */
@@ -237,6 +330,8 @@ public class CSVImportService {
         int totalRecords = 0;
         int successfulRecords = 0;
         int failedRecords = 0;
+        beginAnomalyScan();
+        importedSymbols.clear();
 
         try (CSVReader reader = new CSVReader(new FileReader(csvFilePath))) {
             String[] fields;
@@ -266,6 +361,8 @@ public class CSVImportService {
                 }
             }
 
+            finishAnomalyScan();
+            refreshReturnSeries();
             logger.info("Targeted CSV import completed for " + targetSymbol +
                 ". Total: " + totalRecords + ", Success: " + successfulRecords +
                 ", Failed: " + failedRecords);
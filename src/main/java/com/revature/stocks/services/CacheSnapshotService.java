@@ -0,0 +1,284 @@
+package com.revature.stocks.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.revature.stocks.analytics.RankingEngine;
+import com.revature.stocks.analytics.RankingIndex;
+import com.revature.stocks.cache.LatestPriceBoard;
+import com.revature.stocks.cache.SnapshotReader;
+import com.revature.stocks.cache.SnapshotWriter;
+import com.revature.stocks.config.DatabaseConfig;
+import com.revature.stocks.dao.DataFingerprintDAO;
+import com.revature.stocks.dao.StockDAO;
+import com.revature.stocks.model.DailyPrice;
+import com.revature.stocks.model.Stock;
+
+/**
+ * CacheSnapshotService Class
+ * Saves the hot process-wide caches (latest price board, cached stocks, symbol aliases and the
+ * ranking index) to a local snapshot file on shutdown and periodically, and restores them on
+ * startup. A snapshot is only restored when the database fingerprint it was saved with still
+ * matches, so a restart after out-of-band changes falls back to loading from the database.
+ */
+public class CacheSnapshotService {
+
+    private static final Logger logger = Logger.getLogger(CacheSnapshotService.class.getName());
+
+    public static final String PATH_PROPERTY = "cache.snapshot.path";
+    public static final String INTERVAL_PROPERTY = "cache.snapshot.interval.minutes";
+
+    private static final int SECTION_LATEST_PRICES = 1;
+    private static final int SECTION_STOCKS = 2;
+    private static final int SECTION_SYMBOL_ALIASES = 3;
+    private static final int SECTION_RANKING_INDEX = 4;
+
+    private static ScheduledExecutorService scheduler;
+
+    private final Path snapshotPath;
+    private StockDAO stockDAO;
+    private DataFingerprintDAO fingerprintDAO;
+
+    public CacheSnapshotService() {
+        this.snapshotPath = Paths.get(DatabaseConfig.getInstance()
+            .getProperty(PATH_PROPERTY, "cache/revstox-cache.snapshot"));
+        this.stockDAO = new StockDAO();
+        this.fingerprintDAO = new DataFingerprintDAO();
+    }
+
+    /**
+     * Write the current cache contents to the snapshot file
+     */
+    public boolean saveSnapshot() {
+        synchronized (CacheSnapshotService.class) {
+            try {
+                long start = System.nanoTime();
+                String fingerprint = fingerprintDAO.getFingerprint();
+                if (fingerprint == null) {
+                    logger.warning("Cache snapshot skipped: database fingerprint unavailable");
+                    return false;
+                }
+
+                SnapshotWriter writer = new SnapshotWriter(fingerprint);
+
+                LatestPriceBoard board = LatestPriceBoard.getInstance();
+                if (board.isLoaded()) {
+                    Map<String, DailyPrice> latestPrices = board.getAll();
+                    writer.beginSection(SECTION_LATEST_PRICES);
+                    writer.putInt(latestPrices.size());
+                    for (DailyPrice price : latestPrices.values()) {
+                        writeDailyPrice(writer, price);
+                    }
+                    writer.endSection();
+                }
+
+                List<Stock> stocks = stockDAO.getCachedStocks();
+                writer.beginSection(SECTION_STOCKS);
+                writer.putInt(stocks.size());
+                for (Stock stock : stocks) {
+                    writeStock(writer, stock);
+                }
+                writer.endSection();
+
+                Map<String, String> aliases = PriceAdjustmentService.getLoadedAliasMap();
+                if (aliases != null) {
+                    writer.beginSection(SECTION_SYMBOL_ALIASES);
+                    writer.putInt(aliases.size());
+                    for (Map.Entry<String, String> alias : aliases.entrySet()) {
+                        writer.putString(alias.getKey());
+                        writer.putString(alias.getValue());
+                    }
+                    writer.endSection();
+                }
+
+                RankingIndex index = RankingEngine.getInstance().getLoadedIndex();
+                if (index != null) {
+                    writer.beginSection(SECTION_RANKING_INDEX);
+                    index.writeTo(writer);
+                    writer.endSection();
+                }
+
+                long bytes = writer.writeTo(snapshotPath);
+                logger.info("Cache snapshot saved to " + snapshotPath + ": " + bytes + " bytes in " +
+                           (System.nanoTime() - start) / 1_000_000 + " ms");
+                return true;
+
+            } catch (Exception e) {
+                logger.severe("Error saving cache snapshot to " + snapshotPath + ": " + e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Restore the caches from the snapshot file if it matches the database; nothing is
+     * restored from a snapshot that is missing, stale or unreadable
+     */
+    public boolean loadSnapshot() {
+        try {
+            if (!Files.isRegularFile(snapshotPath)) {
+                logger.info("No cache snapshot at " + snapshotPath);
+                return false;
+            }
+
+            long start = System.nanoTime();
+            SnapshotReader reader = SnapshotReader.open(snapshotPath);
+            String fingerprint = fingerprintDAO.getFingerprint();
+            if (fingerprint == null || !fingerprint.equals(reader.getFingerprint())) {
+                logger.info("Cache snapshot at " + snapshotPath + " is stale; loading caches from the database");
+                return false;
+            }
+
+            // Decode everything before touching the caches, so a corrupt file restores nothing
+            Map<String, DailyPrice> latestPrices = null;
+            List<Stock> stocks = new ArrayList<>();
+            Map<String, String> aliases = null;
+            RankingIndex index = null;
+
+            for (int tag = reader.nextSection(); tag >= 0; tag = reader.nextSection()) {
+                switch (tag) {
+                    case SECTION_LATEST_PRICES:
+                        latestPrices = new HashMap<>();
+                        for (int i = reader.getInt(); i > 0; i--) {
+                            DailyPrice price = readDailyPrice(reader);
+                            latestPrices.put(price.getSymbol(), price);
+                        }
+                        break;
+                    case SECTION_STOCKS:
+                        for (int i = reader.getInt(); i > 0; i--) {
+                            stocks.add(readStock(reader));
+                        }
+                        break;
+                    case SECTION_SYMBOL_ALIASES:
+                        aliases = new HashMap<>();
+                        for (int i = reader.getInt(); i > 0; i--) {
+                            aliases.put(reader.getString(), reader.getString());
+                        }
+                        break;
+                    case SECTION_RANKING_INDEX:
+                        index = RankingIndex.readFrom(reader);
+                        break;
+                    default:
+                        reader.skipSection();
+                }
+            }
+
+            if (latestPrices != null) {
+                Map<String, DailyPrice> restored = latestPrices;
+                LatestPriceBoard.getInstance().ensureLoaded(() -> restored);
+            }
+            stockDAO.primeCache(stocks);
+            if (aliases != null) {
+                PriceAdjustmentService.primeAliasMap(aliases);
+            }
+            if (index != null) {
+                RankingEngine.getInstance().prime(index);
+            }
+
+            logger.info("Cache snapshot restored from " + snapshotPath + " in " +
+                       (System.nanoTime() - start) / 1_000_000 + " ms: " +
+                       (latestPrices != null ? latestPrices.size() : 0) + " latest prices, " +
+                       stocks.size() + " stocks, " + (aliases != null ? aliases.size() : 0) + " aliases, " +
+                       (index != null ? index.symbolCount() : 0) + " ranked symbols");
+            return true;
+
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Ignoring unreadable cache snapshot " + snapshotPath + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Save a snapshot at JVM shutdown and every cache.snapshot.interval.minutes (0 disables the
+     * periodic save); only the first call has an effect
+     */
+    public void scheduleSnapshots() {
+        synchronized (CacheSnapshotService.class) {
+            if (scheduler != null) {
+                return;
+            }
+            long intervalMinutes = Long.parseLong(
+                DatabaseConfig.getInstance().getProperty(INTERVAL_PROPERTY, "15").trim());
+
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cache-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            if (intervalMinutes > 0) {
+                scheduler.scheduleWithFixedDelay(this::saveSnapshot, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                scheduler.shutdownNow();
+                saveSnapshot();
+            }, "cache-snapshot-shutdown"));
+        }
+    }
+
+    private static void writeDailyPrice(SnapshotWriter writer, DailyPrice price) {
+        writer.putLong(price.getId());
+        writer.putString(price.getSymbol());
+        writer.putDate(price.getTradeDate());
+        writer.putString(price.getSeries());
+        writer.putDecimal(price.getPrevClose());
+        writer.putDecimal(price.getOpenPrice());
+        writer.putDecimal(price.getHighPrice());
+        writer.putDecimal(price.getLowPrice());
+        writer.putDecimal(price.getLastPrice());
+        writer.putDecimal(price.getClosePrice());
+        writer.putDecimal(price.getVwap());
+        writer.putNullableLong(price.getVolume());
+        writer.putDecimal(price.getTurnover());
+        writer.putNullableInt(price.getTrades());
+        writer.putNullableLong(price.getDeliverableVolume());
+        writer.putDecimal(price.getDeliverablePercentage());
+        writer.putTimestamp(price.getCreatedDate());
+    }
+
+    private static DailyPrice readDailyPrice(SnapshotReader reader) {
+        DailyPrice price = new DailyPrice();
+        price.setId(reader.getLong());
+        price.setSymbol(reader.getString());
+        price.setTradeDate(reader.getDate());
+        price.setSeries(reader.getString());
+        price.setPrevClose(reader.getDecimal());
+        price.setOpenPrice(reader.getDecimal());
+        price.setHighPrice(reader.getDecimal());
+        price.setLowPrice(reader.getDecimal());
+        price.setLastPrice(reader.getDecimal());
+        price.setClosePrice(reader.getDecimal());
+        price.setVwap(reader.getDecimal());
+        price.setVolume(reader.getNullableLong());
+        price.setTurnover(reader.getDecimal());
+        price.setTrades(reader.getNullableInt());
+        price.setDeliverableVolume(reader.getNullableLong());
+        price.setDeliverablePercentage(reader.getDecimal());
+        price.setCreatedDate(reader.getTimestamp());
+        return price;
+    }
+
+    private static void writeStock(SnapshotWriter writer, Stock stock) {
+        writer.putInt(stock.getId());
+        writer.putString(stock.getSymbol());
+        writer.putString(stock.getCompanyName());
+        writer.putString(stock.getSector());
+        writer.putDecimal(stock.getMarketCap());
+        writer.putTimestamp(stock.getCreatedDate());
+        writer.putTimestamp(stock.getUpdatedDate());
+    }
+
+    private static Stock readStock(SnapshotReader reader) {
+        return new Stock(reader.getInt(), reader.getString(), reader.getString(), reader.getString(),
+                         reader.getDecimal(), reader.getTimestamp(), reader.getTimestamp());
+    }
+}
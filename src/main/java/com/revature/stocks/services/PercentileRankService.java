@@ -0,0 +1,125 @@
+package com.revature.stocks.services;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.revature.stocks.analytics.PercentileRankEngine;
+import com.revature.stocks.dao.DailyPriceDAO;
+import com.revature.stocks.dao.PercentileRankDAO;
+import com.revature.stocks.model.CrossSection;
+import com.revature.stocks.model.PercentileRank;
+
+/**
+ * PercentileRankService Class
+ * Business logic layer for cross-sectional daily percentile ranks of return, volume and
+ * volatility. A full rebuild ranks every trade date; the incremental update re-ranks from the
+ * latest ranked date (late symbols may have arrived for it), or from an earlier date that was
+ * ranked before its stock_analytics rows existed.
+ */
+public class PercentileRankService {
+
+    private static final Logger logger = Logger.getLogger(PercentileRankService.class.getName());
+    private PercentileRankDAO percentileRankDAO;
+    private DailyPriceDAO dailyPriceDAO;
+    private PercentileRankEngine engine;
+
+    public PercentileRankService() {
+        this.percentileRankDAO = new PercentileRankDAO();
+        this.dailyPriceDAO = new DailyPriceDAO();
+        this.engine = new PercentileRankEngine();
+    }
+
+    /**
+     * Rank every trade date in daily_prices
+     * @return rows written, or -1 on error
+     */
+    public int rebuildPercentileRanks() {
+        try {
+            Date[] range = dailyPriceDAO.getTradeDateRange();
+            if (range == null) {
+                logger.info("No daily prices to rank");
+                return 0;
+            }
+            return refreshPercentileRanks(range[0], range[1]);
+
+        } catch (Exception e) {
+            logger.severe("Error rebuilding percentile ranks: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Rank new trade dates, plus any earlier dates left stale
+     * @return rows written, or -1 on error
+     */
+    public int updatePercentileRanks() {
+        try {
+            Date[] range = dailyPriceDAO.getTradeDateRange();
+            if (range == null) {
+                return 0;
+            }
+            Date startDate = percentileRankDAO.getLatestRankedDate();
+            if (startDate == null) {
+                startDate = range[0];
+            }
+            Date staleDate = percentileRankDAO.getEarliestStaleDate();
+            if (staleDate != null && staleDate.before(startDate)) {
+                startDate = staleDate;
+            }
+            return refreshPercentileRanks(startDate, range[1]);
+
+        } catch (Exception e) {
+            logger.severe("Error updating percentile ranks: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Re-rank every trade date in a range
+     * @return rows written, or -1 on error
+     */
+    public int refreshPercentileRanks(Date startDate, Date endDate) {
+        try {
+            long start = System.nanoTime();
+            List<CrossSection> sections = percentileRankDAO.loadCrossSections(startDate, endDate);
+            List<PercentileRank> ranks = engine.rank(sections);
+            long ranked = System.nanoTime();
+            int written = percentileRankDAO.insertOrUpdateBatch(ranks);
+
+            logger.info(String.format("Ranked %d dates (%d rows) between %s and %s: rank %.1f ms, write %.1f ms",
+                                      sections.size(), ranks.size(), startDate, endDate,
+                                      (ranked - start) / 1e6, (System.nanoTime() - ranked) / 1e6));
+            return written;
+
+        } catch (Exception e) {
+            logger.severe("Error refreshing percentile ranks between " + startDate + " and " + endDate +
+                         ": " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Every symbol's ranks on one trade date, best return first
+     */
+    public List<PercentileRank> getPercentileRanks(Date tradeDate) {
+        try {
+            return percentileRankDAO.findByDate(tradeDate);
+        } catch (Exception e) {
+            logger.severe("Error retrieving percentile ranks for " + tradeDate + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * One symbol's ranks within a date range, newest first
+     */
+    public List<PercentileRank> getPercentileHistory(String symbol, Date startDate, Date endDate) {
+        try {
+            return percentileRankDAO.findBySymbolAndDateRange(symbol, startDate, endDate);
+        } catch (Exception e) {
+            logger.severe("Error retrieving percentile ranks for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
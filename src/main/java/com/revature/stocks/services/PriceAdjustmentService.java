@@ -0,0 +1,262 @@
+package com.revature.stocks.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import com.revature.stocks.analytics.AdjustmentFactors;
+import com.revature.stocks.analytics.SplitDetector;
+import com.revature.stocks.dao.CorporateActionDAO;
+import com.revature.stocks.dao.DailyPriceDAO;
+import com.revature.stocks.model.CorporateAction;
+import com.revature.stocks.model.PriceSeries;
+import com.revature.stocks.model.PriceSeries.Projection;
+import com.revature.stocks.model.SymbolAlias;
+
+/**
+ * PriceAdjustmentService Class
+ * Serves split/corporate-action adjusted price series with symbol aliases folded into their
+ * canonical symbol. Raw daily_prices rows are never modified; adjustment factors are computed
+ * once per symbol and cached until an action for that symbol changes.
+ */
+public class PriceAdjustmentService {
+
+    private static final Logger logger = Logger.getLogger(PriceAdjustmentService.class.getName());
+
+    // Shared by all service instances
+    private static final Map<String, AdjustmentFactors> factorCache = new ConcurrentHashMap<>();
+    private static volatile Map<String, String> aliasToCanonical;
+
+    private CorporateActionDAO corporateActionDAO;
+    private DailyPriceDAO dailyPriceDAO;
+
+    public PriceAdjustmentService() {
+        this.corporateActionDAO = new CorporateActionDAO();
+        this.dailyPriceDAO = new DailyPriceDAO();
+    }
+
+    /**
+     * Canonical symbol for a symbol or one of its aliases
+     */
+    public String resolveSymbol(String symbol) {
+        return getAliasMap().getOrDefault(symbol, symbol);
+    }
+
+    /**
+     * Alias symbols folded into a canonical symbol
+     */
+    public List<String> getAliases(String canonicalSymbol) {
+        List<String> aliases = new ArrayList<>();
+        for (Map.Entry<String, String> entry : getAliasMap().entrySet()) {
+            if (entry.getValue().equals(canonicalSymbol)) {
+                aliases.add(entry.getKey());
+            }
+        }
+        Collections.sort(aliases);
+        return aliases;
+    }
+
+    /**
+     * Cached cumulative adjustment factors of a canonical symbol, including actions recorded
+     * against its aliases
+     */
+    public AdjustmentFactors getAdjustmentFactors(String symbol) {
+        String canonical = resolveSymbol(symbol);
+        return factorCache.computeIfAbsent(canonical, key -> {
+            List<CorporateAction> actions = new ArrayList<>(corporateActionDAO.findBySymbol(key));
+            for (String alias : getAliases(key)) {
+                actions.addAll(corporateActionDAO.findBySymbol(alias));
+            }
+            logger.info("Loaded " + actions.size() + " corporate actions for " + key);
+            return AdjustmentFactors.of(actions);
+        });
+    }
+
+    /**
+     * Full adjusted history of a symbol under its canonical symbol, with only the projected
+     * columns loaded
+     */
+    public PriceSeries getAdjustedSeries(String symbol, Projection projection) {
+        try {
+            String canonical = resolveSymbol(symbol);
+            List<PriceSeries> parts = new ArrayList<>();
+            parts.add(dailyPriceDAO.findSeriesBySymbol(canonical, projection));
+            for (String alias : getAliases(canonical)) {
+                parts.add(dailyPriceDAO.findSeriesBySymbol(alias, projection));
+            }
+            return getAdjustmentFactors(canonical).apply(merge(canonical, parts), canonical);
+
+        } catch (Exception e) {
+            logger.severe("Error building adjusted series for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Adjust raw series keyed by symbol: aliases are folded into their canonical symbol and
+     * every series is rescaled by its cached factors
+     */
+    public Map<String, PriceSeries> adjustAll(Map<String, PriceSeries> rawSeries) {
+        Map<String, List<PriceSeries>> grouped = new LinkedHashMap<>();
+        for (PriceSeries series : rawSeries.values()) {
+            grouped.computeIfAbsent(resolveSymbol(series.getSymbol()), key -> new ArrayList<>()).add(series);
+        }
+
+        Map<String, PriceSeries> adjusted = new LinkedHashMap<>();
+        for (Map.Entry<String, List<PriceSeries>> entry : grouped.entrySet()) {
+            String canonical = entry.getKey();
+            PriceSeries merged = merge(canonical, entry.getValue());
+            adjusted.put(canonical, getAdjustmentFactors(canonical).apply(merged, canonical));
+        }
+        return adjusted;
+    }
+
+    /**
+     * Suggest split candidates for a symbol from overnight price drops in its raw history
+     */
+    public List<CorporateAction> detectSplits(String symbol) {
+        try {
+            List<CorporateAction> candidates = new SplitDetector().detect(
+                dailyPriceDAO.findSeriesBySymbol(symbol, Projection.ALL));
+            logger.info("Detected " + candidates.size() + " split candidates for " + symbol);
+            return candidates;
+
+        } catch (Exception e) {
+            logger.severe("Error detecting splits for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Record a corporate action and drop the cached factors of the affected symbol
+     */
+    public boolean recordCorporateAction(CorporateAction action) {
+        try {
+            boolean result = corporateActionDAO.insertOrUpdateAction(action);
+            if (result) {
+                factorCache.remove(resolveSymbol(action.getSymbol()));
+            }
+            return result;
+
+        } catch (Exception e) {
+            logger.severe("Error recording corporate action for " + action.getSymbol() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Get corporate actions recorded for a symbol
+     */
+    public List<CorporateAction> getCorporateActions(String symbol) {
+        try {
+            return corporateActionDAO.findBySymbol(symbol);
+
+        } catch (Exception e) {
+            logger.severe("Error retrieving corporate actions for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Fold an alias symbol into a canonical symbol
+     */
+    public boolean addSymbolAlias(String aliasSymbol, String canonicalSymbol, String description) {
+        try {
+            SymbolAlias alias = new SymbolAlias(aliasSymbol, canonicalSymbol);
+            alias.setDescription(description);
+            boolean result = corporateActionDAO.insertOrUpdateAlias(alias);
+            if (result) {
+                invalidateAll();
+            }
+            return result;
+
+        } catch (Exception e) {
+            logger.severe("Error adding symbol alias " + aliasSymbol + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Drop cached aliases and factors so they are reloaded on next use
+     */
+    public static void invalidateAll() {
+        aliasToCanonical = null;
+        factorCache.clear();
+    }
+
+    /**
+     * Loaded alias -> canonical symbol map, or null if it has not been loaded yet
+     */
+    public static Map<String, String> getLoadedAliasMap() {
+        Map<String, String> aliases = aliasToCanonical;
+        return aliases != null ? Collections.unmodifiableMap(aliases) : null;
+    }
+
+    /**
+     * Install an alias map restored from a validated snapshot unless one is already loaded
+     */
+    public static synchronized void primeAliasMap(Map<String, String> aliases) {
+        if (aliasToCanonical == null) {
+            aliasToCanonical = new HashMap<>(aliases);
+        }
+    }
+
+    private Map<String, String> getAliasMap() {
+        Map<String, String> aliases = aliasToCanonical;
+        if (aliases == null) {
+            aliases = new HashMap<>();
+            for (SymbolAlias alias : corporateActionDAO.findAllAliases()) {
+                aliases.put(alias.getAliasSymbol(), alias.getCanonicalSymbol());
+            }
+            aliasToCanonical = aliases;
+        }
+        return aliases;
+    }
+
+    /**
+     * Merge series of one company by trade date; on a shared date the canonical symbol's row wins
+     */
+    private static PriceSeries merge(String canonical, List<PriceSeries> parts) {
+        PriceSeries merged = null;
+        for (PriceSeries part : parts) {
+            if (part == null || part.isEmpty()) {
+                continue;
+            }
+            if (merged == null) {
+                merged = part;
+                continue;
+            }
+            boolean partWins = part.getSymbol().equals(canonical);
+            merged = mergeTwo(canonical, partWins ? part : merged, partWins ? merged : part);
+        }
+        return merged != null ? merged : new PriceSeries(canonical, 1);
+    }
+
+    private static PriceSeries mergeTwo(String canonical, PriceSeries preferred, PriceSeries other) {
+        PriceSeries result = new PriceSeries(canonical, preferred.size() + other.size());
+        int i = 0;
+        int j = 0;
+        while (i < preferred.size() || j < other.size()) {
+            boolean takePreferred = j == other.size() ||
+                (i < preferred.size() && preferred.getTradeDay(i) <= other.getTradeDay(j));
+            PriceSeries source = takePreferred ? preferred : other;
+            int row = takePreferred ? i : j;
+            if (takePreferred && j < other.size() && preferred.getTradeDay(i) == other.getTradeDay(j)) {
+                j++;
+            }
+            result.append(source.getTradeDate(row), source.getOpen(row), source.getHigh(row), source.getLow(row),
+                          source.getClose(row), source.getPrevClose(row), source.getVolume(row), source.getTurnover(row));
+            if (takePreferred) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package com.revature.stocks.services;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.revature.stocks.analytics.ReturnMatrix;
+import com.revature.stocks.analytics.risk.HistoricalSimulation;
+import com.revature.stocks.analytics.risk.MonteCarloSimulation;
+import com.revature.stocks.analytics.risk.RiskMeasures;
+import com.revature.stocks.dao.DailyPriceDAO;
+import com.revature.stocks.model.PriceSeries;
+import com.revature.stocks.model.PriceSeries.Projection;
+import com.revature.stocks.model.RiskReport;
+
+/**
+ * RiskService Class
+ * Business logic layer for portfolio Value at Risk and expected shortfall
+ */
+public class RiskService {
+
+    private static final Logger logger = Logger.getLogger(RiskService.class.getName());
+    public static final int DEFAULT_HORIZON_DAYS = 10;
+    public static final int DEFAULT_SCENARIOS = 20_000;
+    public static final long DEFAULT_SEED = 42L;
+
+    private DailyPriceDAO dailyPriceDAO;
+    private PriceAdjustmentService priceAdjustmentService;
+
+    public RiskService() {
+        this.dailyPriceDAO = new DailyPriceDAO();
+        this.priceAdjustmentService = new PriceAdjustmentService();
+    }
+
+    /**
+     * 1-day and 10-day VaR/ES with default scenario count and seed
+     */
+    public RiskReport calculatePortfolioRisk(Map<String, Double> quantities, Date fromDate, Date toDate,
+                                             double confidence) {
+        return calculatePortfolioRisk(quantities, fromDate, toDate, confidence,
+                                      DEFAULT_HORIZON_DAYS, DEFAULT_SCENARIOS, DEFAULT_SEED);
+    }
+
+    /**
+     * VaR and ES of a portfolio (symbol -> quantity) at one day and at the horizon.
+     * Returns are taken from adjusted prices between the dates; positions are valued at the
+     * last close in the window. The same aligned return matrix feeds both the historical
+     * simulation and the Monte Carlo covariance estimate.
+     */
+    public RiskReport calculatePortfolioRisk(Map<String, Double> quantities, Date fromDate, Date toDate,
+                                             double confidence, int horizonDays, int scenarios, long seed) {
+        try {
+            // Fold aliases into their canonical symbol
+            Map<String, Double> holdings = new LinkedHashMap<>();
+            for (Map.Entry<String, Double> entry : quantities.entrySet()) {
+                holdings.merge(priceAdjustmentService.resolveSymbol(entry.getKey().toUpperCase()),
+                               entry.getValue(), Double::sum);
+            }
+
+            // Load each canonical symbol's aliases too, so adjustAll can fold their history in
+            List<String> withAliases = new ArrayList<>();
+            for (String symbol : holdings.keySet()) {
+                withAliases.add(symbol);
+                withAliases.addAll(priceAdjustmentService.getAliases(symbol));
+            }
+            Map<String, PriceSeries> held = dailyPriceDAO.findSeriesForSymbols(withAliases, fromDate, toDate,
+                                                                               Projection.CLOSE);
+            ReturnMatrix returns = ReturnMatrix.align(priceAdjustmentService.adjustAll(held).values())
+                                               .select(new ArrayList<>(holdings.keySet()));
+
+            RiskReport report = new RiskReport();
+            report.setConfidence(confidence);
+            report.setHorizonDays(horizonDays);
+            report.setFromDate(fromDate);
+            report.setToDate(toDate);
+
+            List<String> unpriced = new ArrayList<>();
+            for (String symbol : holdings.keySet()) {
+                if (returns.indexOf(symbol) < 0) {
+                    unpriced.add(symbol);
+                }
+            }
+            report.setUnpricedSymbols(unpriced);
+
+            Map<String, Double> positionValues = new LinkedHashMap<>();
+            double[] values = new double[returns.symbolCount()];
+            double total = 0;
+            for (int s = 0; s < returns.symbolCount(); s++) {
+                values[s] = holdings.get(returns.getSymbol(s)) * returns.lastCloseOf(s);
+                positionValues.put(returns.getSymbol(s), values[s]);
+                total += values[s];
+            }
+            report.setPositionValues(positionValues);
+            report.setPortfolioValue(total);
+
+            if (returns.symbolCount() == 0) {
+                logger.warning("No price data for any portfolio symbol between " + fromDate + " and " + toDate);
+                return report;
+            }
+
+            long start = System.nanoTime();
+            HistoricalSimulation historical = new HistoricalSimulation(returns, values);
+            report.setHistoricalOneDay(historical.run(1, confidence));
+            report.setHistoricalHorizon(historical.run(horizonDays, confidence));
+
+            // Too few common trading days for a covariance estimate leaves the Monte Carlo fields empty
+            try {
+                RiskMeasures[] monteCarlo = new MonteCarloSimulation(returns, values)
+                        .run(scenarios, horizonDays, confidence, seed);
+                report.setMonteCarloOneDay(monteCarlo[0]);
+                report.setMonteCarloHorizon(monteCarlo[1]);
+            } catch (IllegalStateException e) {
+                logger.warning("Skipping Monte Carlo simulation: " + e.getMessage());
+            }
+
+            logger.info(String.format("Portfolio risk for %d symbols over %d days with %d scenarios in %.1f ms",
+                                      returns.symbolCount(), returns.dayCount(), scenarios,
+                                      (System.nanoTime() - start) / 1e6));
+            return report;
+
+        } catch (Exception e) {
+            logger.severe("Error calculating portfolio risk from " + fromDate + " to " + toDate + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.revature.stocks.services;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.logging.Logger;
+
+import com.revature.stocks.dao.SectorRollupDAO;
+import com.revature.stocks.dao.StockAnalyticsDAO;
+import com.revature.stocks.dao.StockDAO;
+import com.revature.stocks.model.SectorRollup;
+import com.revature.stocks.model.Stock;
+import com.revature.stocks.model.StockAnalytics;
+import com.revature.stocks.util.QueryConstants;
+
+/**
+ * SectorService Class
+ * Business logic layer for sector-level rollups. Reads are served from an in-memory view of
+ * sector_daily_rollups that is loaded once and patched whenever a range is refreshed.
+ */
+public class SectorService {
+
+    private static final Logger logger = Logger.getLogger(SectorService.class.getName());
+
+    // Shared by all service instances: sector -> trade date -> rollup
+    private static final Map<String, NavigableMap<Date, SectorRollup>> view = new ConcurrentHashMap<>();
+    private static volatile boolean viewLoaded;
+
+    private SectorRollupDAO sectorRollupDAO;
+    private StockDAO stockDAO;
+    private StockAnalyticsDAO analyticsDAO;
+
+    public SectorService() {
+        this.sectorRollupDAO = new SectorRollupDAO();
+        this.stockDAO = new StockDAO();
+        this.analyticsDAO = new StockAnalyticsDAO();
+    }
+
+    /**
+     * Rebuild the rollups of every sector for a date range
+     */
+    public int refreshSectorRollups(Date startDate, Date endDate) {
+        try {
+            int rowsAffected = sectorRollupDAO.refreshRollups(startDate, endDate);
+            if (rowsAffected >= 0) {
+                reloadRange(startDate, endDate, null);
+            }
+            return rowsAffected;
+
+        } catch (Exception e) {
+            logger.severe("Error refreshing sector rollups: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Rebuild only the rollups of the symbol's sector after its prices or analytics changed
+     */
+    public int refreshSectorRollupsForSymbol(String symbol, Date startDate, Date endDate) {
+        try {
+            Stock stock = stockDAO.findBySymbol(symbol);
+            if (stock == null) {
+                logger.warning("Cannot refresh sector rollups for unknown stock: " + symbol);
+                return -1;
+            }
+
+            String sector = sectorOf(stock);
+            int rowsAffected = sectorRollupDAO.refreshRollups(sector, startDate, endDate);
+            if (rowsAffected >= 0) {
+                reloadRange(startDate, endDate, sector);
+            }
+            return rowsAffected;
+
+        } catch (Exception e) {
+            logger.severe("Error refreshing sector rollups for " + symbol + ": " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Get the daily rollups of one sector within a date range, oldest first
+     */
+    public List<SectorRollup> getSectorRollups(String sector, Date startDate, Date endDate) {
+        try {
+            ensureViewLoaded();
+            NavigableMap<Date, SectorRollup> byDate = view.get(sector);
+            if (byDate == null) {
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(byDate.subMap(startDate, true, endDate, true).values());
+
+        } catch (Exception e) {
+            logger.severe("Error retrieving sector rollups for " + sector + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get the rollup of every sector on one trade date, by sector name
+     */
+    public List<SectorRollup> getSectorSnapshot(Date tradeDate) {
+        try {
+            ensureViewLoaded();
+            List<SectorRollup> snapshot = new ArrayList<>();
+            for (String sector : getSectors()) {
+                SectorRollup rollup = view.get(sector).get(tradeDate);
+                if (rollup != null) {
+                    snapshot.add(rollup);
+                }
+            }
+            return snapshot;
+
+        } catch (Exception e) {
+            logger.severe("Error retrieving sector snapshot for " + tradeDate + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Analytics of every stock in a sector within a date range, read in one query and keyed
+     * by symbol with each list newest first
+     */
+    public Map<String, List<StockAnalytics>> getSectorConstituentAnalytics(String sector, Date startDate, Date endDate) {
+        try {
+            List<String> symbols = new ArrayList<>();
+            for (Stock stock : stockDAO.findAllStocks()) {
+                if (sectorOf(stock).equals(sector)) {
+                    symbols.add(stock.getSymbol());
+                }
+            }
+            return analyticsDAO.findBySymbolsAndDateRange(symbols, startDate, endDate);
+
+        } catch (Exception e) {
+            logger.severe("Error retrieving constituent analytics for sector " + sector + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Latest trade date that has any sector rollup, or null if none exist
+     */
+    public Date getLatestRollupDate() {
+        ensureViewLoaded();
+        Date latest = null;
+        for (NavigableMap<Date, SectorRollup> byDate : view.values()) {
+            if (!byDate.isEmpty() && (latest == null || byDate.lastKey().after(latest))) {
+                latest = byDate.lastKey();
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Sectors present in the rollups, sorted by name
+     */
+    public List<String> getSectors() {
+        ensureViewLoaded();
+        List<String> sectors = new ArrayList<>(view.keySet());
+        sectors.sort(null);
+        return sectors;
+    }
+
+    /**
+     * Drop the in-memory view so the next read reloads it from the database
+     */
+    public static synchronized void invalidateView() {
+        view.clear();
+        viewLoaded = false;
+    }
+
+    private static String sectorOf(Stock stock) {
+        String sector = stock.getSector();
+        return sector == null || sector.trim().isEmpty() ? QueryConstants.UNCLASSIFIED_SECTOR : sector.trim();
+    }
+
+    private void ensureViewLoaded() {
+        if (viewLoaded) {
+            return;
+        }
+        synchronized (SectorService.class) {
+            if (viewLoaded) {
+                return;
+            }
+            for (SectorRollup rollup : sectorRollupDAO.findAll()) {
+                put(rollup);
+            }
+            viewLoaded = true;
+            logger.info("Loaded sector rollup view for " + view.size() + " sectors");
+        }
+    }
+
+    /**
+     * Replace the cached rows of a range (optionally one sector) with what the database now holds
+     */
+    private void reloadRange(Date startDate, Date endDate, String sector) {
+        if (!viewLoaded) {
+            return;
+        }
+        synchronized (SectorService.class) {
+            List<SectorRollup> fresh = sectorRollupDAO.findByDateRange(startDate, endDate);
+            for (Map.Entry<String, NavigableMap<Date, SectorRollup>> entry : view.entrySet()) {
+                if (sector == null || sector.equals(entry.getKey())) {
+                    entry.getValue().subMap(startDate, true, endDate, true).clear();
+                }
+            }
+            for (SectorRollup rollup : fresh) {
+                if (sector == null || sector.equals(rollup.getSector())) {
+                    put(rollup);
+                }
+            }
+        }
+    }
+
+    private static void put(SectorRollup rollup) {
+        view.computeIfAbsent(rollup.getSector(), key -> new ConcurrentSkipListMap<>())
+            .put(rollup.getTradeDate(), rollup);
+    }
+}
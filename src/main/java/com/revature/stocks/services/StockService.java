@@ -2,12 +2,27 @@ package com.revature.stocks.services;
 
 import java.math.BigDecimal;
 import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import com.revature.stocks.analytics.PricePyramid;
+import com.revature.stocks.analytics.PricePyramidCache;
+import com.revature.stocks.cache.CacheStats;
+import com.revature.stocks.cache.LatestPriceBoard;
+import com.revature.stocks.cache.PriceHistoryCache;
 import com.revature.stocks.dao.DailyPriceDAO;
+import com.revature.stocks.dao.DaoExecutor;
 import com.revature.stocks.dao.StockDAO;
 import com.revature.stocks.model.DailyPrice;
+import com.revature.stocks.model.PriceBar;
+import com.revature.stocks.model.PriceHistory;
+import com.revature.stocks.model.Resolution;
 import com.revature.stocks.model.Stock;
 
 /**
@@ -145,6 +160,13 @@ public class StockService {
         }
     }
     
+    /**
+     * Hit, miss and eviction counters of the stock lookup cache
+     */
+    public CacheStats getStockCacheStats() {
+        return stockDAO.getCacheStats();
+    }
+    
     /**
      * Get available stock symbols
      */
@@ -165,7 +187,10 @@ public class StockService {
      */
     public DailyPrice getLatestPrice(String symbol) {
         try {
-            DailyPrice latestPrice = dailyPriceDAO.getLatestPrice(symbol);
+            LatestPriceBoard board = LatestPriceBoard.getInstance();
+            DailyPrice latestPrice = loadLatestPriceBoard()
+                ? board.get(symbol)
+                : dailyPriceDAO.getLatestPrice(symbol);
             if (latestPrice != null) {
                 logger.info("Retrieved latest price for: " + symbol + " - " + latestPrice.getClosePrice());
             } else {
@@ -179,12 +204,38 @@ public class StockService {
         }
     }
     
+    /**
+     * Every symbol's latest price, sorted by symbol
+     */
+    public Map<String, DailyPrice> getAllLatestPrices() {
+        try {
+            if (!loadLatestPriceBoard()) {
+                return null;
+            }
+            return LatestPriceBoard.getInstance().getAll();
+            
+        } catch (Exception e) {
+            logger.severe("Error retrieving latest prices: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Load the latest price board in one query unless it is already loaded
+     * @return whether the board is available
+     */
+    public boolean loadLatestPriceBoard() {
+        return LatestPriceBoard.getInstance().ensureLoaded(dailyPriceDAO::findLatestPrices);
+    }
+    
     /**
      * Get price history for a stock
      */
     public List<DailyPrice> getPriceHistory(String symbol) {
         try {
-            List<DailyPrice> priceHistory = dailyPriceDAO.findBySymbol(symbol);
+            PriceHistory history = PriceHistoryCache.getInstance().get(symbol, this::loadPriceHistory);
+            List<DailyPrice> priceHistory = history != null ? history.toDailyPrices()
+                                                            : dailyPriceDAO.findBySymbol(symbol);
             logger.info("Retrieved " + priceHistory.size() + " price records for: " + symbol);
             return priceHistory;
             
@@ -194,12 +245,62 @@ public class StockService {
         }
     }
     
+    /**
+     * Get one page of daily price history, newest first: up to limit records before the given
+     * trade date, or the most recent records when it is null. Pass the last record's trade date
+     * to fetch the next page.
+     */
+    public List<DailyPrice> getPriceHistoryPage(String symbol, Date beforeDate, int limit) {
+        try {
+            List<DailyPrice> page = dailyPriceDAO.findPageBySymbol(symbol, beforeDate, limit);
+            logger.info("Retrieved " + page.size() + " price records for: " + symbol +
+                       (beforeDate != null ? " before " + beforeDate : ""));
+            return page;
+            
+        } catch (Exception e) {
+            logger.severe("Error retrieving price history page for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Get price history as OHLCV bars of the given resolution, newest first
+     */
+    public List<PriceBar> getPriceHistory(String symbol, Resolution resolution) {
+        return getPriceHistory(symbol, resolution, null, null);
+    }
+    
+    /**
+     * Get price history bars of the given resolution overlapping a date range, newest first;
+     * served from the cached price pyramid
+     */
+    public List<PriceBar> getPriceHistory(String symbol, Resolution resolution, Date startDate, Date endDate) {
+        try {
+            PricePyramid pyramid = PricePyramidCache.getInstance().get(symbol, this::buildPricePyramid);
+            if (pyramid == null) {
+                logger.warning("No price history found for: " + symbol);
+                return new ArrayList<>();
+            }
+            
+            List<PriceBar> bars = pyramid.getBars(resolution, startDate, endDate);
+            Collections.reverse(bars);
+            logger.info("Retrieved " + bars.size() + " " + resolution + " bars for: " + symbol);
+            return bars;
+            
+        } catch (Exception e) {
+            logger.severe("Error retrieving " + resolution + " price history for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
     /**
      * Get price history within date range
      */
     public List<DailyPrice> getPriceHistoryInRange(String symbol, Date startDate, Date endDate) {
         try {
-            List<DailyPrice> priceHistory = dailyPriceDAO.findBySymbolAndDateRange(symbol, startDate, endDate);
+            PriceHistory history = PriceHistoryCache.getInstance().get(symbol, this::loadPriceHistory);
+            List<DailyPrice> priceHistory = history != null ? history.toDailyPrices(startDate, endDate)
+                                                            : dailyPriceDAO.findBySymbolAndDateRange(symbol, startDate, endDate);
             logger.info("Retrieved " + priceHistory.size() + " price records for: " + symbol + 
                        " between " + startDate + " and " + endDate);
             return priceHistory;
@@ -210,6 +311,83 @@ public class StockService {
         }
     }
     
+    /**
+     * Get price history of several symbols within a date range, keyed by symbol with each list
+     * newest first; histories not already cached are read together in one query
+     */
+    public Map<String, List<DailyPrice>> getPriceHistoryInRange(Collection<String> symbols, Date startDate, Date endDate) {
+        try {
+            Map<String, List<DailyPrice>> histories = new LinkedHashMap<>();
+            List<String> uncached = new ArrayList<>();
+            for (String symbol : symbols) {
+                PriceHistory history = PriceHistoryCache.getInstance().getIfPresent(symbol);
+                if (history != null) {
+                    histories.put(symbol, history.toDailyPrices(startDate, endDate));
+                } else {
+                    uncached.add(symbol);
+                }
+            }
+            histories.putAll(dailyPriceDAO.findBySymbolsAndDateRange(uncached, startDate, endDate));
+            
+            logger.info("Retrieved price history for " + histories.size() + " symbols between " +
+                       startDate + " and " + endDate + " (" + uncached.size() + " read from the database)");
+            return histories;
+            
+        } catch (Exception e) {
+            logger.severe("Error retrieving price history in range for " + symbols + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Hit, miss and eviction counters of the price history cache
+     */
+    public CacheStats getPriceHistoryCacheStats() {
+        return PriceHistoryCache.getInstance().getStats();
+    }
+    
+    /**
+     * Helper method to load a symbol's compact price history; null when it has no prices or
+     * its values cannot be held compactly, so the caller reads the database directly
+     */
+    private PriceHistory loadPriceHistory(String symbol) {
+        List<DailyPrice> prices = readDailyPrices(symbol);
+        if (prices.isEmpty()) {
+            return null;
+        }
+        try {
+            return PriceHistory.fromDailyPrices(prices.get(0).getSymbol(), prices);
+        } catch (ArithmeticException e) {
+            logger.warning("Not caching price history for " + symbol + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Helper method to build a price pyramid from the stored daily prices; null when there are none
+     */
+    private PricePyramid buildPricePyramid(String symbol) {
+        List<DailyPrice> prices = readDailyPrices(symbol);
+        if (prices.isEmpty()) {
+            return null;
+        }
+        // Rows arrive newest first
+        Collections.reverse(prices);
+        return PricePyramid.build(symbol, prices);
+    }
+    
+    /**
+     * Helper method to read a symbol's daily prices (newest first) through a streaming cursor,
+     * so the driver does not buffer a second copy of the rows; empty on error
+     */
+    private List<DailyPrice> readDailyPrices(String symbol) {
+        List<DailyPrice> prices = new ArrayList<>();
+        if (dailyPriceDAO.forEachBySymbol(symbol, prices::add) < 0) {
+            prices.clear();
+        }
+        return prices;
+    }
+    
     /**
      * Get date range for stock data
      */
@@ -246,13 +424,18 @@ public class StockService {
      */
     public String getStockSummary(String symbol) {
         try {
-            Stock stock = getStockBySymbol(symbol);
+            // The three lookups are independent, so run them in parallel
+            CompletableFuture<Stock> stockQuery = stockDAO.findBySymbolAsync(symbol);
+            CompletableFuture<DailyPrice> latestPriceQuery = DaoExecutor.getInstance().submit(() -> getLatestPrice(symbol));
+            CompletableFuture<Date[]> dateRangeQuery = dailyPriceDAO.getDateRangeForSymbolAsync(symbol);
+            
+            Stock stock = stockQuery.join();
             if (stock == null) {
                 return "Stock not found: " + symbol;
             }
             
-            DailyPrice latestPrice = getLatestPrice(symbol);
-            Date[] dateRange = getDataDateRange(symbol);
+            DailyPrice latestPrice = latestPriceQuery.join();
+            Date[] dateRange = dateRangeQuery.join();
             
             StringBuilder summary = new StringBuilder();
             summary.append("=== STOCK SUMMARY ===\n");
@@ -1,5 +1,7 @@
 package com.revature.stocks.util;
 
+import java.util.Collections;
+
 /**
  * Query Constants Class
  * Contains all SQL queries used in the application
@@ -34,20 +36,82 @@ public class QueryConstants {
         "vwap = VALUES(vwap), volume = VALUES(volume), turnover = VALUES(turnover), trades = VALUES(trades), " +
         "deliverable_volume = VALUES(deliverable_volume), deliverable_percentage = VALUES(deliverable_percentage)";
     
+    // Columns read by DailyPriceDAO.mapResultSetToDailyPrice
+    private static final String DAILY_PRICE_COLUMNS = 
+        "id, symbol, trade_date, series, prev_close, open_price, high_price, low_price, last_price, " +
+        "close_price, vwap, volume, turnover, trades, deliverable_volume, deliverable_percentage, created_date";
+    
     public static final String SELECT_DAILY_PRICE_BY_SYMBOL_DATE = 
-        "SELECT * FROM daily_prices WHERE symbol = ? AND trade_date = ?";
+        "SELECT " + DAILY_PRICE_COLUMNS + " FROM daily_prices WHERE symbol = ? AND trade_date = ?";
     
     public static final String SELECT_DAILY_PRICES_BY_SYMBOL = 
-        "SELECT * FROM daily_prices WHERE symbol = ? ORDER BY trade_date DESC";
+        "SELECT " + DAILY_PRICE_COLUMNS + " FROM daily_prices WHERE symbol = ? ORDER BY trade_date DESC";
     
     public static final String SELECT_DAILY_PRICES_BY_DATE_RANGE = 
-        "SELECT * FROM daily_prices WHERE symbol = ? AND trade_date BETWEEN ? AND ? ORDER BY trade_date DESC";
+        "SELECT " + DAILY_PRICE_COLUMNS + " FROM daily_prices " +
+        "WHERE symbol = ? AND trade_date BETWEEN ? AND ? ORDER BY trade_date DESC";
+    
+    // Keyset pages, newest first: the first page, then pages strictly before the last date seen
+    public static final String SELECT_DAILY_PRICES_FIRST_PAGE = 
+        "SELECT " + DAILY_PRICE_COLUMNS + " FROM daily_prices WHERE symbol = ? ORDER BY trade_date DESC LIMIT ?";
+    
+    public static final String SELECT_DAILY_PRICES_PAGE_BEFORE = 
+        "SELECT " + DAILY_PRICE_COLUMNS + " FROM daily_prices " +
+        "WHERE symbol = ? AND trade_date < ? ORDER BY trade_date DESC LIMIT ?";
+    
+    // Multi-symbol fetches: %s stands for one placeholder per symbol, filled in by inList
+    public static final String SELECT_DAILY_PRICES_FOR_SYMBOLS_BY_DATE_RANGE = 
+        "SELECT " + DAILY_PRICE_COLUMNS + " FROM daily_prices " +
+        "WHERE symbol IN (%s) AND trade_date BETWEEN ? AND ? ORDER BY symbol, trade_date DESC";
     
     public static final String SELECT_ALL_DAILY_PRICES = 
-        "SELECT * FROM daily_prices ORDER BY trade_date DESC, symbol";
+        "SELECT " + DAILY_PRICE_COLUMNS + " FROM daily_prices ORDER BY trade_date DESC, symbol";
     
     public static final String SELECT_LATEST_PRICE_BY_SYMBOL = 
-        "SELECT * FROM daily_prices WHERE symbol = ? ORDER BY trade_date DESC LIMIT 1";
+        "SELECT " + DAILY_PRICE_COLUMNS + " FROM daily_prices WHERE symbol = ? ORDER BY trade_date DESC LIMIT 1";
+    
+    public static final String SELECT_LATEST_PRICES_FOR_ALL_SYMBOLS = 
+        "SELECT dp.id, dp.symbol, dp.trade_date, dp.series, dp.prev_close, dp.open_price, dp.high_price, " +
+        "dp.low_price, dp.last_price, dp.close_price, dp.vwap, dp.volume, dp.turnover, dp.trades, " +
+        "dp.deliverable_volume, dp.deliverable_percentage, dp.created_date FROM daily_prices dp " +
+        "JOIN (SELECT symbol, MAX(trade_date) AS trade_date FROM daily_prices GROUP BY symbol) latest " +
+        "ON dp.symbol = latest.symbol AND dp.trade_date = latest.trade_date";
+    
+    public static final String SELECT_PRICE_SERIES_BY_SYMBOL = 
+        "SELECT trade_date, open_price, high_price, low_price, close_price, prev_close, volume, turnover " +
+        "FROM daily_prices WHERE symbol = ? ORDER BY trade_date";
+    
+    public static final String SELECT_ALL_PRICE_SERIES_BY_DATE_RANGE = 
+        "SELECT symbol, trade_date, open_price, high_price, low_price, close_price, prev_close, volume, turnover " +
+        "FROM daily_prices WHERE trade_date BETWEEN ? AND ? ORDER BY symbol, trade_date";
+    
+    // Projected series: idx_daily_prices_ohlc covers these, so they never read the table rows
+    public static final String SELECT_CLOSE_SERIES_BY_SYMBOL = 
+        "SELECT trade_date, close_price FROM daily_prices WHERE symbol = ? ORDER BY trade_date";
+    
+    public static final String SELECT_OHLC_SERIES_BY_SYMBOL = 
+        "SELECT trade_date, open_price, high_price, low_price, close_price " +
+        "FROM daily_prices WHERE symbol = ? ORDER BY trade_date";
+    
+    public static final String SELECT_ALL_CLOSE_SERIES_BY_DATE_RANGE = 
+        "SELECT symbol, trade_date, close_price " +
+        "FROM daily_prices WHERE trade_date BETWEEN ? AND ? ORDER BY symbol, trade_date";
+    
+    public static final String SELECT_ALL_OHLC_SERIES_BY_DATE_RANGE = 
+        "SELECT symbol, trade_date, open_price, high_price, low_price, close_price " +
+        "FROM daily_prices WHERE trade_date BETWEEN ? AND ? ORDER BY symbol, trade_date";
+    
+    public static final String SELECT_PRICE_SERIES_FOR_SYMBOLS = 
+        "SELECT symbol, trade_date, open_price, high_price, low_price, close_price, prev_close, volume, turnover " +
+        "FROM daily_prices WHERE symbol IN (%s) AND trade_date BETWEEN ? AND ? ORDER BY symbol, trade_date";
+    
+    public static final String SELECT_CLOSE_SERIES_FOR_SYMBOLS = 
+        "SELECT symbol, trade_date, close_price " +
+        "FROM daily_prices WHERE symbol IN (%s) AND trade_date BETWEEN ? AND ? ORDER BY symbol, trade_date";
+    
+    public static final String SELECT_OHLC_SERIES_FOR_SYMBOLS = 
+        "SELECT symbol, trade_date, open_price, high_price, low_price, close_price " +
+        "FROM daily_prices WHERE symbol IN (%s) AND trade_date BETWEEN ? AND ? ORDER BY symbol, trade_date";
     
     // Analytics queries
     public static final String CALCULATE_DAILY_VOLATILITY = 
@@ -90,11 +154,80 @@ public class QueryConstants {
         "price_gap = VALUES(price_gap), moving_avg_7 = VALUES(moving_avg_7), moving_avg_30 = VALUES(moving_avg_30), " +
         "moving_avg_90 = VALUES(moving_avg_90), volume_trend = VALUES(volume_trend), turnover_ratio = VALUES(turnover_ratio)";
     
+    // Columns read by StockAnalyticsDAO.mapResultSetToAnalytics
+    private static final String STOCK_ANALYTICS_COLUMNS = 
+        "id, symbol, analysis_date, daily_volatility, daily_price_change, price_gap, moving_avg_7, " +
+        "moving_avg_30, moving_avg_90, volume_trend, turnover_ratio, created_date, updated_date";
+    
     public static final String SELECT_ANALYTICS_BY_SYMBOL = 
-        "SELECT * FROM stock_analytics WHERE symbol = ? ORDER BY analysis_date DESC";
+        "SELECT " + STOCK_ANALYTICS_COLUMNS + " FROM stock_analytics WHERE symbol = ? ORDER BY analysis_date DESC";
+    
+    public static final String SELECT_ANALYTICS_FIRST_PAGE = 
+        "SELECT " + STOCK_ANALYTICS_COLUMNS + " FROM stock_analytics " +
+        "WHERE symbol = ? ORDER BY analysis_date DESC LIMIT ?";
+    
+    public static final String SELECT_ANALYTICS_PAGE_BEFORE = 
+        "SELECT " + STOCK_ANALYTICS_COLUMNS + " FROM stock_analytics " +
+        "WHERE symbol = ? AND analysis_date < ? ORDER BY analysis_date DESC LIMIT ?";
     
     public static final String SELECT_ANALYTICS_BY_DATE_RANGE = 
-        "SELECT * FROM stock_analytics WHERE symbol = ? AND analysis_date BETWEEN ? AND ? ORDER BY analysis_date DESC";
+        "SELECT " + STOCK_ANALYTICS_COLUMNS + " FROM stock_analytics " +
+        "WHERE symbol = ? AND analysis_date BETWEEN ? AND ? ORDER BY analysis_date DESC";
+    
+    // Covered by idx_stock_analytics_ranking
+    public static final String SUM_ANALYTICS_BY_DATE_RANGE = 
+        "SELECT COUNT(*) as analysis_days, COALESCE(SUM(daily_volatility), 0) as total_volatility, " +
+        "COALESCE(SUM(daily_price_change), 0) as total_price_change " +
+        "FROM stock_analytics WHERE symbol = ? AND analysis_date BETWEEN ? AND ?";
+    
+    public static final String SELECT_ANALYTICS_FOR_SYMBOLS_BY_DATE_RANGE = 
+        "SELECT " + STOCK_ANALYTICS_COLUMNS + " FROM stock_analytics " +
+        "WHERE symbol IN (%s) AND analysis_date BETWEEN ? AND ? ORDER BY symbol, analysis_date DESC";
+    
+    // Covered by idx_stock_analytics_ranking
+    public static final String SELECT_ANALYTICS_FOR_RANKING = 
+        "SELECT symbol, analysis_date, daily_volatility, daily_price_change, volume_trend " +
+        "FROM stock_analytics ORDER BY symbol, analysis_date";
+    
+    // Technical indicator queries
+    public static final String INSERT_TECHNICAL_INDICATORS = 
+        "INSERT INTO technical_indicators (symbol, analysis_date, ema_12, ema_26, rsi_14, macd, macd_signal, " +
+        "macd_histogram, bollinger_upper, bollinger_middle, bollinger_lower, atr_14) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "ema_12 = VALUES(ema_12), ema_26 = VALUES(ema_26), rsi_14 = VALUES(rsi_14), macd = VALUES(macd), " +
+        "macd_signal = VALUES(macd_signal), macd_histogram = VALUES(macd_histogram), " +
+        "bollinger_upper = VALUES(bollinger_upper), bollinger_middle = VALUES(bollinger_middle), " +
+        "bollinger_lower = VALUES(bollinger_lower), atr_14 = VALUES(atr_14)";
+    
+    // Columns read by TechnicalIndicatorDAO.mapResultSetToIndicators
+    private static final String TECHNICAL_INDICATOR_COLUMNS = 
+        "id, symbol, analysis_date, ema_12, ema_26, rsi_14, macd, macd_signal, macd_histogram, " +
+        "bollinger_upper, bollinger_middle, bollinger_lower, atr_14, created_date, updated_date";
+    
+    public static final String SELECT_TECHNICAL_INDICATORS_BY_SYMBOL = 
+        "SELECT " + TECHNICAL_INDICATOR_COLUMNS + " FROM technical_indicators WHERE symbol = ? ORDER BY analysis_date DESC";
+    
+    public static final String SELECT_TECHNICAL_INDICATORS_BY_DATE_RANGE = 
+        "SELECT " + TECHNICAL_INDICATOR_COLUMNS + " FROM technical_indicators WHERE symbol = ? AND analysis_date BETWEEN ? AND ? ORDER BY analysis_date DESC";
+    
+    // Realized volatility queries
+    public static final String INSERT_REALIZED_VOLATILITY = 
+        "INSERT INTO realized_volatility (symbol, analysis_date, window_days, realized_volatility) " +
+        "VALUES (?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE realized_volatility = VALUES(realized_volatility)";
+    
+    // Columns read by RealizedVolatilityDAO.mapResultSetToRealizedVolatility
+    private static final String REALIZED_VOLATILITY_COLUMNS = 
+        "id, symbol, analysis_date, window_days, realized_volatility, created_date";
+    
+    public static final String SELECT_REALIZED_VOLATILITY_BY_SYMBOL = 
+        "SELECT " + REALIZED_VOLATILITY_COLUMNS + " FROM realized_volatility WHERE symbol = ? AND window_days = ? ORDER BY analysis_date DESC";
+    
+    public static final String RANK_STOCKS_BY_REALIZED_VOLATILITY = 
+        "SELECT symbol, AVG(realized_volatility) as avg_volatility, MAX(realized_volatility) as max_volatility " +
+        "FROM realized_volatility WHERE window_days = ? AND analysis_date >= ? " +
+        "GROUP BY symbol ORDER BY avg_volatility DESC";
     
     // Comparative analysis queries
     public static final String COMPARE_STOCK_PERFORMANCE = 
@@ -111,8 +244,149 @@ public class QueryConstants {
         "FROM stock_analytics WHERE analysis_date >= ? GROUP BY symbol ORDER BY avg_volatility DESC";
     
     public static final String GET_TOP_PERFORMERS = 
-        "SELECT symbol, AVG(daily_price_change) as avg_performance " +
-        "FROM stock_analytics WHERE analysis_date >= ? GROUP BY symbol ORDER BY avg_performance DESC LIMIT ?";
+        "SELECT symbol, AVG(daily_volatility) as avg_volatility, AVG(daily_price_change) as avg_price_change, " +
+        "AVG(volume_trend) as avg_volume_trend " +
+        "FROM stock_analytics WHERE analysis_date >= ? GROUP BY symbol ORDER BY avg_price_change DESC LIMIT ?";
+    
+    // Sector rollup queries
+    public static final String UNCLASSIFIED_SECTOR = "Unclassified";
+    
+    // Blank and whitespace-only sectors roll up with missing ones
+    private static final String ROLLUP_SECTOR_EXPR = 
+        "COALESCE(NULLIF(TRIM(s.sector), ''), '" + UNCLASSIFIED_SECTOR + "')";
+    
+    private static final String SECTOR_ROLLUP_SELECT = 
+        "INSERT INTO sector_daily_rollups (sector, trade_date, symbol_count, equal_weighted_return, " +
+        "cap_weighted_return, avg_volatility, total_volume, total_turnover) " +
+        "SELECT " + ROLLUP_SECTOR_EXPR + " AS rollup_sector, dp.trade_date, COUNT(*), " +
+        "AVG(CASE WHEN dp.prev_close > 0 THEN (dp.close_price - dp.prev_close) / dp.prev_close * 100 END), " +
+        "SUM(CASE WHEN dp.prev_close > 0 AND s.market_cap > 0 " +
+        "THEN (dp.close_price - dp.prev_close) / dp.prev_close * 100 * s.market_cap END) / " +
+        "NULLIF(SUM(CASE WHEN dp.prev_close > 0 AND s.market_cap > 0 THEN s.market_cap END), 0), " +
+        "AVG(sa.daily_volatility), SUM(dp.volume), SUM(dp.turnover) " +
+        "FROM daily_prices dp JOIN stocks s ON s.symbol = dp.symbol " +
+        "LEFT JOIN stock_analytics sa ON sa.symbol = dp.symbol AND sa.analysis_date = dp.trade_date " +
+        "WHERE dp.trade_date BETWEEN ? AND ? ";
+    
+    private static final String SECTOR_ROLLUP_UPSERT = 
+        "GROUP BY rollup_sector, dp.trade_date " +
+        "ON DUPLICATE KEY UPDATE " +
+        "symbol_count = VALUES(symbol_count), equal_weighted_return = VALUES(equal_weighted_return), " +
+        "cap_weighted_return = VALUES(cap_weighted_return), avg_volatility = VALUES(avg_volatility), " +
+        "total_volume = VALUES(total_volume), total_turnover = VALUES(total_turnover)";
+    
+    public static final String REFRESH_SECTOR_ROLLUPS = 
+        SECTOR_ROLLUP_SELECT + SECTOR_ROLLUP_UPSERT;
+    
+    public static final String REFRESH_SECTOR_ROLLUPS_FOR_SECTOR = 
+        SECTOR_ROLLUP_SELECT + "AND " + ROLLUP_SECTOR_EXPR + " = ? " + SECTOR_ROLLUP_UPSERT;
+    
+    // Columns read by SectorRollupDAO.mapResultSetToSectorRollup
+    private static final String SECTOR_ROLLUP_COLUMNS = 
+        "id, sector, trade_date, symbol_count, equal_weighted_return, cap_weighted_return, avg_volatility, " +
+        "total_volume, total_turnover, created_date, updated_date";
+    
+    public static final String SELECT_ALL_SECTOR_ROLLUPS = 
+        "SELECT " + SECTOR_ROLLUP_COLUMNS + " FROM sector_daily_rollups ORDER BY sector, trade_date";
+    
+    public static final String SELECT_SECTOR_ROLLUPS_BY_DATE_RANGE = 
+        "SELECT " + SECTOR_ROLLUP_COLUMNS + " FROM sector_daily_rollups WHERE trade_date BETWEEN ? AND ? ORDER BY sector, trade_date";
+    
+    // Corporate action and symbol alias queries
+    public static final String INSERT_CORPORATE_ACTION = 
+        "INSERT INTO corporate_actions (symbol, ex_date, action_type, price_factor, description) " +
+        "VALUES (?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE price_factor = VALUES(price_factor), description = VALUES(description)";
+    
+    // Columns read by CorporateActionDAO.mapResultSetToAction
+    private static final String CORPORATE_ACTION_COLUMNS = 
+        "id, symbol, ex_date, action_type, price_factor, description, created_date";
+    
+    public static final String SELECT_CORPORATE_ACTIONS_BY_SYMBOL = 
+        "SELECT " + CORPORATE_ACTION_COLUMNS + " FROM corporate_actions WHERE symbol = ? ORDER BY ex_date";
+    
+    public static final String DELETE_CORPORATE_ACTION = 
+        "DELETE FROM corporate_actions WHERE symbol = ? AND ex_date = ? AND action_type = ?";
+    
+    public static final String INSERT_SYMBOL_ALIAS = 
+        "INSERT INTO symbol_aliases (alias_symbol, canonical_symbol, description) VALUES (?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE canonical_symbol = VALUES(canonical_symbol), description = VALUES(description)";
+    
+    public static final String SELECT_ALL_SYMBOL_ALIASES = 
+        "SELECT alias_symbol, canonical_symbol, description, created_date FROM symbol_aliases ORDER BY canonical_symbol, alias_symbol";
+    
+    // Price anomaly queries
+    public static final String INSERT_PRICE_ANOMALY = 
+        "INSERT INTO price_anomalies (symbol, trade_date, anomaly_type, observed_value, baseline_value, z_score) " +
+        "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+        "observed_value = VALUES(observed_value), baseline_value = VALUES(baseline_value), z_score = VALUES(z_score)";
+    
+    public static final String DELETE_PRICE_ANOMALIES_BY_SYMBOL = 
+        "DELETE FROM price_anomalies WHERE symbol = ?";
+    
+    // Columns read by PriceAnomalyDAO.mapResultSetToPriceAnomaly
+    private static final String PRICE_ANOMALY_COLUMNS = 
+        "id, symbol, trade_date, anomaly_type, observed_value, baseline_value, z_score, created_date";
+    
+    public static final String SELECT_PRICE_ANOMALIES_BY_DATE_RANGE = 
+        "SELECT " + PRICE_ANOMALY_COLUMNS + " FROM price_anomalies WHERE trade_date BETWEEN ? AND ? " +
+        "ORDER BY trade_date DESC, ABS(z_score) DESC";
+    
+    public static final String SELECT_PRICE_ANOMALIES_BY_SYMBOL = 
+        "SELECT " + PRICE_ANOMALY_COLUMNS + " FROM price_anomalies WHERE symbol = ? ORDER BY trade_date DESC";
+    
+    // Percentile rank queries
+    public static final String SELECT_CROSS_SECTIONS_BY_DATE_RANGE = 
+        "SELECT dp.trade_date, dp.symbol, dp.close_price, dp.prev_close, dp.volume, sa.daily_volatility " +
+        "FROM daily_prices dp " +
+        "LEFT JOIN stock_analytics sa ON sa.symbol = dp.symbol AND sa.analysis_date = dp.trade_date " +
+        "WHERE dp.trade_date BETWEEN ? AND ? ORDER BY dp.trade_date, dp.symbol";
+    
+    public static final String INSERT_PERCENTILE_RANK = 
+        "INSERT INTO daily_percentile_ranks (symbol, trade_date, return_percentile, volume_percentile, volatility_percentile) " +
+        "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+        "return_percentile = VALUES(return_percentile), volume_percentile = VALUES(volume_percentile), " +
+        "volatility_percentile = VALUES(volatility_percentile)";
+    
+    // Columns read by PercentileRankDAO.mapResultSetToPercentileRank
+    private static final String PERCENTILE_RANK_COLUMNS = 
+        "id, symbol, trade_date, return_percentile, volume_percentile, volatility_percentile, updated_date";
+    
+    public static final String SELECT_PERCENTILE_RANKS_BY_DATE = 
+        "SELECT " + PERCENTILE_RANK_COLUMNS + " FROM daily_percentile_ranks WHERE trade_date = ? ORDER BY return_percentile DESC, symbol";
+    
+    public static final String SELECT_PERCENTILE_RANKS_BY_SYMBOL_AND_DATE_RANGE = 
+        "SELECT " + PERCENTILE_RANK_COLUMNS + " FROM daily_percentile_ranks WHERE symbol = ? AND trade_date BETWEEN ? AND ? ORDER BY trade_date DESC";
+    
+    public static final String GET_LATEST_PERCENTILE_RANK_DATE = 
+        "SELECT MAX(trade_date) as latest_date FROM daily_percentile_ranks";
+    
+    // Earliest ranked date whose volatility rank predates the stock_analytics row it needs
+    public static final String GET_EARLIEST_STALE_PERCENTILE_RANK_DATE = 
+        "SELECT MIN(r.trade_date) as stale_date FROM daily_percentile_ranks r " +
+        "JOIN stock_analytics sa ON sa.symbol = r.symbol AND sa.analysis_date = r.trade_date " +
+        "WHERE r.volatility_percentile IS NULL AND sa.daily_volatility IS NOT NULL";
+    
+    // Return series queries
+    public static final String INSERT_RETURN_POINT = 
+        "INSERT INTO return_series (symbol, trade_date, close_price, running_max, drawdown, cumulative_return, " +
+        "return_1y, return_3y, return_5y) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " +
+        "close_price = VALUES(close_price), running_max = VALUES(running_max), drawdown = VALUES(drawdown), " +
+        "cumulative_return = VALUES(cumulative_return), return_1y = VALUES(return_1y), " +
+        "return_3y = VALUES(return_3y), return_5y = VALUES(return_5y)";
+    
+    // Columns read by ReturnSeriesDAO.mapResultSetToReturnPoint
+    private static final String RETURN_POINT_COLUMNS = 
+        "symbol, trade_date, close_price, running_max, drawdown, cumulative_return, return_1y, return_3y, return_5y";
+    
+    public static final String SELECT_RETURN_SERIES_BY_SYMBOL = 
+        "SELECT " + RETURN_POINT_COLUMNS + " FROM return_series WHERE symbol = ? ORDER BY trade_date";
+    
+    public static final String SELECT_LATEST_RETURN_POINT_BY_SYMBOL = 
+        "SELECT " + RETURN_POINT_COLUMNS + " FROM return_series WHERE symbol = ? ORDER BY trade_date DESC LIMIT 1";
+    
+    public static final String DELETE_RETURN_SERIES_BY_SYMBOL = 
+        "DELETE FROM return_series WHERE symbol = ?";
     
     // Volume analysis queries
     public static final String ANALYZE_VOLUME_PATTERNS = 
@@ -131,13 +405,37 @@ public class QueryConstants {
         "SELECT MIN(trade_date) as start_date, MAX(trade_date) as end_date " +
         "FROM daily_prices WHERE symbol = ?";
     
+    public static final String GET_TRADE_DATE_RANGE = 
+        "SELECT MIN(trade_date) as start_date, MAX(trade_date) as end_date FROM daily_prices";
+    
     public static final String GET_AVAILABLE_SYMBOLS = 
         "SELECT DISTINCT symbol FROM daily_prices ORDER BY symbol";
     
+    // Cache snapshot validation: row counts and high-water marks of the cached tables
+    // Index lookups only on the large tables; the row counts are of the small stocks and alias tables
+    public static final String SELECT_DATA_FINGERPRINT = 
+        "SELECT (SELECT COUNT(*) FROM stocks) as stock_count, " +
+        "(SELECT MAX(updated_date) FROM stocks) as stocks_updated, " +
+        "(SELECT MAX(id) FROM daily_prices) as max_price_id, " +
+        "(SELECT MAX(trade_date) FROM daily_prices) as latest_trade_date, " +
+        "(SELECT MAX(updated_date) FROM daily_prices) as prices_updated, " +
+        "(SELECT MAX(id) FROM stock_analytics) as max_analytics_id, " +
+        "(SELECT MIN(analysis_date) FROM stock_analytics) as earliest_analysis_date, " +
+        "(SELECT MAX(updated_date) FROM stock_analytics) as analytics_updated, " +
+        "(SELECT COUNT(*) FROM symbol_aliases) as alias_count, " +
+        "(SELECT MAX(created_date) FROM symbol_aliases) as aliases_created";
+    
     // Cleanup queries
     public static final String DELETE_OLD_ANALYTICS = 
         "DELETE FROM stock_analytics WHERE analysis_date < ?";
     
     public static final String COUNT_RECORDS_BY_SYMBOL = 
         "SELECT symbol, COUNT(*) as record_count FROM daily_prices GROUP BY symbol ORDER BY record_count DESC";
-}
\ No newline at end of file
+    
+    /**
+     * Expand the %s of a multi-symbol query into count comma-separated placeholders
+     */
+    public static String inList(String query, int count) {
+        return String.format(query, String.join(", ", Collections.nCopies(count, "?")));
+    }
+}
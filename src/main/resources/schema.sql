@@ -5,6 +5,14 @@ CREATE DATABASE IF NOT EXISTS revstox_db;
 USE revstox_db;
 
 -- Drop tables if they exist (for clean setup)
+DROP TABLE IF EXISTS return_series;
+DROP TABLE IF EXISTS daily_percentile_ranks;
+DROP TABLE IF EXISTS price_anomalies;
+DROP TABLE IF EXISTS symbol_aliases;
+DROP TABLE IF EXISTS corporate_actions;
+DROP TABLE IF EXISTS sector_daily_rollups;
+DROP TABLE IF EXISTS realized_volatility;
+DROP TABLE IF EXISTS technical_indicators;
 DROP TABLE IF EXISTS stock_analytics;
 DROP TABLE IF EXISTS daily_prices;
 DROP TABLE IF EXISTS stocks;
@@ -40,6 +48,7 @@ CREATE TABLE daily_prices (
     deliverable_volume BIGINT,
     deliverable_percentage DECIMAL(5, 4),
     created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (symbol) REFERENCES stocks(symbol) ON DELETE CASCADE,
     UNIQUE KEY unique_symbol_date (symbol, trade_date),
     INDEX idx_symbol_date (symbol, trade_date),
@@ -69,11 +78,138 @@ CREATE TABLE stock_analytics (
     INDEX idx_volatility (daily_volatility)
 );
 
+-- Create technical_indicators table
+CREATE TABLE technical_indicators (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    symbol VARCHAR(50) NOT NULL,
+    analysis_date DATE NOT NULL,
+    ema_12 DECIMAL(12, 4),
+    ema_26 DECIMAL(12, 4),
+    rsi_14 DECIMAL(8, 4),
+    macd DECIMAL(12, 4),
+    macd_signal DECIMAL(12, 4),
+    macd_histogram DECIMAL(12, 4),
+    bollinger_upper DECIMAL(12, 4),
+    bollinger_middle DECIMAL(12, 4),
+    bollinger_lower DECIMAL(12, 4),
+    atr_14 DECIMAL(12, 4),
+    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (symbol) REFERENCES stocks(symbol) ON DELETE CASCADE,
+    UNIQUE KEY unique_symbol_indicator_date (symbol, analysis_date)
+);
+
+-- Create realized_volatility table (annualized N-day volatility of log returns, in percent)
+CREATE TABLE realized_volatility (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    symbol VARCHAR(50) NOT NULL,
+    analysis_date DATE NOT NULL,
+    window_days INT NOT NULL,
+    realized_volatility DECIMAL(10, 4),
+    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (symbol) REFERENCES stocks(symbol) ON DELETE CASCADE,
+    UNIQUE KEY unique_symbol_date_window (symbol, analysis_date, window_days),
+    INDEX idx_window_date (window_days, analysis_date)
+);
+
+-- Create sector_daily_rollups table (materialized from daily_prices, stocks and stock_analytics)
+CREATE TABLE sector_daily_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sector VARCHAR(100) NOT NULL,
+    trade_date DATE NOT NULL,
+    symbol_count INT NOT NULL,
+    equal_weighted_return DECIMAL(12, 6),
+    cap_weighted_return DECIMAL(12, 6),
+    avg_volatility DECIMAL(8, 4),
+    total_volume BIGINT,
+    total_turnover DECIMAL(24, 2),
+    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY unique_sector_date (sector, trade_date),
+    INDEX idx_rollup_trade_date (trade_date)
+);
+
+-- Create corporate_actions table (price_factor multiplies every price before ex_date)
+CREATE TABLE corporate_actions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    symbol VARCHAR(50) NOT NULL,
+    ex_date DATE NOT NULL,
+    action_type VARCHAR(20) NOT NULL,
+    price_factor DECIMAL(12, 8) NOT NULL,
+    description VARCHAR(200),
+    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (symbol) REFERENCES stocks(symbol) ON DELETE CASCADE,
+    UNIQUE KEY unique_symbol_ex_date_type (symbol, ex_date, action_type)
+);
+
+-- Create symbol_aliases table (old or alternate symbols folded into a canonical symbol)
+CREATE TABLE symbol_aliases (
+    alias_symbol VARCHAR(50) PRIMARY KEY,
+    canonical_symbol VARCHAR(50) NOT NULL,
+    description VARCHAR(200),
+    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (canonical_symbol) REFERENCES stocks(symbol) ON DELETE CASCADE,
+    INDEX idx_canonical_symbol (canonical_symbol)
+);
+
+-- Create price_anomalies table (days flagged by the streaming anomaly detector)
+CREATE TABLE price_anomalies (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    symbol VARCHAR(50) NOT NULL,
+    trade_date DATE NOT NULL,
+    anomaly_type VARCHAR(20) NOT NULL,
+    observed_value DECIMAL(20, 6),
+    baseline_value DECIMAL(20, 6),
+    z_score DECIMAL(10, 4),
+    created_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (symbol) REFERENCES stocks(symbol) ON DELETE CASCADE,
+    UNIQUE KEY unique_symbol_date_type (symbol, trade_date, anomaly_type),
+    INDEX idx_anomaly_trade_date (trade_date)
+);
+
+-- Create daily_percentile_ranks table (PERCENT_RANK of each symbol among all symbols per trade date)
+CREATE TABLE daily_percentile_ranks (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    symbol VARCHAR(50) NOT NULL,
+    trade_date DATE NOT NULL,
+    return_percentile DECIMAL(7, 6),
+    volume_percentile DECIMAL(7, 6),
+    volatility_percentile DECIMAL(7, 6),
+    updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (symbol) REFERENCES stocks(symbol) ON DELETE CASCADE,
+    UNIQUE KEY unique_symbol_trade_date (symbol, trade_date),
+    INDEX idx_percentile_trade_date (trade_date)
+);
+
+-- Create return_series table (drawdown, cumulative and trailing returns in percent, per symbol and date)
+CREATE TABLE return_series (
+    symbol VARCHAR(50) NOT NULL,
+    trade_date DATE NOT NULL,
+    close_price DECIMAL(14, 4),
+    running_max DECIMAL(14, 4),
+    drawdown DECIMAL(10, 4),
+    cumulative_return DECIMAL(14, 4),
+    return_1y DECIMAL(12, 4),
+    return_3y DECIMAL(12, 4),
+    return_5y DECIMAL(12, 4),
+    updated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (symbol, trade_date),
+    FOREIGN KEY (symbol) REFERENCES stocks(symbol) ON DELETE CASCADE
+);
+
 -- Create indexes for better performance
 CREATE INDEX idx_daily_prices_close ON daily_prices(close_price);
 CREATE INDEX idx_daily_prices_volume ON daily_prices(volume);
 CREATE INDEX idx_stock_analytics_volatility ON stock_analytics(daily_volatility);
 
+-- Covering indexes: close/OHLC series loads and the ranking index load read only index pages
+CREATE INDEX idx_daily_prices_ohlc ON daily_prices(symbol, trade_date, open_price, high_price, low_price, close_price);
+CREATE INDEX idx_stock_analytics_ranking ON stock_analytics(symbol, analysis_date, daily_volatility, daily_price_change, volume_trend);
+
+-- Let the cache snapshot fingerprint read the latest price and analytics updates without a table scan
+CREATE INDEX idx_daily_prices_updated ON daily_prices(updated_date);
+CREATE INDEX idx_stock_analytics_updated ON stock_analytics(updated_date);
+
 -- Insert sample stock data
 INSERT INTO stocks (symbol, company_name, sector, market_cap) VALUES
 ('RELIANCE', 'Reliance Industries Limited', 'Oil & Gas', 1500000.00),
@@ -131,4 +267,11 @@ ON DUPLICATE KEY UPDATE
     sector = VALUES(sector),
     market_cap = VALUES(market_cap);
 
+-- MUNDRAPORT was renamed to ADANIPORTS; treat both histories as one company
+INSERT INTO symbol_aliases (alias_symbol, canonical_symbol, description) VALUES
+('MUNDRAPORT', 'ADANIPORTS', 'Renamed to Adani Ports and Special Economic Zone')
+ON DUPLICATE KEY UPDATE
+    canonical_symbol = VALUES(canonical_symbol),
+    description = VALUES(description);
+
 COMMIT;
\ No newline at end of file
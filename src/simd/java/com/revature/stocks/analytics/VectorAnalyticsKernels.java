@@ -0,0 +1,96 @@
+package com.revature.stocks.analytics;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorAnalyticsKernels Class
+ * jdk.incubator.vector implementation of the bulk analytics kernels.
+ * Only compiled with the "simd" Maven profile; loaded reflectively by KernelLoader.
+ */
+public class VectorAnalyticsKernels implements AnalyticsKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void dailyVolatility(double[] high, double[] low, double[] open, double[] out, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector h = DoubleVector.fromArray(SPECIES, high, i);
+            DoubleVector l = DoubleVector.fromArray(SPECIES, low, i);
+            DoubleVector o = DoubleVector.fromArray(SPECIES, open, i);
+            VectorMask<Double> positive = o.compare(VectorOperators.GT, 0.0);
+            h.sub(l).div(o).mul(100.0)
+             .blend(0.0, positive.not())
+             .intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = open[i] > 0 ? (high[i] - low[i]) / open[i] * 100.0 : 0.0;
+        }
+    }
+
+    @Override
+    public void dailyPriceChange(double[] close, double[] open, double[] out, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector c = DoubleVector.fromArray(SPECIES, close, i);
+            DoubleVector o = DoubleVector.fromArray(SPECIES, open, i);
+            VectorMask<Double> positive = o.compare(VectorOperators.GT, 0.0);
+            c.sub(o).div(o).mul(100.0)
+             .blend(0.0, positive.not())
+             .intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = open[i] > 0 ? (close[i] - open[i]) / open[i] * 100.0 : 0.0;
+        }
+    }
+
+    @Override
+    public void turnoverRatio(double[] turnover, double[] volume, double[] out, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector t = DoubleVector.fromArray(SPECIES, turnover, i);
+            DoubleVector v = DoubleVector.fromArray(SPECIES, volume, i);
+            VectorMask<Double> positive = v.compare(VectorOperators.GT, 0.0);
+            t.div(v)
+             .blend(Double.NaN, positive.not())
+             .intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = volume[i] > 0 ? turnover[i] / volume[i] : Double.NaN;
+        }
+    }
+
+    @Override
+    public void rollingSum(double[] values, int window, double[] out, int length) {
+        // The running sum is inherently sequential; the per-day window deltas are not.
+        // Vectorize out[i] = values[i] - values[i - window], then scan in place.
+        int head = Math.min(window, length);
+        System.arraycopy(values, 0, out, 0, head);
+
+        int i = head;
+        int bound = head + SPECIES.loopBound(length - head);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector entering = DoubleVector.fromArray(SPECIES, values, i);
+            DoubleVector leaving = DoubleVector.fromArray(SPECIES, values, i - window);
+            entering.sub(leaving).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = values[i] - values[i - window];
+        }
+
+        for (int k = 1; k < length; k++) {
+            out[k] += out[k - 1];
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.length() + "x64";
+    }
+}